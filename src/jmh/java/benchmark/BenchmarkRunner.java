@@ -0,0 +1,25 @@
+package benchmark;
+
+import org.openjdk.jmh.profile.GCProfiler;
+import org.openjdk.jmh.runner.Runner;
+import org.openjdk.jmh.runner.RunnerException;
+import org.openjdk.jmh.runner.options.CommandLineOptionException;
+import org.openjdk.jmh.runner.options.CommandLineOptions;
+import org.openjdk.jmh.runner.options.OptionsBuilder;
+
+/***
+ * Runs the benchmarks with the GC profiler, so that the allocation rate (gc.alloc.rate.norm : bytes allocated
+ * by operation) is reported with the times. The arguments are the ones of JMH (e.g. a regexp of the
+ * benchmarks to run, -p corpus=CORONENE).
+ * Usage : mvn -P benchmark compile exec:exec [-Dbenchmark=KekuleBenchmark]
+ */
+public enum BenchmarkRunner {
+	;
+
+	public static void main(String[] args) throws CommandLineOptionException, RunnerException {
+		new Runner(new OptionsBuilder()
+				.parent(new CommandLineOptions(args))
+				.addProfiler(GCProfiler.class)
+				.build()).run();
+	}
+}
@@ -0,0 +1,88 @@
+package benchmark;
+
+import benzenoid.Benzenoid;
+import generator.CanonicalAugmentationGenerator;
+
+/***
+ * Fixed corpus of benzenoids (3 to 61 hexagons) used by the benchmarks. The hexagons are given by their (x, y)
+ * coordinates in the coronenoid grid (see HexNeighborhood : RIGHT is (1, 0), DOWNRIGHT (1, 1), DOWNLEFT (0, 1)).
+ */
+public enum BenzenoidCorpus {
+
+	ANTHRACENE(acene(3)),
+	ACENE_10(acene(10)),
+	ACENE_30(acene(30)),
+	ZIGZAG_10(zigzag(10)),
+	ZIGZAG_20(zigzag(20)),
+	CORONENE(coronenoid(2)),
+	CIRCUMCORONENE(coronenoid(3)),
+	IRREGULAR_8(new int[][] { {1, 0}, {1, 1}, {1, 2}, {0, 3}, {1, 3}, {2, 3}, {3, 3}, {3, 4} }),
+	IRREGULAR_15(new int[][] { {0, 0}, {0, 1}, {1, 1}, {2, 1}, {1, 2}, {2, 2}, {3, 2}, {2, 3},
+			{3, 3}, {4, 3}, {1, 4}, {2, 4}, {3, 4}, {4, 4}, {3, 5} }),
+	PARALLELOGRAM_5_6(parallelogram(5, 6)),
+	ACENE_60(acene(60)),
+	PARALLELOGRAM_7_8(parallelogram(7, 8)),
+	CORONENOID_5(coronenoid(5));
+
+	private final int[] xs;
+	private final int[] ys;
+
+	BenzenoidCorpus(int[][] hexagons) {
+		xs = new int[hexagons.length];
+		ys = new int[hexagons.length];
+		for (int i = 0; i < hexagons.length; i++) {
+			xs[i] = hexagons[i][0];
+			ys[i] = hexagons[i][1];
+		}
+	}
+
+	/***
+	 * @return a new molecule (nothing computed on it yet)
+	 */
+	public Benzenoid build() {
+		return CanonicalAugmentationGenerator.buildBenzenoid(xs, ys, 0);
+	}
+
+	public int getNbHexagons() {
+		return xs.length;
+	}
+
+	/*
+	 * Linear chain
+	 */
+	private static int[][] acene(int nbHexagons) {
+		int[][] hexagons = new int[nbHexagons][];
+		for (int i = 0; i < nbHexagons; i++)
+			hexagons[i] = new int[] { i, 0 };
+		return hexagons;
+	}
+
+	/*
+	 * Catacondensed chain turning by 60 degrees at each hexagon (fibonacene)
+	 */
+	private static int[][] zigzag(int nbHexagons) {
+		int[][] hexagons = new int[nbHexagons][];
+		for (int i = 0; i < nbHexagons; i++)
+			hexagons[i] = new int[] { i, i / 2 };
+		return hexagons;
+	}
+
+	private static int[][] coronenoid(int nbCrowns) {
+		int nbHexagons = 3 * nbCrowns * (nbCrowns - 1) + 1;
+		int[][] hexagons = new int[nbHexagons][];
+		int index = 0;
+		for (int y = 1 - nbCrowns; y < nbCrowns; y++)
+			for (int x = 1 - nbCrowns; x < nbCrowns; x++)
+				if (Math.abs(x - y) < nbCrowns)
+					hexagons[index++] = new int[] { x, y };
+		return hexagons;
+	}
+
+	private static int[][] parallelogram(int width, int height) {
+		int[][] hexagons = new int[width * height][];
+		for (int y = 0; y < height; y++)
+			for (int x = 0; x < width; x++)
+				hexagons[y * width + x] = new int[] { x, y };
+		return hexagons;
+	}
+}
@@ -0,0 +1,71 @@
+package benchmark;
+
+import generator.GeneralModel;
+import generator.SolverResults;
+import generator.properties.model.ModelPropertySet;
+import generator.properties.model.expression.BinaryNumericalExpression;
+import org.openjdk.jmh.annotations.Benchmark;
+import org.openjdk.jmh.annotations.BenchmarkMode;
+import org.openjdk.jmh.annotations.Fork;
+import org.openjdk.jmh.annotations.Level;
+import org.openjdk.jmh.annotations.Measurement;
+import org.openjdk.jmh.annotations.Mode;
+import org.openjdk.jmh.annotations.OutputTimeUnit;
+import org.openjdk.jmh.annotations.Param;
+import org.openjdk.jmh.annotations.Scope;
+import org.openjdk.jmh.annotations.Setup;
+import org.openjdk.jmh.annotations.State;
+import org.openjdk.jmh.annotations.Warmup;
+
+import java.util.concurrent.TimeUnit;
+
+/***
+ * GeneralModel.solve() for representative sets of properties. A generation lasts from tens of milliseconds to
+ * seconds, so each one is measured once (the building of the model is not measured).
+ */
+@State(Scope.Thread)
+@BenchmarkMode(Mode.SingleShotTime)
+@OutputTimeUnit(TimeUnit.MILLISECONDS)
+@Warmup(iterations = 2)
+@Measurement(iterations = 5)
+@Fork(1)
+public class GenerationBenchmark {
+
+	public enum Properties {
+
+		HEXAGONS_5("hexagons", "=", 5),
+		HEXAGONS_6("hexagons", "=", 6),
+		HEXAGONS_AT_MOST_5("hexagons", "<=", 5),
+		HEXAGONS_6_KEKULE_AT_LEAST_9("hexagons", "=", 6, "kekule", ">=", 9);
+
+		private final Object[] expressions;
+
+		Properties(Object... expressions) {
+			this.expressions = expressions;
+		}
+
+		ModelPropertySet build() {
+			ModelPropertySet modelPropertySet = new ModelPropertySet();
+			for (int i = 0; i < expressions.length; i += 3)
+				modelPropertySet.getById((String) expressions[i]).addExpression(new BinaryNumericalExpression(
+						(String) expressions[i], (String) expressions[i + 1], (Integer) expressions[i + 2]));
+			return modelPropertySet;
+		}
+	}
+
+	@Param
+	public Properties properties;
+
+	private GeneralModel model;
+
+	@Setup(Level.Invocation)
+	public void buildModel() {
+		model = new GeneralModel(properties.build());
+		model.setInTestMode(true);
+	}
+
+	@Benchmark
+	public SolverResults solve() {
+		return model.solve();
+	}
+}
@@ -0,0 +1,67 @@
+package benchmark;
+
+import benzenoid.Benzenoid;
+import benzenoid.CarbonGraph;
+import benzenoid.SubGraph;
+import org.openjdk.jmh.annotations.Benchmark;
+import org.openjdk.jmh.annotations.BenchmarkMode;
+import org.openjdk.jmh.annotations.Fork;
+import org.openjdk.jmh.annotations.Measurement;
+import org.openjdk.jmh.annotations.Mode;
+import org.openjdk.jmh.annotations.OutputTimeUnit;
+import org.openjdk.jmh.annotations.Param;
+import org.openjdk.jmh.annotations.Scope;
+import org.openjdk.jmh.annotations.Setup;
+import org.openjdk.jmh.annotations.State;
+import org.openjdk.jmh.annotations.Warmup;
+import solveur.KekuleStructuresCounter;
+import solveur.LinAlgorithm.PerfectMatchingType;
+
+import java.math.BigInteger;
+import java.util.concurrent.TimeUnit;
+
+/***
+ * Number of Kekule structures of the benzenoids of the corpus, computed as Benzenoid.getNbKekuleStructures()
+ * does (KekuleStructuresCounter), without the cache of the molecule, compared to the exact and Jama
+ * determinants of the Rispoli matrix
+ */
+@State(Scope.Thread)
+@BenchmarkMode(Mode.AverageTime)
+@OutputTimeUnit(TimeUnit.MICROSECONDS)
+@Warmup(iterations = 3, time = 1)
+@Measurement(iterations = 5, time = 1)
+@Fork(1)
+public class KekuleBenchmark {
+
+	@Param
+	public BenzenoidCorpus corpus;
+
+	private Benzenoid molecule;
+	private CarbonGraph graph;
+
+	@Setup
+	public void buildMolecule() {
+		molecule = corpus.build();
+		graph = molecule.getGraph();
+	}
+
+	@Benchmark
+	public BigInteger counter() {
+		return KekuleStructuresCounter.count(molecule);
+	}
+
+	@Benchmark
+	public BigInteger exact() {
+		SubGraph subGraph = new SubGraph(graph, new int[graph.getNbCarbons()], PerfectMatchingType.EXACT);
+		return subGraph.getExactNbPerfectMatchings();
+	}
+
+	@Benchmark
+	public double subGraph() {
+		/*
+		 * The SubGraph removes the leaves by modifying its disabled vertices
+		 */
+		SubGraph subGraph = new SubGraph(graph, new int[graph.getNbCarbons()], PerfectMatchingType.DET);
+		return subGraph.getNbPerfectMatchings();
+	}
+}
@@ -0,0 +1,95 @@
+package benchmark;
+
+import benzenoid.Benzenoid;
+import benzenoid.CanonicalForm;
+import benzenoid.RBO;
+import org.openjdk.jmh.annotations.Benchmark;
+import org.openjdk.jmh.annotations.BenchmarkMode;
+import org.openjdk.jmh.annotations.Fork;
+import org.openjdk.jmh.annotations.Level;
+import org.openjdk.jmh.annotations.Measurement;
+import org.openjdk.jmh.annotations.Mode;
+import org.openjdk.jmh.annotations.OutputTimeUnit;
+import org.openjdk.jmh.annotations.Param;
+import org.openjdk.jmh.annotations.Scope;
+import org.openjdk.jmh.annotations.Setup;
+import org.openjdk.jmh.annotations.State;
+import org.openjdk.jmh.annotations.Warmup;
+import solution.ClarCoverSolution;
+import solveur.Aromaticity;
+import solveur.ClarCoverEnumerator;
+import solveur.ClarCoverSolver;
+import solveur.ConjugatedCircuitsEnumerator;
+import solveur.LinAlgorithm;
+import solveur.LinAlgorithm.PerfectMatchingType;
+import solveur.LinFanAlgorithm;
+import solveur.RBOSolver;
+
+import java.io.IOException;
+import java.util.ArrayList;
+import java.util.concurrent.TimeUnit;
+
+/***
+ * Computations done on a single benzenoid of the corpus. The results are cached by the molecule, so each
+ * invocation works on a newly built molecule (the building is not measured).
+ */
+@State(Scope.Thread)
+@BenchmarkMode(Mode.AverageTime)
+@OutputTimeUnit(TimeUnit.MILLISECONDS)
+@Warmup(iterations = 3, time = 2)
+@Measurement(iterations = 5, time = 2)
+@Fork(1)
+public class MoleculeBenchmark {
+
+	@Param
+	public BenzenoidCorpus corpus;
+
+	private Benzenoid molecule;
+
+	@Setup(Level.Invocation)
+	public void buildMolecule() {
+		molecule = corpus.build();
+	}
+
+	@Benchmark
+	public Aromaticity lin() throws IOException {
+		return LinAlgorithm.solve(molecule, PerfectMatchingType.DET);
+	}
+
+	@Benchmark
+	public int conjugatedCircuits() {
+		int[] nbCircuits = new int[1];
+		ConjugatedCircuitsEnumerator.enumerate(molecule, 26, circuit -> nbCircuits[0]++);
+		return nbCircuits[0];
+	}
+
+	@Benchmark
+	public Aromaticity linFan() throws IOException {
+		return LinFanAlgorithm.computeEnergy(molecule);
+	}
+
+	@Benchmark
+	public ArrayList<ClarCoverSolution> clarCover() {
+		return ClarCoverSolver.solve(molecule);
+	}
+
+	@Benchmark
+	public int clarNumber() {
+		return ClarCoverEnumerator.clarNumber(molecule);
+	}
+
+	@Benchmark
+	public RBO rbo() {
+		return RBOSolver.RBO(molecule);
+	}
+
+	@Benchmark
+	public ArrayList<String> names() {
+		return molecule.getNames();
+	}
+
+	@Benchmark
+	public CanonicalForm canonicalForm() {
+		return molecule.getCanonicalForm();
+	}
+}
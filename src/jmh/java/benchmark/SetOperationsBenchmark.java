@@ -0,0 +1,136 @@
+package benchmark;
+
+import benzenoid.BenzenoidSetOperations;
+import benzenoid.CanonicalForm;
+import org.openjdk.jmh.annotations.Benchmark;
+import org.openjdk.jmh.annotations.BenchmarkMode;
+import org.openjdk.jmh.annotations.Fork;
+import org.openjdk.jmh.annotations.Measurement;
+import org.openjdk.jmh.annotations.Mode;
+import org.openjdk.jmh.annotations.OutputTimeUnit;
+import org.openjdk.jmh.annotations.Param;
+import org.openjdk.jmh.annotations.Scope;
+import org.openjdk.jmh.annotations.Setup;
+import org.openjdk.jmh.annotations.State;
+import org.openjdk.jmh.annotations.Warmup;
+import utils.HexNeighborhood;
+
+import java.util.ArrayList;
+import java.util.HashSet;
+import java.util.List;
+import java.util.Random;
+import java.util.concurrent.TimeUnit;
+import java.util.function.Function;
+
+/***
+ * Set operations of BenzenoidSetOperations on two collections of random shapes of 20 hexagons, half of the
+ * second one being rotated, reflected and translated copies of shapes of the first one. A million Benzenoid
+ * objects do not fit in memory, so the operations work directly on the canonical forms (which the molecules
+ * cache anyway).
+ */
+@State(Scope.Benchmark)
+@BenchmarkMode(Mode.SingleShotTime)
+@OutputTimeUnit(TimeUnit.MILLISECONDS)
+@Warmup(iterations = 2)
+@Measurement(iterations = 5)
+@Fork(value = 1, jvmArgsAppend = "-Xmx3g")
+public class SetOperationsBenchmark {
+
+	private static final int NB_HEXAGONS = 20;
+
+	@Param({"1000000"})
+	public int size;
+
+	private List<CanonicalForm> forms1;
+	private List<CanonicalForm> forms2;
+
+	@Setup
+	public void buildForms() {
+
+		Random random = new Random(42);
+		forms1 = new ArrayList<>(size);
+		forms2 = new ArrayList<>(size);
+
+		List<int[][]> shapes = new ArrayList<>(size);
+		for (int i = 0; i < size; i++) {
+			int[][] shape = randomShape(random);
+			shapes.add(shape);
+			forms1.add(new CanonicalForm(shape[0], shape[1]));
+		}
+
+		for (int i = 0; i < size; i++) {
+			int[][] shape = random.nextBoolean() ? image(shapes.get(random.nextInt(size)), random) : randomShape(random);
+			forms2.add(new CanonicalForm(shape[0], shape[1]));
+		}
+	}
+
+	@Benchmark
+	public List<CanonicalForm> union() {
+		return BenzenoidSetOperations.union(forms1, forms2, Function.identity());
+	}
+
+	@Benchmark
+	public List<CanonicalForm> intersection() {
+		return BenzenoidSetOperations.intersection(forms1, forms2, Function.identity());
+	}
+
+	@Benchmark
+	public List<CanonicalForm> difference() {
+		return BenzenoidSetOperations.difference(forms1, forms2, Function.identity());
+	}
+
+	/*
+	 * Polyhex grown from (0, 0) by adding a random neighbor of a random hexagon
+	 */
+	private static int[][] randomShape(Random random) {
+
+		HexNeighborhood[] directions = HexNeighborhood.values();
+		int[] xs = new int[NB_HEXAGONS];
+		int[] ys = new int[NB_HEXAGONS];
+		HashSet<Long> hexagons = new HashSet<>();
+		hexagons.add(0L);
+
+		int size = 1;
+		while (size < NB_HEXAGONS) {
+			int hexagon = random.nextInt(size);
+			HexNeighborhood direction = directions[random.nextInt(directions.length)];
+			int x = xs[hexagon] + direction.dx();
+			int y = ys[hexagon] + direction.dy();
+			if (hexagons.add(((long) x << 32) ^ (y & 0xffffffffL))) {
+				xs[size] = x;
+				ys[size] = y;
+				size++;
+			}
+		}
+
+		return new int[][] { xs, ys };
+	}
+
+	/*
+	 * Random symmetry of the lattice (see CanonicalForm) followed by a random translation
+	 */
+	private static int[][] image(int[][] shape, Random random) {
+
+		boolean reflection = random.nextBoolean();
+		int rotation = random.nextInt(6);
+		int dx = random.nextInt(100) - 50;
+		int dy = random.nextInt(100) - 50;
+
+		int[] xs = new int[NB_HEXAGONS];
+		int[] ys = new int[NB_HEXAGONS];
+
+		for (int i = 0; i < NB_HEXAGONS; i++) {
+			int x = reflection ? shape[1][i] : shape[0][i];
+			int y = reflection ? shape[0][i] : shape[1][i];
+			for (int k = 0; k < rotation; k++) {
+				int tmp = x;
+				x = x - y;
+				y = tmp;
+			}
+			xs[i] = x + dx;
+			ys[i] = y + dy;
+		}
+
+		return new int[][] { xs, ys };
+	}
+}
@@ -226,7 +226,14 @@ public class BenzenoidApplication extends Application {
 	}
 
 	public void addTask(String task) {
-		TaskHBox hBox = new TaskHBox(this, task);
+		addTask(task, null);
+	}
+
+	/***
+	 * @param stopAction called by the stop button of the task (null : stopped according to its name)
+	 */
+	public void addTask(String task, Runnable stopAction) {
+		TaskHBox hBox = new TaskHBox(this, task, stopAction);
 		tasksBoxes.add(hBox);
 
 		MenuItem menuItem = new MenuItem();
@@ -12,10 +12,12 @@ public class TaskHBox extends HBox {
 
 	private final BenzenoidApplication application;
 	private final String task;
+	private final Runnable stopAction;
 
-	TaskHBox(BenzenoidApplication application, String task) {
+	TaskHBox(BenzenoidApplication application, String task, Runnable stopAction) {
 		super(3.0);
 		this.task = task;
+		this.stopAction = stopAction;
 		this.application = application;
 		initialize();
 	}
@@ -44,6 +46,10 @@ public class TaskHBox extends HBox {
 		
 
 		stopButton.setOnAction(e -> {
+			if (stopAction != null) {
+				stopAction.run();
+				return;
+			}
 			switch (task) {
 				case "Benzenoid generation":
 					application.getGeneratorPane().stop();
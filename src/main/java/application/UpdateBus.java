@@ -0,0 +1,165 @@
+package application;
+
+import javafx.application.Platform;
+
+import java.util.ArrayList;
+import java.util.LinkedHashMap;
+import java.util.List;
+import java.util.Map;
+import java.util.concurrent.Executor;
+import java.util.concurrent.Executors;
+import java.util.concurrent.ScheduledExecutorService;
+import java.util.concurrent.ScheduledFuture;
+import java.util.concurrent.TimeUnit;
+import java.util.function.Consumer;
+
+/***
+ * Updates of the interface posted by long computations. Instead of one Platform.runLater by event, the updates
+ * are kept until the next flush, which runs them all on the JavaFX thread, at most a given number of times by
+ * second. An update set for a key (e.g. a counter or a progress line) replaces the previous one for this key,
+ * and the items added for a key (e.g. console lines or new panes) are given in bulk to their sink. The
+ * updates are run in the order in which their keys were first posted since the previous flush.
+ */
+public class UpdateBus {
+
+	private static final UpdateBus shared = new UpdateBus(10, Platform::runLater);
+
+	private final long period;
+	private final Executor uiExecutor;
+	private final ScheduledExecutorService timer;
+
+	/*
+	 * Guarded by this
+	 */
+	private LinkedHashMap<Object, Runnable> updates = new LinkedHashMap<>();
+	private boolean flushScheduled;
+	private long nbScheduledFlushes;
+	private ScheduledFuture<?> timedFlush;
+	private long lastFlush;
+
+	/***
+	 * @param maxFlushesBySecond maximal number of flushes by second
+	 * @param uiExecutor runs the flushes (on the JavaFX thread)
+	 */
+	public UpdateBus(int maxFlushesBySecond, Executor uiExecutor) {
+
+		if (maxFlushesBySecond < 1)
+			throw new IllegalArgumentException("Invalid number of flushes by second : " + maxFlushesBySecond);
+
+		period = TimeUnit.SECONDS.toNanos(1) / maxFlushesBySecond;
+		this.uiExecutor = uiExecutor;
+		lastFlush = System.nanoTime() - period;
+
+		timer = Executors.newSingleThreadScheduledExecutor(runnable -> {
+			Thread thread = new Thread(runnable, "update-bus");
+			thread.setDaemon(true);
+			return thread;
+		});
+	}
+
+	/***
+	 * @return the bus flushed on the JavaFX thread, at most 10 times by second
+	 */
+	public static UpdateBus getShared() {
+		return shared;
+	}
+
+	/***
+	 * Runs the update at the next flush, unless another update is set for the same key before
+	 */
+	public synchronized void set(Object key, Runnable update) {
+		updates.put(key, update);
+		scheduleFlush();
+	}
+
+	/***
+	 * Gives the item at the next flush to the sink, with all the items added for the same key since the
+	 * previous flush (in their order)
+	 */
+	public synchronized <T> void add(Object key, T item, Consumer<? super List<T>> sink) {
+
+		@SuppressWarnings("unchecked")
+		Batch<T> batch = updates.get(key) instanceof Batch ? (Batch<T>) updates.get(key) : null;
+
+		if (batch == null) {
+			batch = new Batch<>(sink);
+			updates.put(key, batch);
+		}
+
+		batch.items.add(item);
+		scheduleFlush();
+	}
+
+	/***
+	 * Runs the pending updates now, on the calling thread (which must be the JavaFX thread), e.g. before
+	 * showing the results of a computation
+	 */
+	public void flush() {
+
+		Map<Object, Runnable> pendingUpdates;
+
+		synchronized (this) {
+			pendingUpdates = updates;
+			updates = new LinkedHashMap<>();
+			flushScheduled = false;
+			lastFlush = System.nanoTime();
+
+			/*
+			 * The flush scheduled before is done now
+			 */
+			if (timedFlush != null) {
+				timedFlush.cancel(false);
+				timedFlush = null;
+			}
+		}
+
+		for (Runnable update : pendingUpdates.values())
+			update.run();
+	}
+
+	/*
+	 * A single flush is pending at any time, run one period after the previous one. A scheduled flush does
+	 * nothing if an explicit flush was done meanwhile.
+	 */
+	private void scheduleFlush() {
+
+		if (flushScheduled)
+			return;
+
+		flushScheduled = true;
+		long flushIndex = ++nbScheduledFlushes;
+		Runnable scheduledFlush = () -> flushIfScheduled(flushIndex);
+		long delay = lastFlush + period - System.nanoTime();
+
+		if (delay <= 0)
+			uiExecutor.execute(scheduledFlush);
+		else
+			timedFlush = timer.schedule(() -> uiExecutor.execute(scheduledFlush), delay, TimeUnit.NANOSECONDS);
+	}
+
+	private void flushIfScheduled(long flushIndex) {
+
+		synchronized (this) {
+			if (!flushScheduled || flushIndex != nbScheduledFlushes)
+				return;
+			timedFlush = null;
+		}
+
+		flush();
+	}
+
+	private static class Batch<T> implements Runnable {
+
+		private final Consumer<? super List<T>> sink;
+		private final List<T> items = new ArrayList<>();
+
+		Batch(Consumer<? super List<T>> sink) {
+			this.sink = sink;
+		}
+
+		@Override
+		public void run() {
+			sink.accept(items);
+		}
+	}
+}
@@ -8,18 +8,16 @@ import generator.properties.model.ModelProperty;
 import generator.properties.model.ModelPropertySet;
 import benzenoid.sort.MoleculeComparator;
 import benzenoid.sort.NbHexagonsComparator;
-import parsers.GraphCoordFileBuilder;
-import parsers.GraphFileBuilder;
-import parsers.GraphParser;
+import parsers.SolutionConverter;
 import solution.ClarCoverSolution;
 import solveur.Aromaticity;
+import solveur.EdgeInclusionCounter;
 import utils.Couple;
 import utils.HexNeighborhood;
 import utils.Interval;
 import utils.RelativeMatrix;
 
-import java.io.File;
-import java.io.IOException;
+import java.math.BigInteger;
 import java.util.*;
 import benzenoid.CycleType; // Ajout de l'import pour le nouveau enum
 
@@ -38,6 +36,7 @@ public class Benzenoid implements Comparable<Benzenoid> {
 	private int maxIndex;
 	private ArrayList<ArrayList<Integer>> edgeLists;
 	private final int[][] edgeMatrix;
+	private final CarbonGraph graph;
 	private ArrayList<String> edgesString;
 	private final ArrayList<String> hexagonsString;
 	private final Node[] nodesCoordinates;
@@ -63,6 +62,7 @@ public class Benzenoid implements Comparable<Benzenoid> {
 	private int[] fixedCircles;
 
 	private ArrayList<String> names;
+	private volatile CanonicalForm canonicalForm;
 
 	private int nbCrowns = -1;
 
@@ -145,6 +145,8 @@ public class Benzenoid implements Comparable<Benzenoid> {
 		// ou pour peupler hexagonsVertices
 		determineAndSetCycleTypes(); // AJOUTÉ: Appel pour définir les types de cycles
 
+		graph = new CarbonGraph(edgeMatrix, hexagons);
+
 		computeDualGraph();
 		computeDegrees();
 		buildHexagonsCoords2();
@@ -212,6 +214,8 @@ public class Benzenoid implements Comparable<Benzenoid> {
 			}
 		}
 
+		graph = new CarbonGraph(edgeMatrix, hexagons);
+
 		computeDualGraph();
 		computeDegrees();
 		buildHexagonsCoords2();
@@ -308,6 +312,13 @@ public class Benzenoid implements Comparable<Benzenoid> {
 		return edgeMatrix;
 	}
 
+	/***
+	 * @return the adjacency lists of the carbons, built with the molecule
+	 */
+	public CarbonGraph getGraph() {
+		return graph;
+	}
+
 	public ArrayList<String> getEdgesString() {
 		return edgesString;
 	}
@@ -360,17 +371,8 @@ public class Benzenoid implements Comparable<Benzenoid> {
 
 		degrees = new int[nbCarbons];
 
-		for (int i = 0; i < nbCarbons; i++) {
-
-			int degree = 0;
-			for (int j = 0; j < nbCarbons; j++) {
-
-				if (edgeMatrix[i][j] == 1)
-					degree++;
-			}
-
-			degrees[i] = degree;
-		}
+		for (int i = 0; i < nbCarbons; i++)
+			degrees[i] = graph.getDegree(i);
 	}
 
 	private void computeDualGraph() {
@@ -525,15 +527,7 @@ public class Benzenoid implements Comparable<Benzenoid> {
 		if (nbHydrogens == 0) {
 
 			for (int i = 0; i < nbCarbons; i++) {
-
-				int degree = 0;
-				for (int j = 0; j < nbCarbons; j++) {
-
-					if (edgeMatrix[i][j] == 1)
-						degree++;
-				}
-
-				if (degree == 2)
+				if (degrees[i] == 2)
 					nbHydrogens++;
 			}
 		}
@@ -737,10 +731,25 @@ public class Benzenoid implements Comparable<Benzenoid> {
 		return computableInformations.getAromaticity();
 	}
 
+	public Aromaticity getLinFanAromaticity() {
+		return computableInformations.getLinFanAromaticity();
+	}
+
+	public EdgeInclusionCounter getEdgeInclusionCounter() {
+		return computableInformations.getEdgeInclusionCounter();
+	}
+
 	public double getNbKekuleStructures() {
 		return computableInformations.getNbKekuleStructures();
 	}
 
+	/***
+	 * @return the number of Kekule structures, exact even beyond 2^53
+	 */
+	public BigInteger getExactNbKekuleStructures() {
+		return computableInformations.getExactNbKekuleStructures();
+	}
+
 	public boolean isAromaticityComputed() {
 		return computableInformations.isAromaticityComputed();
 	}
@@ -757,10 +766,8 @@ public class Benzenoid implements Comparable<Benzenoid> {
 
 		ArrayList<Couple<Integer, Integer>> bounds = new ArrayList<>();
 
-		for (int i = 0; i < nbCarbons; i++) {
-			if (edgeExists(carbon, i))
-				bounds.add(new Couple<>(carbon, i));
-		}
+		for (int i = 0; i < graph.getDegree(carbon); i++)
+			bounds.add(new Couple<>(carbon, graph.getNeighbor(carbon, i)));
 
 		return bounds;
 
@@ -770,15 +777,8 @@ public class Benzenoid implements Comparable<Benzenoid> {
 
 		ArrayList<Integer> hexagonsList = new ArrayList<>(); // Renommé pour éviter la confusion
 
-		for (int i = 0; i < nbHexagons; i++) {
-			int[] hexagon = getHexagons()[i];
-			for (Integer u : hexagon) {
-				if (u == carbon) {
-					hexagonsList.add(i);
-					break;
-				}
-			}
-		}
+		for (int i = 0; i < graph.getNbHexagons(carbon); i++)
+			hexagonsList.add(graph.getHexagon(carbon, i));
 
 		return hexagonsList;
 	}
@@ -787,21 +787,12 @@ public class Benzenoid implements Comparable<Benzenoid> {
 
 		ArrayList<Integer> hexagonsList = new ArrayList<>(); // Renommé pour éviter la confusion
 
-		for (int i = 0; i < nbHexagons; i++) {
-
-			int[] hexagon = getHexagons()[i];
-			boolean containsCarbon1 = false;
-			boolean containsCarbon2 = false;
-
-			for (Integer u : hexagon) {
-				if (u == carbon1)
-					containsCarbon1 = true;
-				if (u == carbon2)
-					containsCarbon2 = true;
-
-				if (containsCarbon1 && containsCarbon2) { // Correction: ajouter l'hexagon APRES avoir vérifié les deux
-					hexagonsList.add(i);
-					break; // Sortir de la boucle interne une fois l'hexagon trouvé
+		for (int i = 0; i < graph.getNbHexagons(carbon1); i++) {
+			int hexagon = graph.getHexagon(carbon1, i);
+			for (int j = 0; j < graph.getNbHexagons(carbon2); j++) {
+				if (graph.getHexagon(carbon2, j) == hexagon) {
+					hexagonsList.add(hexagon);
+					break;
 				}
 			}
 		}
@@ -1194,72 +1185,77 @@ public class Benzenoid implements Comparable<Benzenoid> {
 
 	}
 
+	/***
+	 * See BenzenoidSetOperations
+	 */
 	public static ArrayList<Benzenoid> union(ArrayList<Benzenoid> molecules1, ArrayList<Benzenoid> molecules2) {
-
-		ArrayList<Benzenoid> molecules = new ArrayList<>();
-
-		for (Benzenoid molecule : molecules1) {
-			if (!molecules.contains(molecule))
-				molecules.add(molecule);
-		}
-
-		for (Benzenoid molecule : molecules2) {
-			if (!molecules.contains(molecule))
-				molecules.add(molecule);
-		}
-
-		return molecules;
+		return BenzenoidSetOperations.union(molecules1, molecules2);
 	}
 
 	public static ArrayList<Benzenoid> intersection(ArrayList<Benzenoid> molecules1, ArrayList<Benzenoid> molecules2) {
+		return BenzenoidSetOperations.intersection(molecules1, molecules2);
+	}
 
-		ArrayList<Benzenoid> molecules = new ArrayList<>();
+	public static ArrayList<Benzenoid> diff(ArrayList<Benzenoid> molecules1, ArrayList<Benzenoid> molecules2) {
+		return BenzenoidSetOperations.difference(molecules1, molecules2);
+	}
 
-		for (Benzenoid molecule : molecules1) {
-			if (molecules2.contains(molecule))
-				molecules.add(molecule);
-		}
+	public void setNbCrowns(int nbCrowns) {
+		this.nbCrowns = nbCrowns;
+	}
 
-		return molecules;
+	public int getNbCrowns() {
+		return nbCrowns;
 	}
 
-	public static ArrayList<Benzenoid> diff(ArrayList<Benzenoid> molecules1, ArrayList<Benzenoid> molecules2) {
+	/***
+	 * @return the canonical form of the hexagons, computed once from their coordinates
+	 */
+	public CanonicalForm getCanonicalForm() {
 
-		ArrayList<Benzenoid> molecules = new ArrayList<>();
+		CanonicalForm form = canonicalForm;
 
-		for (Benzenoid molecule : molecules1) {
-			if (!molecules2.contains(molecule))
-				molecules.add(molecule);
+		if (form == null) {
+			int[] xs = new int[nbHexagons];
+			int[] ys = new int[nbHexagons];
+			for (int i = 0; i < nbHexagons; i++) {
+				xs[i] = hexagonsCoords[i].getX();
+				ys[i] = hexagonsCoords[i].getY();
+			}
+			form = new CanonicalForm(xs, ys);
+			canonicalForm = form;
 		}
 
-		return molecules;
+		return form;
 	}
 
-	public void setNbCrowns(int nbCrowns) {
-		this.nbCrowns = nbCrowns;
+	/***
+	 * @return a code shared by the benzenoids having the same shape (up to translations, rotations and
+	 * reflections) and only by them
+	 */
+	public String getCanonicalCode() {
+		return getCanonicalForm().getCode();
 	}
 
-	public int getNbCrowns() {
-		return nbCrowns;
+	public long getCanonicalHash() {
+		return getCanonicalForm().getHash();
 	}
 
+	/***
+	 * Two benzenoids are equal iff they have the same shape
+	 */
 	@Override
 	public boolean equals(Object obj) {
 		if (this == obj) return true;
 		if (obj == null || getClass() != obj.getClass()) return false;
 		Benzenoid molecule = (Benzenoid) obj;
 
-		// Ensure names are computed for both objects before comparison
-		List<String> thisNames = this.getNames();
-		List<String> otherNames = molecule.getNames();
-
-		if (thisNames == null || otherNames == null) return false; // Or throw an exception
+		return nbHexagons == molecule.nbHexagons && getCanonicalForm().hasSameCode(molecule.getCanonicalForm());
+	}
 
-		for (String nameStr : otherNames) { // Renommé pour éviter confusion
-			if (thisNames.contains(nameStr))
-				return true;
-		}
-		return false;
+	@Override
+	public int hashCode() {
+		return Long.hashCode(getCanonicalHash());
 	}
 
 	public void setClarCoverSolutions(List<ClarCoverSolution> clarCoverSolutions) {
@@ -1298,11 +1294,11 @@ public class Benzenoid implements Comparable<Benzenoid> {
 		return colorShift;
 	}
 
-	public List<int[][]> getKekuleStructures() {
+	public List<BitSet> getKekuleStructures() {
 		return computableInformations.getKekuleStructures();
 	}
 
-	public void setKekuleStructures(List<int[][]> kekuleStructures) {
+	public void setKekuleStructures(List<BitSet> kekuleStructures) {
 		computableInformations.setKekuleStructures(kekuleStructures);
 	}
 
@@ -1320,34 +1316,13 @@ public class Benzenoid implements Comparable<Benzenoid> {
 	 *
 	 */
 	public static Benzenoid buildMolecule(String description, int nbCrowns, int index, ArrayList<Integer> verticesSolution) {
-
-		Benzenoid molecule = null;
-		try {
-			String graphFilename = "tmp.graph";
-			String graphCoordFilename = "tmp.graph_coord";
-
-			buildGraphFile(nbCrowns, verticesSolution, graphFilename);
-			convertGraphCoordFileInstance(graphFilename, graphCoordFilename);
-			molecule = buildMolecule(description, nbCrowns, index, verticesSolution, graphCoordFilename);
-			deleteTmpFiles(graphFilename, graphCoordFilename);
-		} catch (IOException e1) {
-			e1.printStackTrace();
-		}
-		return molecule;
-
-	}
-
-	/***
-	 *
-	 */
-	private static Benzenoid buildMolecule(String description, int nbCrowns, int index, ArrayList<Integer> verticesSolution,
-										   String graphCoordFilename) {
-		Benzenoid molecule = GraphParser.parseUndirectedGraph(graphCoordFilename, null, false);
+		Benzenoid molecule = new SolutionConverter(verticesSolution, nbCrowns).buildBenzenoid();
 		molecule.setVerticesSolutions(verticesSolution);
 		molecule.setDescription(buildMoleculeDescription(description, index));
 		molecule.setNbCrowns(nbCrowns);
 		return molecule;
 	}
+
 	/***
 	 *
 	 */
@@ -1360,33 +1335,6 @@ public class Benzenoid implements Comparable<Benzenoid> {
 			b.append(lines[j]).append("\n");
 		return b.toString();
 	}
-	/***
-	 *
-	 */
-	private static void deleteTmpFiles(String graphFilename, String graphCoordFilename) {
-		File file = new File(graphFilename);
-		if (file.exists()) file.delete(); // Ajout de la vérification d'existence
-		file = new File(graphCoordFilename);
-		if (file.exists()) file.delete(); // Ajout de la vérification d'existence
-	}
-
-	/***
-	 *
-	 */
-	private static void convertGraphCoordFileInstance(String graphFilename, String graphCoordFilename) {
-		GraphCoordFileBuilder graphCoordBuilder = new GraphCoordFileBuilder(graphFilename, graphCoordFilename);
-		graphCoordBuilder.convertInstance();
-	}
-
-	/***
-	 *
-	 */
-	private static void buildGraphFile(int nbCrowns, ArrayList<Integer> verticesSolution,
-									   String graphFilename) throws IOException {
-		GraphFileBuilder graphBuilder = new GraphFileBuilder(verticesSolution, graphFilename,
-				nbCrowns);
-		graphBuilder.buildGraphFile();
-	}
 
 	public BenzenoidDatabaseInformation getDatabaseInformation() {
 		return databaseInformation;
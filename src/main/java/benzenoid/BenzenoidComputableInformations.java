@@ -3,20 +3,25 @@ package benzenoid;
 import classifier.Irregularity;
 import solution.ClarCoverSolution;
 import solveur.Aromaticity;
+import solveur.EdgeInclusionCounter;
+import solveur.KekuleStructuresCounter;
 import solveur.LinAlgorithm;
+import solveur.LinFanAlgorithm;
 import solveur.RBOSolver;
 
 import java.io.IOException;
+import java.math.BigInteger;
 import java.util.ArrayList;
+import java.util.BitSet;
 import java.util.List;
 import java.util.Optional;
 
 public class BenzenoidComputableInformations {
 
     private final Benzenoid benzenoid;
-    private double nbKekuleStructures = -1;
+    private BigInteger nbKekuleStructures;
 
-    private List<int[][]> kekuleStructures;
+    private List<BitSet> kekuleStructures;
 
     private Irregularity irregularity;
 
@@ -24,10 +29,17 @@ public class BenzenoidComputableInformations {
 
     private boolean aromaticityComputed;
 
+    private Aromaticity linFanAromaticity;
+
     private List<Integer> verticesSolutions;
 
     private RBO ringBondOrder;
 
+    /*
+     * Shared by the computations running on other threads
+     */
+    private volatile EdgeInclusionCounter edgeInclusionCounter;
+
     private boolean clarCoverComputed;
     private ClarCoverSolution clarCoverSolution;
 
@@ -54,15 +66,12 @@ public class BenzenoidComputableInformations {
     }
 
     public double getNbKekuleStructures() {
-        if (nbKekuleStructures == -1) {
-            int[] disabledVertices = new int[benzenoid.getNbCarbons()];
-            int[] degrees = benzenoid.getDegrees();
-
+        return getExactNbKekuleStructures().doubleValue();
+    }
 
-            SubGraph subGraph = new SubGraph(benzenoid.getEdgeMatrix(), disabledVertices, degrees, LinAlgorithm.PerfectMatchingType.DET);
-
-            nbKekuleStructures = subGraph.getNbPerfectMatchings();
-        }
+    public BigInteger getExactNbKekuleStructures() {
+        if (nbKekuleStructures == null)
+            nbKekuleStructures = KekuleStructuresCounter.count(benzenoid);
 
         return nbKekuleStructures;
     }
@@ -111,8 +120,9 @@ public class BenzenoidComputableInformations {
 
                     int candidat = candidats.get(0);
 
-                    for (int i = 0; i < benzenoid.getNbCarbons(); i++) {
-                        if (benzenoid.getEdgeMatrix()[candidat][i] == 1 && checkedNodes[i] == 0) {
+                    for (int k = 0; k < benzenoid.getGraph().getDegree(candidat); k++) {
+                        int i = benzenoid.getGraph().getNeighbor(candidat, k);
+                        if (checkedNodes[i] == 0) {
 
                             checkedNodes[i] = 1;
                             nbNeighbors++;
@@ -158,6 +168,34 @@ public class BenzenoidComputableInformations {
         return aromaticity;
     }
 
+    /***
+     * @return the local aromaticity computed with the algorithm of Lin and Fan, normalized
+     */
+    public Aromaticity getLinFanAromaticity() {
+        if (linFanAromaticity == null) {
+            try {
+                Aromaticity aromaticity = LinFanAlgorithm.computeEnergy(benzenoid);
+                aromaticity.normalize(getNbKekuleStructures());
+                linFanAromaticity = aromaticity;
+            } catch (IOException e) {
+                throw new RuntimeException(e);
+            }
+        }
+
+        return linFanAromaticity;
+    }
+
+    /***
+     * @return the inverse of the biadjacency matrix, from which are counted the perfect matchings of the molecule
+     * without some carbons (RBO, Lin, Randic, disjunct circuits)
+     */
+    public EdgeInclusionCounter getEdgeInclusionCounter() {
+        if (edgeInclusionCounter == null)
+            edgeInclusionCounter = new EdgeInclusionCounter(benzenoid);
+
+        return edgeInclusionCounter;
+    }
+
     public RBO getRingBondOrder() {
 
         if (ringBondOrder == null)
@@ -185,11 +223,11 @@ public class BenzenoidComputableInformations {
         return clarValues;
     }
 
-    public List<int[][]> getKekuleStructures() {
+    public List<BitSet> getKekuleStructures() {
         return kekuleStructures;
     }
 
-    public void setKekuleStructures(List<int[][]> kekuleStructures) {
+    public void setKekuleStructures(List<BitSet> kekuleStructures) {
         this.kekuleStructures = kekuleStructures;
     }
 
@@ -0,0 +1,98 @@
+package benzenoid;
+
+import java.util.ArrayList;
+import java.util.List;
+import java.util.function.Function;
+import java.util.stream.Stream;
+
+/***
+ * Union, intersection and difference of collections of benzenoids, two benzenoids being the same iff they have
+ * the same shape. Each operation indexes the canonical forms in a CanonicalFormSet, so it runs in linear time,
+ * and keeps the order of the collections. Nothing here depends on the graphical interface.
+ */
+public enum BenzenoidSetOperations {
+	;
+
+	/***
+	 * @return the benzenoids of molecules1 then of molecules2, each shape only once
+	 */
+	public static ArrayList<Benzenoid> union(List<Benzenoid> molecules1, List<Benzenoid> molecules2) {
+		computeCanonicalForms(molecules1, molecules2);
+		return union(molecules1, molecules2, Benzenoid::getCanonicalForm);
+	}
+
+	/***
+	 * @return the benzenoids of molecules1 having the shape of a benzenoid of molecules2
+	 */
+	public static ArrayList<Benzenoid> intersection(List<Benzenoid> molecules1, List<Benzenoid> molecules2) {
+		computeCanonicalForms(molecules1, molecules2);
+		return intersection(molecules1, molecules2, Benzenoid::getCanonicalForm);
+	}
+
+	/***
+	 * @return the benzenoids of molecules1 having the shape of no benzenoid of molecules2
+	 */
+	public static ArrayList<Benzenoid> difference(List<Benzenoid> molecules1, List<Benzenoid> molecules2) {
+		computeCanonicalForms(molecules1, molecules2);
+		return difference(molecules1, molecules2, Benzenoid::getCanonicalForm);
+	}
+
+	/***
+	 * Same as union(molecules1, molecules2) for any elements having a canonical form
+	 */
+	public static <T> ArrayList<T> union(List<? extends T> elements1, List<? extends T> elements2,
+										 Function<? super T, CanonicalForm> canonicalForm) {
+
+		CanonicalFormSet set = new CanonicalFormSet(elements1.size() + elements2.size());
+		ArrayList<T> result = new ArrayList<>();
+
+		for (T element : elements1)
+			if (set.add(canonicalForm.apply(element)))
+				result.add(element);
+
+		for (T element : elements2)
+			if (set.add(canonicalForm.apply(element)))
+				result.add(element);
+
+		return result;
+	}
+
+	/***
+	 * Same as intersection(molecules1, molecules2) for any elements having a canonical form
+	 */
+	public static <T> ArrayList<T> intersection(List<? extends T> elements1, List<? extends T> elements2,
+												Function<? super T, CanonicalForm> canonicalForm) {
+		return filter(elements1, index(elements2, canonicalForm), canonicalForm, true);
+	}
+
+	/***
+	 * Same as difference(molecules1, molecules2) for any elements having a canonical form
+	 */
+	public static <T> ArrayList<T> difference(List<? extends T> elements1, List<? extends T> elements2,
+											  Function<? super T, CanonicalForm> canonicalForm) {
+		return filter(elements1, index(elements2, canonicalForm), canonicalForm, false);
+	}
+
+	private static <T> CanonicalFormSet index(List<? extends T> elements, Function<? super T, CanonicalForm> canonicalForm) {
+		CanonicalFormSet set = new CanonicalFormSet(elements.size());
+		for (T element : elements)
+			set.add(canonicalForm.apply(element));
+		return set;
+	}
+
+	private static <T> ArrayList<T> filter(List<? extends T> elements, CanonicalFormSet set,
+										   Function<? super T, CanonicalForm> canonicalForm, boolean contained) {
+		ArrayList<T> result = new ArrayList<>();
+		for (T element : elements)
+			if (set.contains(canonicalForm.apply(element)) == contained)
+				result.add(element);
+		return result;
+	}
+
+	/*
+	 * The canonical forms are cached by the molecules, so the ones not computed yet are computed in parallel
+	 */
+	private static void computeCanonicalForms(List<Benzenoid> molecules1, List<Benzenoid> molecules2) {
+		Stream.concat(molecules1.stream(), molecules2.stream()).parallel().forEach(Benzenoid::getCanonicalForm);
+	}
+}
@@ -0,0 +1,147 @@
+package benzenoid;
+
+import java.util.Arrays;
+
+/***
+ * Smallest code of a set of hexagons among its images by the 12 symmetries of the lattice. The code of an
+ * image is the sorted list of the positions (y * width + x) of its hexagons, once translated to (0, 0), so two
+ * sets of hexagons have the same code iff they have the same shape. Hexagons are given by their (x, y)
+ * coordinates (see HexNeighborhood).
+ */
+public final class CanonicalForm {
+
+	private final int width;
+	private int[] code;
+	private final long hash;
+
+	/*
+	 * Symmetries giving the smallest code, and the translation applied after each of them
+	 */
+	private final int[] automorphisms = new int[12];
+	private final int[] xShifts = new int[12];
+	private final int[] yShifts = new int[12];
+	private int nbAutomorphisms;
+
+	public CanonicalForm(int[] xs, int[] ys) {
+
+		int size = xs.length;
+		width = 2 * size;
+
+		int[] imageXs = new int[size];
+		int[] imageYs = new int[size];
+		int[] imageCode = new int[size];
+
+		for (int symmetry = 0; symmetry < 12; symmetry++) {
+
+			int xMin = Integer.MAX_VALUE;
+			int yMin = Integer.MAX_VALUE;
+
+			for (int i = 0; i < size; i++) {
+				imageXs[i] = transformX(symmetry, xs[i], ys[i]);
+				imageYs[i] = transformY(symmetry, xs[i], ys[i]);
+				xMin = Math.min(xMin, imageXs[i]);
+				yMin = Math.min(yMin, imageYs[i]);
+			}
+
+			for (int i = 0; i < size; i++)
+				imageCode[i] = (imageYs[i] - yMin) * width + imageXs[i] - xMin;
+			Arrays.sort(imageCode);
+
+			int comparison = code == null ? -1 : Arrays.compare(imageCode, code);
+
+			if (comparison < 0) {
+				code = imageCode.clone();
+				nbAutomorphisms = 0;
+			}
+
+			if (comparison <= 0) {
+				automorphisms[nbAutomorphisms] = symmetry;
+				xShifts[nbAutomorphisms] = -xMin;
+				yShifts[nbAutomorphisms] = -yMin;
+				nbAutomorphisms++;
+			}
+		}
+
+		/*
+		 * FNV-1a on the positions, then the finalizer of MurmurHash3 to spread the bits
+		 */
+		long h = 0xcbf29ce484222325L ^ size;
+		for (int position : code)
+			h = (h ^ position) * 0x100000001b3L;
+		h ^= h >>> 33;
+		h *= 0xff51afd7ed558ccdL;
+		h ^= h >>> 33;
+		h *= 0xc4ceb9fe1a85ec53L;
+		h ^= h >>> 33;
+		hash = h;
+	}
+
+	/***
+	 * @return the position in the canonical code of the hexagon (x, y) mapped by the k-th automorphism
+	 */
+	public int position(int k, int x, int y) {
+		int symmetry = automorphisms[k];
+		return (transformY(symmetry, x, y) + yShifts[k]) * width + transformX(symmetry, x, y) + xShifts[k];
+	}
+
+	public int getNbAutomorphisms() {
+		return nbAutomorphisms;
+	}
+
+	/***
+	 * @return the canonical code, two chars by hexagon (compact, not meant to be displayed). A position may not
+	 * fit in one char : it is given by its 16 high bits, then its 16 low bits.
+	 */
+	public String getCode() {
+		char[] chars = new char[2 * code.length];
+		for (int i = 0; i < code.length; i++) {
+			chars[2 * i] = (char) (code[i] >>> 16);
+			chars[2 * i + 1] = (char) code[i];
+		}
+		return new String(chars);
+	}
+
+	/***
+	 * @return a 64-bit hash of the canonical code
+	 */
+	public long getHash() {
+		return hash;
+	}
+
+	public boolean hasSameCode(CanonicalForm form) {
+		return hash == form.hash && Arrays.equals(code, form.code);
+	}
+
+	/*
+	 * Symmetries 0-5 : rotations of k * 60 degrees ((x, y) -> (x - y, x)), 6-11 : the same after the
+	 * reflection (x, y) -> (y, x)
+	 */
+
+	private static int transformX(int symmetry, int x, int y) {
+		if (symmetry >= 6) {
+			int tmp = x;
+			x = y;
+			y = tmp;
+		}
+		for (int k = 0; k < symmetry % 6; k++) {
+			int tmp = x;
+			x = x - y;
+			y = tmp;
+		}
+		return x;
+	}
+
+	private static int transformY(int symmetry, int x, int y) {
+		if (symmetry >= 6) {
+			int tmp = x;
+			x = y;
+			y = tmp;
+		}
+		for (int k = 0; k < symmetry % 6; k++) {
+			int tmp = x;
+			x = x - y;
+			y = tmp;
+		}
+		return y;
+	}
+}
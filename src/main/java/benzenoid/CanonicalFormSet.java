@@ -0,0 +1,108 @@
+package benzenoid;
+
+/***
+ * Set of canonical forms : open addressing with linear probing on their 64-bit hashes, stored in a table of
+ * longs. Two forms of the same hash are also compared by their codes, so that a collision of the hashes never
+ * merges two different shapes.
+ */
+public class CanonicalFormSet {
+
+	private static final int MAX_CAPACITY = 1 << 30;
+
+	private long[] hashes;
+	private CanonicalForm[] forms;
+	private int mask;
+	private int size;
+
+	public CanonicalFormSet() {
+		this(16);
+	}
+
+	/***
+	 * @param expectedSize number of forms which can be added without resizing the table
+	 */
+	public CanonicalFormSet(int expectedSize) {
+		if (expectedSize < 0)
+			throw new IllegalArgumentException("Negative size : " + expectedSize);
+		allocate(capacity(expectedSize));
+	}
+
+	/***
+	 * @return true iff no form of the same shape was in the set
+	 */
+	public boolean add(CanonicalForm form) {
+
+		if (2 * (size + 1) > hashes.length && hashes.length < MAX_CAPACITY)
+			resize(2 * hashes.length);
+
+		int slot = slot(form);
+		if (forms[slot] != null)
+			return false;
+
+		hashes[slot] = form.getHash();
+		forms[slot] = form;
+		size++;
+		return true;
+	}
+
+	public boolean contains(CanonicalForm form) {
+		return forms[slot(form)] != null;
+	}
+
+	public int size() {
+		return size;
+	}
+
+	public boolean isEmpty() {
+		return size == 0;
+	}
+
+	/*
+	 * Slot of the form of the same shape, or the empty slot where the form would be added
+	 */
+	private int slot(CanonicalForm form) {
+
+		long hash = form.getHash();
+		int slot = (int) hash & mask;
+
+		while (forms[slot] != null) {
+			if (hashes[slot] == hash && forms[slot].hasSameCode(form))
+				return slot;
+			slot = (slot + 1) & mask;
+		}
+
+		return slot;
+	}
+
+	private void resize(int capacity) {
+
+		long[] oldHashes = hashes;
+		CanonicalForm[] oldForms = forms;
+		allocate(capacity);
+
+		for (int i = 0; i < oldForms.length; i++) {
+			if (oldForms[i] != null) {
+				int slot = (int) oldHashes[i] & mask;
+				while (forms[slot] != null)
+					slot = (slot + 1) & mask;
+				hashes[slot] = oldHashes[i];
+				forms[slot] = oldForms[i];
+			}
+		}
+	}
+
+	private void allocate(int capacity) {
+		hashes = new long[capacity];
+		forms = new CanonicalForm[capacity];
+		mask = capacity - 1;
+	}
+
+	/*
+	 * Smallest power of 2 at least twice the size (the table is at most half full)
+	 */
+	private static int capacity(int size) {
+		if (size >= MAX_CAPACITY / 2)
+			return MAX_CAPACITY;
+		return Math.max(16, Integer.highestOneBit(Math.max(1, 2 * size - 1)) << 1);
+	}
+}
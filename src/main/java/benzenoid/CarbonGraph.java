@@ -0,0 +1,153 @@
+package benzenoid;
+
+/***
+ * Immutable adjacency lists of the carbons of a benzenoid, stored as compressed rows : the neighbors of the carbon
+ * u are neighbors[offsets[u]..offsets[u + 1][ in increasing order, the bond between u and its i-th neighbor being
+ * neighborBonds[offsets[u] + i]. The bonds (u, v) with u < v are indexed in lexicographic order, and the faces
+ * containing each carbon are stored the same way.
+ */
+public class CarbonGraph {
+
+	private final int nbCarbons;
+
+	private final int[] offsets;
+	private final int[] neighbors;
+	private final int[] neighborBonds;
+
+	private final int[] firstCarbons;
+	private final int[] secondCarbons;
+
+	private final int[] hexagonOffsets;
+	private final int[] carbonHexagons;
+
+	public CarbonGraph(int[][] edgeMatrix) {
+		this(edgeMatrix, new int[0][]);
+	}
+
+	public CarbonGraph(int[][] edgeMatrix, int[][] hexagons) {
+
+		nbCarbons = edgeMatrix.length;
+
+		int nbBonds = 0;
+		for (int u = 0; u < nbCarbons; u++)
+			for (int v = u + 1; v < nbCarbons; v++)
+				if (edgeMatrix[u][v] == 1)
+					nbBonds++;
+
+		firstCarbons = new int[nbBonds];
+		secondCarbons = new int[nbBonds];
+		offsets = new int[nbCarbons + 1];
+
+		int bond = 0;
+		for (int u = 0; u < nbCarbons; u++)
+			for (int v = u + 1; v < nbCarbons; v++)
+				if (edgeMatrix[u][v] == 1) {
+					firstCarbons[bond] = u;
+					secondCarbons[bond] = v;
+					offsets[u + 1]++;
+					offsets[v + 1]++;
+					bond++;
+				}
+
+		for (int u = 0; u < nbCarbons; u++)
+			offsets[u + 1] += offsets[u];
+
+		/*
+		 * The bonds (w, u) with w < u come before the bonds (u, v) with u < v, so the neighbors are sorted
+		 */
+		neighbors = new int[2 * nbBonds];
+		neighborBonds = new int[2 * nbBonds];
+		int[] sizes = new int[nbCarbons];
+
+		for (bond = 0; bond < nbBonds; bond++) {
+			int u = firstCarbons[bond];
+			int v = secondCarbons[bond];
+			neighbors[offsets[u] + sizes[u]] = v;
+			neighborBonds[offsets[u] + sizes[u]++] = bond;
+			neighbors[offsets[v] + sizes[v]] = u;
+			neighborBonds[offsets[v] + sizes[v]++] = bond;
+		}
+
+		hexagonOffsets = new int[nbCarbons + 1];
+		for (int[] hexagon : hexagons)
+			if (hexagon != null)
+				for (int carbon : hexagon)
+					if (carbon >= 0)
+						hexagonOffsets[carbon + 1]++;
+
+		for (int u = 0; u < nbCarbons; u++)
+			hexagonOffsets[u + 1] += hexagonOffsets[u];
+
+		carbonHexagons = new int[hexagonOffsets[nbCarbons]];
+		sizes = new int[nbCarbons];
+
+		for (int hexagon = 0; hexagon < hexagons.length; hexagon++)
+			if (hexagons[hexagon] != null)
+				for (int carbon : hexagons[hexagon])
+					if (carbon >= 0)
+						carbonHexagons[hexagonOffsets[carbon] + sizes[carbon]++] = hexagon;
+	}
+
+	public int getNbCarbons() {
+		return nbCarbons;
+	}
+
+	public int getNbBonds() {
+		return firstCarbons.length;
+	}
+
+	public int getDegree(int carbon) {
+		return offsets[carbon + 1] - offsets[carbon];
+	}
+
+	/***
+	 * @return the i-th neighbor of carbon (0 <= i < getDegree(carbon))
+	 */
+	public int getNeighbor(int carbon, int i) {
+		return neighbors[offsets[carbon] + i];
+	}
+
+	/***
+	 * @return the index of the bond between carbon and its i-th neighbor
+	 */
+	public int getBond(int carbon, int i) {
+		return neighborBonds[offsets[carbon] + i];
+	}
+
+	public int getFirstCarbon(int bond) {
+		return firstCarbons[bond];
+	}
+
+	public int getSecondCarbon(int bond) {
+		return secondCarbons[bond];
+	}
+
+	public int getOtherCarbon(int bond, int carbon) {
+		return firstCarbons[bond] == carbon ? secondCarbons[bond] : firstCarbons[bond];
+	}
+
+	/***
+	 * @return the index of the bond (u, v), -1 if there is none
+	 */
+	public int getBondIndex(int u, int v) {
+		for (int i = offsets[u]; i < offsets[u + 1]; i++)
+			if (neighbors[i] == v)
+				return neighborBonds[i];
+		return -1;
+	}
+
+	public boolean containsEdge(int u, int v) {
+		return getBondIndex(u, v) != -1;
+	}
+
+	public int getNbHexagons(int carbon) {
+		return hexagonOffsets[carbon + 1] - hexagonOffsets[carbon];
+	}
+
+	/***
+	 * @return the i-th face containing carbon, the faces being sorted
+	 */
+	public int getHexagon(int carbon, int i) {
+		return carbonHexagons[hexagonOffsets[carbon] + i];
+	}
+}
@@ -1,35 +1,40 @@
 package benzenoid;
 
+import java.math.BigInteger;
 import java.util.ArrayList;
-import java.util.Objects;
 
 import Jama.Matrix;
+import solveur.ExactDeterminant;
 import solveur.LinAlgorithm.PerfectMatchingType;
 import solveur.PerfectMatchingSolver;
 import solveur.RispoliAlgorithm;
 
+/***
+ * View of the carbons of a graph which are not disabled : the subgraph only owns the mask of its disabled carbons,
+ * the adjacency lists being the ones of the graph.
+ */
 public class SubGraph {
 
 	private Benzenoid molecule;
 
+	private final CarbonGraph graph;
+
 	private final int nbNodes;
 	private int nbEdges;
 
-	private final int[][] matrix;
 	private final int[] disabledVertices;
-	private final int[] degrees;
 
 	private int[] disabledHexagons;
 	private int nbDisabledHexagons;
 
 	private double nbPerfectMatchings;
+	private BigInteger exactNbPerfectMatchings;
 
-	public SubGraph(int[][] matrix, int[] disabledVertices, int[] degrees, PerfectMatchingType perfectMatchingType) {
-		this.matrix = matrix;
+	public SubGraph(CarbonGraph graph, int[] disabledVertices, PerfectMatchingType perfectMatchingType) {
+		this.graph = graph;
 		this.disabledVertices = disabledVertices;
-		this.degrees = degrees;
 
-		nbNodes = matrix.length;
+		nbNodes = graph.getNbCarbons();
 		nbEdges = -1;
 
 		nbPerfectMatchings = -1;
@@ -41,6 +46,10 @@ public class SubGraph {
 			computeNbPerfectMatchingsRispoli();
 			break;
 
+		case EXACT:
+			computeNbPerfectMatchingsExact();
+			break;
+
 		case CHOCO:
 			computeNbPerfectMatchingsChoco();
 			break;
@@ -49,16 +58,15 @@ public class SubGraph {
 
 	}
 
-	public SubGraph(Benzenoid molecule, int[][] matrix, int[] disabledVertices, int[] degrees) {
+	public SubGraph(Benzenoid molecule, int[] disabledVertices) {
 
 		this.molecule = molecule;
-		this.matrix = matrix;
+		this.graph = molecule.getGraph();
 		this.disabledVertices = disabledVertices;
-		this.degrees = degrees;
 
 		disabledHexagons = new int[molecule.getNbHexagons()];
 
-		nbNodes = matrix.length;
+		nbNodes = graph.getNbCarbons();
 		nbEdges = -1;
 
 		nbPerfectMatchings = -1;
@@ -75,26 +83,44 @@ public class SubGraph {
 		return nbNodes;
 	}
 
-	public int[][] getMatrix() {
-		return matrix;
+	public CarbonGraph getGraph() {
+		return graph;
 	}
 
-	public int[] getDegrees() {
-		return degrees;
+	/***
+	 * @return the number of enabled neighbors of carbon
+	 */
+	public int getDegree(int carbon) {
+
+		int degree = 0;
+		for (int i = 0; i < graph.getDegree(carbon); i++) {
+			if (!isDisabled(graph.getNeighbor(carbon, i)))
+				degree++;
+		}
+
+		return degree;
 	}
 
 	public double getNbPerfectMatchings() {
 		return nbPerfectMatchings;
 	}
 
+	/***
+	 * @return the exact number of perfect matchings (only computed with PerfectMatchingType.EXACT, otherwise
+	 * converted from getNbPerfectMatchings())
+	 */
+	public BigInteger getExactNbPerfectMatchings() {
+		if (exactNbPerfectMatchings == null)
+			return BigInteger.valueOf((long) nbPerfectMatchings);
+		return exactNbPerfectMatchings;
+	}
+
 	public int getNbEdges() {
 
 		nbEdges = 0;
-		for (int u = 0; u < nbNodes; u++) {
-			for (int v = u + 1; v < nbNodes; v++) {
-				if (containsEdge(u, v))
-					nbEdges++;
-			}
+		for (int bond = 0; bond < graph.getNbBonds(); bond++) {
+			if (!isDisabled(graph.getFirstCarbon(bond)) && !isDisabled(graph.getSecondCarbon(bond)))
+				nbEdges++;
 		}
 
 		return nbEdges;
@@ -129,15 +155,20 @@ public class SubGraph {
 	}
 
 	public boolean containsEdge(int u, int v) {
-		return matrix[u][v] == 1 && !isDisabled(u) && !isDisabled(v);
+		return !isDisabled(u) && !isDisabled(v) && graph.containsEdge(u, v);
 	}
 
 	private void clean() {
 
+		int[] degrees = new int[nbNodes];
+
 		ArrayList<Integer> leafes = new ArrayList<>();
 		for (int i = 0; i < nbNodes; i++) {
-			if (disabledVertices[i] == 0 && degrees[i] == 1)
-				leafes.add(i);
+			if (disabledVertices[i] == 0) {
+				degrees[i] = getDegree(i);
+				if (degrees[i] == 1)
+					leafes.add(i);
+			}
 		}
 
 		while (leafes.size() > 0) {
@@ -153,18 +184,27 @@ public class SubGraph {
 
 					int candidat = candidats.get(0);
 
+					/*
+					 * Already matched as the neighbor of a previous candidate
+					 */
+					if (disabledVertices[candidat] == 1) {
+						candidats.remove(0);
+						continue;
+					}
+
 					int neighbor = -1;
-					for (int i = 0; i < nbNodes; i++) {
-						if (containsEdge(candidat, i)) {
-							neighbor = i;
-						}
+					for (int i = 0; i < graph.getDegree(candidat); i++) {
+						if (!isDisabled(graph.getNeighbor(candidat, i)))
+							neighbor = graph.getNeighbor(candidat, i);
 					}
 
 					disabledVertices[candidat] = 1;
 
-					for (int i = 0; i < nbNodes; i++) {
+					for (int j = 0; j < graph.getDegree(neighbor); j++) {
 
-						if (containsEdge(neighbor, i)) {
+						int i = graph.getNeighbor(neighbor, j);
+
+						if (!isDisabled(i)) {
 
 							degrees[i]--;
 							if (degrees[i] == 1)
@@ -217,25 +257,35 @@ public class SubGraph {
 		}
 	}
 
-	public static double nbKekuleStructures(SubGraph subGraph) {
+	/***
+	 * Exact determinant of the biadjacency matrix (Bareiss elimination on primitive arrays), the number of perfect
+	 * matchings being its absolute value for a benzenoid
+	 */
+	private void computeNbPerfectMatchingsExact() {
+		if (nbPerfectMatchings != 0) {
+			exactNbPerfectMatchings = exactNbPerfectMatchings(RispoliAlgorithm.buildIntMatrix(this));
+			nbPerfectMatchings = exactNbPerfectMatchings.doubleValue();
+		} else
+			exactNbPerfectMatchings = BigInteger.ZERO;
+	}
 
-		if (subGraph.getNbDisabledHexagons() == subGraph.getNbTotalHexagons())
-			return 0;
+	private static BigInteger exactNbPerfectMatchings(int[][] rispoliMatrix) {
 
-		Matrix rispoliMatrix = RispoliAlgorithm.buildMatrix(subGraph);
+		if (rispoliMatrix == null)
+			return BigInteger.ONE;
 
-		if (rispoliMatrix != null) {
+		if (rispoliMatrix.length != rispoliMatrix[0].length)
+			return BigInteger.ZERO;
 
-			int width = rispoliMatrix.getRowDimension();
-			int height = rispoliMatrix.getColumnDimension();
+		return ExactDeterminant.determinant(rispoliMatrix).abs();
+	}
 
-			if (width == height)
-				return Math.round(Math.abs(rispoliMatrix.det()));
-			else
-				return 0;
+	public static double nbKekuleStructures(SubGraph subGraph) {
 
-		} else
-			return 1;
+		if (subGraph.getNbDisabledHexagons() == subGraph.getNbTotalHexagons())
+			return 0;
+
+		return exactNbPerfectMatchings(RispoliAlgorithm.buildIntMatrix(subGraph)).doubleValue();
 	}
 
 	public void disableHexagon(int hexagonIndex) {
@@ -245,24 +295,12 @@ public class SubGraph {
 
 		int[] hexagon = molecule.getHexagon(hexagonIndex);
 
-		for (Integer u : hexagon) {
+		for (int u : hexagon) {
 
 			boolean disableVertex = true;
-			for (int i = 0; i < molecule.getNbHexagons(); i++) {
-				if (i != hexagonIndex) {
-					if (disabledHexagons[i] == 0) {
-						int[] hexagon2 = molecule.getHexagon(i);
-						for (Integer v : hexagon2) {
-							if (Objects.equals(u, v)) {
-								disableVertex = false;
-								break;
-							}
-						}
-
-						if (!disableVertex)
-							break;
-					}
-				}
+			for (int i = 0; i < graph.getNbHexagons(u) && disableVertex; i++) {
+				if (disabledHexagons[graph.getHexagon(u, i)] == 0)
+					disableVertex = false;
 			}
 
 			if (disableVertex)
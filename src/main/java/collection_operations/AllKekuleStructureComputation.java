@@ -8,6 +8,8 @@ import view.collections.BenzenoidCollectionsManagerPane;
 import view.collections.BenzenoidPane;
 
 import java.util.ArrayList;
+import java.util.BitSet;
+import java.util.List;
 
 public class AllKekuleStructureComputation extends CollectionComputation{
 
@@ -44,12 +46,11 @@ public class AllKekuleStructureComputation extends CollectionComputation{
                     return;
                 }
 
-                ArrayList<int[][]> kekuleStructures = KekuleStructureSolver.computeKekuleStructures(molecule, 20);
+                List<BitSet> kekuleStructures = KekuleStructureSolver.computeKekuleStructures(molecule, 20);
                 molecule.setKekuleStructures(kekuleStructures);
-//TODO kekuleStructure is never used
-                for (int[][] kekuleStructure : kekuleStructures) {
+
+                for (int i = 0; i < kekuleStructures.size(); i++)
                     benzenoidSetPane.addBenzenoid(molecule, BenzenoidCollectionPane.DisplayType.KEKULE);
-                }
             }
         }
         addNewSetPane(benzenoidSetPane, collectionManagerPane);
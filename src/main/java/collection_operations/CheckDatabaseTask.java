@@ -1,15 +1,15 @@
 package collection_operations;
 
+import application.UpdateBus;
 import benzenoid.Benzenoid;
-import javafx.application.Platform;
 import javafx.concurrent.Service;
 import javafx.concurrent.Task;
-import javafx.scene.control.Tooltip;
-import javafx.scene.image.Image;
-import javafx.scene.image.ImageView;
 import view.collections.BenzenoidCollectionPane;
 import view.collections.BenzenoidCollectionsManagerPane;
 import view.collections.BenzenoidPane;
+import view.collections.ConsoleProgress;
+
+import java.util.ArrayList;
 
 public class CheckDatabaseTask extends CollectionTask{
     CheckDatabaseTask() {
@@ -27,9 +27,9 @@ public class CheckDatabaseTask extends CollectionTask{
                 return new Task<>() {
                     @Override
                     protected Void call() {
-                        setIndex(1);
-                        int size = currentPane.getSelectedBenzenoidPanes().size();
-                        for (BenzenoidPane pane : currentPane.getSelectedBenzenoidPanes()) {
+                        ArrayList<BenzenoidPane> panes = new ArrayList<>(currentPane.getSelectedBenzenoidPanes());
+                        ConsoleProgress progress = new ConsoleProgress(collectionManagerPane, currentPane, panes.size());
+                        for (BenzenoidPane pane : panes) {
                             Benzenoid benzenoid = currentPane.getMolecule(pane.getIndex());
 
                             if (benzenoid.getDatabaseInformation().findProperties()) {
@@ -38,21 +38,8 @@ public class CheckDatabaseTask extends CollectionTask{
                                 if (! benzenoid.hasCheckedDatabase())
                                 {
                                   benzenoid.performCheckDatabase();
-                                  Platform.runLater(() -> {
-                                    Image image = new Image("/resources/graphics/icon-database.png");
-                                    ImageView imgView = new ImageView(image);
-                                    imgView.resize(30, 30);
-                                    Tooltip.install(imgView,
-                                            new Tooltip("This molecule exists in the database"));
-                                    pane.getDescriptionBox().getChildren().add(imgView);
-                                    if (getIndex() == 1) {
-                                        collectionManagerPane.log(getIndex() + "/" + size, false);
-                                        setLineIndex(currentPane.getConsole().getNbLines() - 1);
-                                    } else {
-                                        collectionManagerPane.changeLineConsole(getIndex() + "/" + size, getLineIndex());
-                                    }
-                                    setIndex(getIndex() + 1);
-                                  });
+                                  pane.addDatabaseIconLater();
+                                  progress.increment();
                                 }
                             }
                         }
@@ -72,6 +59,7 @@ public class CheckDatabaseTask extends CollectionTask{
                     break;
                 case SUCCEEDED:
                     System.out.println("succeeded");
+                    UpdateBus.getShared().flush();
                     collectionManagerPane.unselectAll();
                     break;
             }
@@ -1,5 +1,6 @@
 package collection_operations;
 
+import application.UpdateBus;
 import javafx.scene.control.MenuItem;
 import view.collections.BenzenoidCollectionPane;
 import view.collections.BenzenoidCollectionsManagerPane;
@@ -27,6 +28,7 @@ public abstract class CollectionOperation {
 	}
 
 	protected void addNewSetPane(BenzenoidCollectionPane benzenoidSetPane, BenzenoidCollectionsManagerPane collectionManagerPane) {
+		UpdateBus.getShared().flush();
 		benzenoidSetPane.refresh();
 		collectionManagerPane.getTabPane().getSelectionModel().clearAndSelect(0);
 		collectionManagerPane.addBenzenoidSetPane(benzenoidSetPane);
@@ -1,12 +1,21 @@
 package collection_operations;
 
+import benzenoid.Benzenoid;
+import collection_operations.ComputationScheduler.Priority;
 import javafx.concurrent.Service;
+import view.collections.BenzenoidCollectionPane;
+import view.collections.BenzenoidCollectionsManagerPane;
+import view.collections.ConsoleProgress;
+
+import java.util.List;
+import java.util.function.Consumer;
 
 public abstract class CollectionTask extends CollectionComputation {
-    private boolean operationIsRunning;
-    private Service<Void> calculateService;
-	private int index;
-	private int lineIndex;
+	private volatile boolean operationIsRunning;
+	private Service<Void> calculateService;
+	private Priority priority = Priority.NORMAL;
+
+	private volatile ScheduledComputation<Benzenoid> computation;
 
 	CollectionTask(String name) {
 		super(name);
@@ -28,19 +37,49 @@ public abstract class CollectionTask extends CollectionComputation {
 		this.operationIsRunning = isRunning;
 	}
 
-	public int getIndex() {
-		return index;
+	public Priority getPriority() {
+		return priority;
 	}
 
-	public void setIndex(int index) {
-		this.index = index;
+	public void setPriority(Priority priority) {
+		this.priority = priority;
 	}
 
-	public int getLineIndex() {
-		return lineIndex;
+	/***
+	 * Stops the operation : the molecules not computed yet are skipped
+	 */
+	public void stop() {
+		setOperationIsRunning(false);
+		ScheduledComputation<Benzenoid> computation = this.computation;
+		if (computation != null)
+			computation.cancel();
 	}
 
-	public void setLineIndex(int lineIndex) {
-		this.lineIndex = lineIndex;
+	/***
+	 * Applies the computation to the molecules on the shared ComputationScheduler, and gives the molecules to the
+	 * consumer on the calling thread, in their order, as soon as they are computed. The progress is written in
+	 * the consoles through the UpdateBus.
+	 */
+	protected void computeInParallel(BenzenoidCollectionsManagerPane collectionManagerPane, BenzenoidCollectionPane currentPane,
+									 List<Benzenoid> molecules, Consumer<Benzenoid> computation, Consumer<Benzenoid> consumer) {
+
+		ConsoleProgress progress = new ConsoleProgress(collectionManagerPane, currentPane, molecules.size());
+
+		ScheduledComputation<Benzenoid> scheduledComputation = ComputationScheduler.getShared().submit(molecules, computation, priority);
+		this.computation = scheduledComputation;
+		if (!operationIsRunning())
+			scheduledComputation.cancel();
+
+		try {
+			scheduledComputation.forEachComputed(molecule -> {
+				consumer.accept(molecule);
+				progress.increment();
+			});
+
+		} catch (InterruptedException e) {
+			Thread.currentThread().interrupt();
+		} finally {
+			this.computation = null;
+		}
 	}
 }
@@ -0,0 +1,130 @@
+package collection_operations;
+
+import java.util.ArrayList;
+import java.util.List;
+import java.util.concurrent.ForkJoinPool;
+import java.util.function.Consumer;
+
+/***
+ * Runs the computations on collections on a single work-stealing pool (one thread per core) shared by all of
+ * them. Each collection is split into chunks : the threads always take a chunk of the computation of highest
+ * priority, and the computations of the same priority take turns, so that computations launched together
+ * share the cores instead of running one after the other.
+ */
+public class ComputationScheduler {
+
+	public enum Priority {
+		LOW, NORMAL, HIGH
+	}
+
+	private static final ComputationScheduler shared = new ComputationScheduler(Runtime.getRuntime().availableProcessors());
+
+	/*
+	 * Number of chunks by thread a collection is split into (more chunks : fairer sharing, less overhead)
+	 */
+	private static final int CHUNKS_BY_THREAD = 4;
+	private static final int MAX_CHUNK_SIZE = 32;
+
+	private final ForkJoinPool pool;
+	private final int parallelism;
+
+	/*
+	 * Computations having chunks not taken yet, the next one to serve first (guarded by this)
+	 */
+	private final List<ScheduledComputation<?>> computations = new ArrayList<>();
+	private int nbWorkers;
+
+	public ComputationScheduler(int parallelism) {
+		if (parallelism < 1)
+			throw new IllegalArgumentException("Invalid parallelism : " + parallelism);
+		this.parallelism = parallelism;
+		pool = new ForkJoinPool(parallelism);
+	}
+
+	/***
+	 * @return the scheduler shared by the collection tasks
+	 */
+	public static ComputationScheduler getShared() {
+		return shared;
+	}
+
+	public int getParallelism() {
+		return parallelism;
+	}
+
+	/***
+	 * Schedules the action on each element. The action must not wait for another computation of the scheduler.
+	 * @return the computation, whose results are given in order by forEachComputed()
+	 */
+	public <T> ScheduledComputation<T> submit(List<T> elements, Consumer<? super T> action, Priority priority) {
+
+		int chunkSize = Math.max(1, Math.min(MAX_CHUNK_SIZE, elements.size() / (CHUNKS_BY_THREAD * parallelism)));
+		ScheduledComputation<T> computation = new ScheduledComputation<>(this, elements, action, priority, chunkSize);
+
+		synchronized (this) {
+			if (computation.getNbChunks() > 0)
+				computations.add(computation);
+			while (nbWorkers < parallelism && nbWorkers < remainingChunks()) {
+				nbWorkers++;
+				pool.execute(this::work);
+			}
+		}
+
+		return computation;
+	}
+
+	synchronized void remove(ScheduledComputation<?> computation) {
+		computations.remove(computation);
+	}
+
+	/*
+	 * Loop of a thread of the pool : computes chunks until none is left
+	 */
+	private void work() {
+		while (true) {
+
+			ScheduledComputation<?> computation;
+			int chunk;
+
+			synchronized (this) {
+				computation = nextComputation();
+				if (computation == null) {
+					nbWorkers--;
+					return;
+				}
+
+				chunk = computation.takeChunk();
+				if (!computation.hasChunksLeft())
+					computations.remove(computation);
+			}
+
+			computation.computeChunk(chunk);
+		}
+	}
+
+	/*
+	 * First computation of highest priority, moved to the end of the list so that the next ones of the same
+	 * priority are served before it
+	 */
+	private ScheduledComputation<?> nextComputation() {
+
+		int best = -1;
+		for (int i = 0; i < computations.size(); i++)
+			if (best == -1 || computations.get(i).getPriority().compareTo(computations.get(best).getPriority()) > 0)
+				best = i;
+
+		if (best == -1)
+			return null;
+
+		ScheduledComputation<?> computation = computations.remove(best);
+		computations.add(computation);
+		return computation;
+	}
+
+	private int remainingChunks() {
+		int nbChunks = 0;
+		for (ScheduledComputation<?> computation : computations)
+			nbChunks += computation.getNbChunksLeft();
+		return nbChunks;
+	}
+}
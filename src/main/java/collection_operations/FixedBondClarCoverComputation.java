@@ -2,13 +2,15 @@ package collection_operations;
 
 import benzenoid.Benzenoid;
 import solution.ClarCoverSolution;
-import solveur.ClarCoverSolver;
+import solveur.ClarCoverEnumerator;
+import solveur.KekuleStructureEnumerator;
 import utils.Utils;
 import view.collections.BenzenoidCollectionPane;
 import view.collections.BenzenoidCollectionsManagerPane;
 import view.collections.BenzenoidPane;
 
 import java.util.ArrayList;
+import java.util.Iterator;
 
 public class FixedBondClarCoverComputation extends CollectionComputation{
 
@@ -42,78 +44,94 @@ public class FixedBondClarCoverComputation extends CollectionComputation{
         System.out.println("Computing Clar Cover of " + size + "benzenoids");
         collectionManagerPane.log("Clar Cover (" + size + "benzenoids)", true);
 
-        for (BenzenoidPane benzenoidPane : panes) {
-            Benzenoid molecule = currentPane.getMolecule(benzenoidPane.getIndex());
-            ArrayList<ClarCoverSolution> clarCoverSolutions = ClarCoverSolver.solve(molecule);
-            if (clarCoverSolutions.size() > 0) {
-                // 0 = non défini // 1 = pas de cercle // 2 = cercle
-                int[] circles = new int[molecule.getNbHexagons()];
-                // (i,j) = 1 => full simple // (i,j) = 2 => full double
-                int[][] bonds = new int[molecule.getNbCarbons()][molecule.getNbCarbons()];
-                for (ClarCoverSolution solution : clarCoverSolutions) {
-
-                    for (int i = 0; i < molecule.getNbHexagons(); i++) {
-                        if (solution.isCircle(i)) {
-                            for (int j = 0; j < 6; j++) {
-                                int k = (j + 1) % 6;
-
-                                int u = molecule.getHexagon(i)[j];
-                                int v = molecule.getHexagon(i)[k];
-
-                                bonds[u][v] = -1;
-                                bonds[v][u] = -1;
-                            }
-
-                            if (circles[i] == 0) // non défini
-                                circles[i] = 2;
-
-                            if (circles[i] == 1) // pas de rond
-                                circles[i] = -1;
-                        }
-
-                        else {
-                            if (circles[i] == 0) // non défini
-                                circles[i] = 1;
-
-                            if (circles[i] == 2) // rond
-                                circles[i] = -1;
-                        }
-                    }
+        ArrayList<Benzenoid> molecules = new ArrayList<>(size);
+        for (BenzenoidPane benzenoidPane : panes)
+            molecules.add(currentPane.getMolecule(benzenoidPane.getIndex()));
+
+        molecules.parallelStream().forEach(FixedBondClarCoverComputation::computeFixedBonds);
+
+        for (Benzenoid molecule : molecules)
+            if (molecule.getClarCoverSolution() != null)
+                benzenoidSetPane.addBenzenoid(molecule, BenzenoidCollectionPane.DisplayType.CLAR_COVER_FIXED);
+
+        addNewSetPane(benzenoidSetPane, collectionManagerPane);
+    }
+
+    /*
+     * Bonds and circles which are the same in all the optimal Clar covers of the molecule
+     */
+    private static void computeFixedBonds(Benzenoid molecule) {
+
+        int[][] moleculeBonds = KekuleStructureEnumerator.bonds(molecule);
+
+        // 0 = non défini // 1 = pas de cercle // 2 = cercle
+        int[] circles = new int[molecule.getNbHexagons()];
+        // (i,j) = 1 => full simple // (i,j) = 2 => full double
+        int[][] bonds = new int[molecule.getNbCarbons()][molecule.getNbCarbons()];
+
+        ClarCoverSolution clarCoverSolution = null;
+        Iterator<ClarCoverSolution> solutions = ClarCoverEnumerator.stream(molecule, false).iterator();
+
+        while (solutions.hasNext()) {
+
+            ClarCoverSolution solution = solutions.next();
+            clarCoverSolution = solution;
+
+            for (int i = 0; i < molecule.getNbHexagons(); i++) {
+                if (solution.isCircle(i)) {
+                    for (int j = 0; j < 6; j++) {
+                        int k = (j + 1) % 6;
 
-                    for (int i = 0; i < molecule.getNbCarbons(); i++) {
-                        for (int j = (i + 1); j < molecule.getNbCarbons(); j++) {
-                            if (molecule.getEdgeMatrix()[i][j] == 1) {
-                                if (solution.isDoubleBond(i, j)) {
-                                    if (bonds[i][j] == 0) {
-                                        bonds[i][j] = 2;
-                                        bonds[j][i] = 2;
-                                    } else if (bonds[i][j] == 1) {
-                                        bonds[i][j] = -1;
-                                        bonds[j][i] = -1;
-                                    }
-                                } else {
-                                    if (bonds[i][j] == 0) {
-                                        bonds[i][j] = 1;
-                                        bonds[j][i] = 1;
-                                    } else if (bonds[i][j] == 2) {
-                                        bonds[i][j] = -1;
-                                        bonds[j][i] = -1;
-                                    }
-                                }
-                            }
-                        }
+                        int u = molecule.getHexagon(i)[j];
+                        int v = molecule.getHexagon(i)[k];
+
+                        bonds[u][v] = -1;
+                        bonds[v][u] = -1;
                     }
+
+                    if (circles[i] == 0) // non défini
+                        circles[i] = 2;
+
+                    if (circles[i] == 1) // pas de rond
+                        circles[i] = -1;
                 }
-                System.out.print("");
-                molecule.setFixedBonds(bonds);
-                molecule.setFixedCircles(circles);
 
-                ClarCoverSolution clarCoverSolution = clarCoverSolutions.get(clarCoverSolutions.size() - 1);
-                molecule.setClarCoverSolution(clarCoverSolution);
-                benzenoidSetPane.addBenzenoid(molecule, BenzenoidCollectionPane.DisplayType.CLAR_COVER_FIXED);
+                else {
+                    if (circles[i] == 0) // non défini
+                        circles[i] = 1;
 
+                    if (circles[i] == 2) // rond
+                        circles[i] = -1;
+                }
+            }
+
+            for (int[] bond : moleculeBonds) {
+                int i = bond[0];
+                int j = bond[1];
+                if (solution.isDoubleBond(i, j)) {
+                    if (bonds[i][j] == 0) {
+                        bonds[i][j] = 2;
+                        bonds[j][i] = 2;
+                    } else if (bonds[i][j] == 1) {
+                        bonds[i][j] = -1;
+                        bonds[j][i] = -1;
+                    }
+                } else {
+                    if (bonds[i][j] == 0) {
+                        bonds[i][j] = 1;
+                        bonds[j][i] = 1;
+                    } else if (bonds[i][j] == 2) {
+                        bonds[i][j] = -1;
+                        bonds[j][i] = -1;
+                    }
+                }
             }
         }
-        addNewSetPane(benzenoidSetPane, collectionManagerPane);
+
+        if (clarCoverSolution != null) {
+            molecule.setFixedBonds(bonds);
+            molecule.setFixedCircles(circles);
+        }
+        molecule.setClarCoverSolution(clarCoverSolution);
     }
 }
@@ -1,12 +1,10 @@
 package collection_operations;
 
-import javafx.application.Platform;
 import javafx.concurrent.Service;
 import javafx.concurrent.Task;
 import javafx.scene.control.TextInputDialog;
 import benzenoid.Benzenoid;
-import solution.ClarCoverSolution;
-import solveur.ClarCoverForcedRadicalsSolver;
+import solveur.ClarCoverEnumerator;
 import utils.Utils;
 import view.collections.BenzenoidCollectionPane;
 import view.collections.BenzenoidCollectionsManagerPane;
@@ -43,7 +41,7 @@ public class ForcedSingleClarCoverTask extends CollectionTask{
         BenzenoidCollectionPane benzenoidSetPane = new BenzenoidCollectionPane(collectionManagerPane, collectionManagerPane.getBenzenoidSetPanes().size(),
                 collectionManagerPane.getNextCollectionPaneLabel(currentPane.getName() + "-" + name));
 
-        collectionManagerPane.getApplication().addTask("Clar cover");
+        collectionManagerPane.getApplication().addTask("Clar cover", this::stop);
 
         setOperationIsRunning(true);
 
@@ -62,36 +60,20 @@ public class ForcedSingleClarCoverTask extends CollectionTask{
 
                         ArrayList<BenzenoidPane> panes = new ArrayList<>(selectedBenzenoidPanes);
 
-                        setIndex(0);
                         int size = panes.size();
 
                         System.out.println("Computing Clar Cover of " + size + "benzenoids");
-                        collectionManagerPane.log("Clar Cover (" + size + "benzenoids)", true);
-
-                        for (BenzenoidPane benzenoidPane : panes) {
-                            if (operationIsRunning()) {
-                                Benzenoid molecule = currentPane.getMolecule(benzenoidPane.getIndex());
-
-                                ArrayList<ClarCoverSolution> clarCoverSolutions = ClarCoverForcedRadicalsSolver.solve(molecule, nbRadicals);
-                                if (clarCoverSolutions.size() > 0) {
-                                    ClarCoverSolution clarCoverSolution = clarCoverSolutions
-                                            .get(clarCoverSolutions.size() - 1);
-                                    molecule.setClarCoverSolution(clarCoverSolution);
-                                    benzenoidSetPane.addBenzenoid(molecule, BenzenoidCollectionPane.DisplayType.CLAR_COVER);
-                                }
-                                setIndex(getIndex() + 1);
-                                System.out.println(getIndex() + " / " + size);
-
-                                Platform.runLater(() -> {
-                                    if (getIndex() == 1) {
-                                        collectionManagerPane.log(getIndex() + " / " + size, false);
-                                        setLineIndex(currentPane.getConsole().getNbLines() - 1);
-                                    } else
-                                        collectionManagerPane.changeLineConsole(getIndex() + " / " + size, getLineIndex());
-                                });
-
-                            }
-                        }
+                        collectionManagerPane.logLater("Clar Cover (" + size + "benzenoids)", true);
+
+                        ArrayList<Benzenoid> molecules = new ArrayList<>(size);
+                        for (BenzenoidPane benzenoidPane : panes)
+                            molecules.add(currentPane.getMolecule(benzenoidPane.getIndex()));
+
+                        computeInParallel(collectionManagerPane, currentPane, molecules, molecule -> molecule.setClarCoverSolution(
+                                ClarCoverEnumerator.stream(molecule, nbRadicals, false).findFirst().orElse(null)), molecule -> {
+                            if (molecule.getClarCoverSolution() != null)
+                                benzenoidSetPane.addBenzenoid(molecule, BenzenoidCollectionPane.DisplayType.CLAR_COVER);
+                        });
 
                         return null;
                     }
@@ -1,25 +1,20 @@
 package collection_operations;
 
-import javafx.application.Platform;
+import application.UpdateBus;
 import javafx.concurrent.Service;
 import javafx.concurrent.Task;
-import javafx.scene.control.Tooltip;
-import javafx.scene.image.Image;
-import javafx.scene.image.ImageView;
 import benzenoid.Benzenoid;
 import spectrums.ResultLogFile;
 import utils.Utils;
 import view.collections.BenzenoidCollectionPane;
 import view.collections.BenzenoidCollectionsManagerPane;
 import view.collections.BenzenoidPane;
+import view.collections.ConsoleProgress;
 
 import java.util.ArrayList;
 import java.util.Optional;
 
 public class IRSpectraTask extends CollectionTask {
-    private int indexDatabase;
-    private int lineIndexDatabase;
-
     IRSpectraTask() {
         super("IR spectra");
     }
@@ -52,8 +47,7 @@ public class IRSpectraTask extends CollectionTask {
 
                     @Override
                     protected Void call() {
-                        indexDatabase = 1;
-                        int size = panes.size();
+                        ConsoleProgress progress = new ConsoleProgress(collectionManagerPane, currentPane, panes.size());
 
                         for (BenzenoidPane pane : panes) {
 
@@ -66,23 +60,8 @@ public class IRSpectraTask extends CollectionTask {
                                 if (! benzenoid.hasCheckedDatabase())
                                 {
                                   benzenoid.performCheckDatabase();
-                                  Platform.runLater(() -> {
-                                    Image image = new Image("/resources/graphics/icon-database.png");
-                                    ImageView imgView = new ImageView(image);
-                                    imgView.resize(30, 30);
-                                    Tooltip.install(imgView,
-                                            new Tooltip("This molecule exists in the database"));
-                                    pane.getDescriptionBox().getChildren().add(imgView);
-
-                                    if (indexDatabase == 1) {
-                                        collectionManagerPane.log(indexDatabase + "/" + size, false);
-                                        lineIndexDatabase = currentPane.getConsole().getNbLines() - 1;
-                                    } else {
-                                        collectionManagerPane.changeLineConsole(indexDatabase + "/" + size, lineIndexDatabase);
-                                    }
-
-                                    indexDatabase++;
-                                  });
+                                  pane.addDatabaseIconLater();
+                                  progress.increment();
 
                                   pane.buildFrequencies();
                                 }
@@ -109,6 +88,7 @@ public class IRSpectraTask extends CollectionTask {
 
                 case SUCCEEDED:
                     System.out.println("succeeded");
+                    UpdateBus.getShared().flush();
                     collectionManagerPane.unselectAll();
                     collectionManagerPane.displayIRSpectra(panes, currentPane);
                     break;
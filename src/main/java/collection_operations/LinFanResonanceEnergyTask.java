@@ -1,6 +1,8 @@
 package collection_operations;
 
 import benzenoid.Benzenoid;
+import javafx.concurrent.Service;
+import javafx.concurrent.Task;
 import utils.Utils;
 import view.collections.BenzenoidCollectionPane;
 import view.collections.BenzenoidCollectionsManagerPane;
@@ -22,6 +24,7 @@ public class LinFanResonanceEnergyTask extends CollectionTask{
             return;
         }
 
+        setOperationIsRunning(true);
         ArrayList<BenzenoidPane> selectedBenzenoidPanes = currentPane.getSelectedBenzenoidPanes();
 
         if (selectedBenzenoidPanes.size() == 0)
@@ -30,11 +33,51 @@ public class LinFanResonanceEnergyTask extends CollectionTask{
         String name = "RE Lin&Fan";
         BenzenoidCollectionPane benzenoidSetPane = new BenzenoidCollectionPane(collectionManagerPane, collectionManagerPane.getBenzenoidSetPanes().size(),
                 collectionManagerPane.getNextCollectionPaneLabel(currentPane.getName() + "-" + name));
+        collectionManagerPane.getApplication().addTask(name, this::stop);
+        setCalculateService(new Service<>() {
 
-        for (BenzenoidPane benzenoidPane : selectedBenzenoidPanes) {
-            Benzenoid molecule = currentPane.getMolecule(benzenoidPane.getIndex());
-            benzenoidSetPane.addBenzenoid(molecule, BenzenoidCollectionPane.DisplayType.RE_LIN_FAN);
-        }
-        addNewSetPane(benzenoidSetPane, collectionManagerPane);
+            @Override
+            protected Task<Void> createTask() {
+                return new Task<>() {
+
+                    @Override
+                    protected Void call() {
+
+                        ArrayList<BenzenoidPane> panes = new ArrayList<>(selectedBenzenoidPanes);
+
+                        int size = panes.size();
+
+                        collectionManagerPane.logLater(name + " (" + size + " benzenoids)", true);
+
+                        ArrayList<Benzenoid> molecules = new ArrayList<>(size);
+                        for (BenzenoidPane benzenoidPane : panes)
+                            molecules.add(currentPane.getMolecule(benzenoidPane.getIndex()));
+
+                        computeInParallel(collectionManagerPane, currentPane, molecules, Benzenoid::getLinFanAromaticity,
+                                molecule -> benzenoidSetPane.addBenzenoid(molecule, BenzenoidCollectionPane.DisplayType.RE_LIN_FAN));
+
+                        return null;
+                    }
+
+                };
+            }
+        });
+
+        getCalculateService().stateProperty().addListener((observable, oldValue, newValue) -> {
+            switch (newValue) {
+                case FAILED:
+                    Utils.alert("No selected benzenoid");
+                    setOperationIsRunning(false);
+                    break;
+                case CANCELLED:
+                case SUCCEEDED:
+                    addNewSetPane(benzenoidSetPane, collectionManagerPane);
+                    collectionManagerPane.getApplication().removeTask(name);
+                    setOperationIsRunning(false);
+                    break;
+            }
+        });
+
+        getCalculateService().start();
     }
 }
@@ -1,6 +1,5 @@
 package collection_operations;
 
-import javafx.application.Platform;
 import javafx.concurrent.Service;
 import javafx.concurrent.Task;
 import benzenoid.Benzenoid;
@@ -35,7 +34,7 @@ public class LinResonanceEnergyTask extends CollectionTask {
 		String name = "RE Lin";
 		BenzenoidCollectionPane benzenoidSetPane = new BenzenoidCollectionPane(collectionManagerPane, collectionManagerPane.getBenzenoidSetPanes().size(),
 				collectionManagerPane.getNextCollectionPaneLabel(currentPane.getName() + "-" + name));
-		collectionManagerPane.getApplication().addTask("RE Lin");
+		collectionManagerPane.getApplication().addTask("RE Lin", this::stop);
 		setCalculateService(new Service<>() {
 
 			@Override
@@ -47,29 +46,17 @@ public class LinResonanceEnergyTask extends CollectionTask {
 
 						ArrayList<BenzenoidPane> panes = new ArrayList<>(selectedBenzenoidPanes);
 
-						setIndex(0);
 						int size = panes.size();
 
 						System.out.println("Computing resonance energy of " + size + " benzenoids.");
-						collectionManagerPane.log("RE Lin (" + size + " benzenoids)", true);
-
-						for (BenzenoidPane benzenoidPane : panes) {
-							if (operationIsRunning()) {
-								Benzenoid molecule = currentPane.getMolecule(benzenoidPane.getIndex());
-								molecule.getAromaticity();
-								benzenoidSetPane.addBenzenoid(molecule, DisplayType.RE_LIN);
-								setIndex(getIndex() + 1);
-								System.out.println(getIndex() + " / " + size);
-
-								Platform.runLater(() -> {
-									if (getIndex() == 1) {
-										collectionManagerPane.log(getIndex() + " / " + size, false);
-										setLineIndex(currentPane.getConsole().getNbLines() - 1);
-									} else
-										collectionManagerPane.changeLineConsole(getIndex() + " / " + size, getLineIndex());
-								});
-							}
-						}
+						collectionManagerPane.logLater("RE Lin (" + size + " benzenoids)", true);
+
+						ArrayList<Benzenoid> molecules = new ArrayList<>(size);
+						for (BenzenoidPane benzenoidPane : panes)
+							molecules.add(currentPane.getMolecule(benzenoidPane.getIndex()));
+
+						computeInParallel(collectionManagerPane, currentPane, molecules, Benzenoid::getAromaticity,
+								molecule -> benzenoidSetPane.addBenzenoid(molecule, DisplayType.RE_LIN));
 
 						return null;
 					}
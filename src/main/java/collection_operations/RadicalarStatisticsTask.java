@@ -1,9 +1,9 @@
 package collection_operations;
 
-import javafx.application.Platform;
 import javafx.concurrent.Service;
 import javafx.concurrent.Task;
 import benzenoid.Benzenoid;
+import collection_operations.ComputationScheduler.Priority;
 import solution.ClarCoverSolution;
 import solveur.ClarCoverSolver;
 import utils.Utils;
@@ -12,11 +12,14 @@ import view.collections.BenzenoidCollectionsManagerPane;
 import view.collections.BenzenoidPane;
 
 import java.util.ArrayList;
+import java.util.Set;
+import java.util.concurrent.ConcurrentHashMap;
 
 public class RadicalarStatisticsTask extends CollectionTask{
 
     RadicalarStatisticsTask() {
         super("Radicalar statistics");
+        setPriority(Priority.LOW);
     }
 
     @Override
@@ -33,7 +36,7 @@ public class RadicalarStatisticsTask extends CollectionTask{
         BenzenoidCollectionPane benzenoidSetPane = new BenzenoidCollectionPane(collectionManagerPane, collectionManagerPane.getBenzenoidSetPanes().size(),
                 collectionManagerPane.getNextCollectionPaneLabel(currentPane.getName() + "-" + name));
 
-        collectionManagerPane.getApplication().addTask("Radicalar statistics");
+        collectionManagerPane.getApplication().addTask("Radicalar statistics", this::stop);
 
         setOperationIsRunning(true);
 
@@ -52,34 +55,27 @@ public class RadicalarStatisticsTask extends CollectionTask{
 
                         ArrayList<BenzenoidPane> panes = new ArrayList<>(selectedBenzenoidPanes);
 
-                        setIndex(0);
                         int size = panes.size();
 
                         System.out.println("Computing radicalar statistics of " + size + "benzenoids");
-                        collectionManagerPane.log("Radicalar statistics (" + size + "benzenoids)", true);
-
-                        for (BenzenoidPane benzenoidPane : panes) {
-                            if (operationIsRunning()) {
-                                Benzenoid molecule = currentPane.getMolecule(benzenoidPane.getIndex());
-
-                                ArrayList<ClarCoverSolution> clarCoverSolutions = ClarCoverSolver.solve(molecule);
-                                if (clarCoverSolutions.size() > 0) {
-                                    molecule.setClarCoverSolutions(clarCoverSolutions);
-                                    benzenoidSetPane.addBenzenoid(molecule, BenzenoidCollectionPane.DisplayType.RADICALAR);
-                                }
-                                setIndex(getIndex() + 1);
-                                System.out.println(getIndex() + " / " + size);
-
-                                Platform.runLater(() -> {
-                                    if (getIndex() == 1) {
-                                        collectionManagerPane.log(getIndex() + " / " + size, false);
-                                        setLineIndex(currentPane.getConsole().getNbLines() - 1);
-                                    } else
-                                        collectionManagerPane.changeLineConsole(getIndex() + " / " + size, getLineIndex());
-                                });
+                        collectionManagerPane.logLater("Radicalar statistics (" + size + "benzenoids)", true);
 
+                        ArrayList<Benzenoid> molecules = new ArrayList<>(size);
+                        for (BenzenoidPane benzenoidPane : panes)
+                            molecules.add(currentPane.getMolecule(benzenoidPane.getIndex()));
+
+                        Set<Benzenoid> radicalarMolecules = ConcurrentHashMap.newKeySet();
+
+                        computeInParallel(collectionManagerPane, currentPane, molecules, molecule -> {
+                            ArrayList<ClarCoverSolution> clarCoverSolutions = ClarCoverSolver.solve(molecule);
+                            if (clarCoverSolutions.size() > 0) {
+                                molecule.setClarCoverSolutions(clarCoverSolutions);
+                                radicalarMolecules.add(molecule);
                             }
-                        }
+                        }, molecule -> {
+                            if (radicalarMolecules.contains(molecule))
+                                benzenoidSetPane.addBenzenoid(molecule, BenzenoidCollectionPane.DisplayType.RADICALAR);
+                        });
 
                         return null;
                     }
@@ -101,7 +97,7 @@ public class RadicalarStatisticsTask extends CollectionTask{
                 case SUCCEEDED:
                     setOperationIsRunning(false);
                     addNewSetPane(benzenoidSetPane, collectionManagerPane);
-                    collectionManagerPane.getApplication().removeTask("Clar cover");
+                    collectionManagerPane.getApplication().removeTask("Radicalar statistics");
                     break;
             }
         });
@@ -1,6 +1,5 @@
 package collection_operations;
 
-import javafx.application.Platform;
 import javafx.concurrent.Service;
 import javafx.concurrent.Task;
 import benzenoid.Benzenoid;
@@ -28,7 +27,7 @@ public class RingBoundOrderTask extends CollectionTask{
         String name = "RBO";
         BenzenoidCollectionPane benzenoidSetPane = new BenzenoidCollectionPane(collectionManagerPane, collectionManagerPane.getBenzenoidSetPanes().size(),
                 collectionManagerPane.getNextCollectionPaneLabel(currentPane.getName() + "-" + name));
-        collectionManagerPane.getApplication().addTask("Ring Bond Order");
+        collectionManagerPane.getApplication().addTask("Ring Bond Order", this::stop);
         setOperationIsRunning(true);
         if (selectedBenzenoidPanes.size() == 0) {
             collectionManagerPane.selectAll();
@@ -40,27 +39,14 @@ public class RingBoundOrderTask extends CollectionTask{
                     @Override
                     protected Void call() {
                         ArrayList<BenzenoidPane> panes = new ArrayList<>(selectedBenzenoidPanes);
-                        setIndex(0);
                         int size = panes.size();
                         System.out.println("Computing Clar Cover of " + size + "benzenoids");
-                        collectionManagerPane.log("Clar cover (" + size + " benzenoids)", true);
-                        for (BenzenoidPane benzenoidPane : panes) {
-                            if (operationIsRunning()) {
-                                Benzenoid molecule = currentPane.getMolecule(benzenoidPane.getIndex());
-                                molecule.getRBO();
-                                benzenoidSetPane.addBenzenoid(molecule, BenzenoidCollectionPane.DisplayType.RBO);
-                                setIndex(getIndex() + 1);
-                                System.out.println(getIndex() + " / " + size);
-                                Platform.runLater(() -> {
-                                    if (getIndex() == 1) {
-                                        collectionManagerPane.log(getIndex() + " / " + size, true);
-                                        setLineIndex(currentPane.getConsole().getNbLines() - 1);
-                                    } else
-                                        collectionManagerPane.changeLineConsole(getIndex() + " / " + size, getLineIndex());
-                                });
-
-                            }
-                        }
+                        collectionManagerPane.logLater("Clar cover (" + size + " benzenoids)", true);
+                        ArrayList<Benzenoid> molecules = new ArrayList<>(size);
+                        for (BenzenoidPane benzenoidPane : panes)
+                            molecules.add(currentPane.getMolecule(benzenoidPane.getIndex()));
+                        computeInParallel(collectionManagerPane, currentPane, molecules, Benzenoid::getRBO,
+                                molecule -> benzenoidSetPane.addBenzenoid(molecule, BenzenoidCollectionPane.DisplayType.RBO));
                         return null;
                     }
                 };
@@ -0,0 +1,150 @@
+package collection_operations;
+
+import collection_operations.ComputationScheduler.Priority;
+
+import java.util.List;
+import java.util.concurrent.atomic.AtomicInteger;
+import java.util.function.Consumer;
+
+/***
+ * Action applied by a ComputationScheduler to the elements of a list, chunk by chunk. The elements are given
+ * back in their order, as soon as their chunk is computed, and the computation can be cancelled from any
+ * thread.
+ */
+public class ScheduledComputation<T> {
+
+	private final ComputationScheduler scheduler;
+	private final List<T> elements;
+	private final Consumer<? super T> action;
+	private final Priority priority;
+
+	private final int chunkSize;
+	private final int nbChunks;
+	private int nextChunk; // guarded by the scheduler
+
+	private final boolean[] computedChunks; // guarded by this
+	private final AtomicInteger nbComputed = new AtomicInteger();
+
+	private volatile boolean cancelled;
+	private volatile Throwable failure;
+
+	ScheduledComputation(ComputationScheduler scheduler, List<T> elements, Consumer<? super T> action, Priority priority,
+						 int chunkSize) {
+		this.scheduler = scheduler;
+		this.elements = elements;
+		this.action = action;
+		this.priority = priority;
+		this.chunkSize = chunkSize;
+		nbChunks = (elements.size() + chunkSize - 1) / chunkSize;
+		computedChunks = new boolean[nbChunks];
+	}
+
+	/***
+	 * Gives the elements to the consumer on the calling thread, in their order, waiting for their computation.
+	 * Returns without giving the other elements once the computation is cancelled, and throws a RuntimeException
+	 * if the action failed on an element.
+	 */
+	public void forEachComputed(Consumer<? super T> consumer) throws InterruptedException {
+
+		try {
+			for (int chunk = 0; chunk < nbChunks; chunk++) {
+
+				synchronized (this) {
+					while (!computedChunks[chunk] && !cancelled)
+						wait();
+				}
+
+				if (cancelled) {
+					throwFailure();
+					return;
+				}
+
+				for (int i = chunk * chunkSize; i < Math.min(elements.size(), (chunk + 1) * chunkSize); i++) {
+					if (cancelled) {
+						throwFailure();
+						return;
+					}
+					consumer.accept(elements.get(i));
+				}
+			}
+
+		} catch (InterruptedException e) {
+			cancel();
+			throw e;
+		}
+	}
+
+	/*
+	 * A failure of the action cancels the computation : it is thrown instead of returning as for a cancellation
+	 * by the caller (the failure is set before the cancellation)
+	 */
+	private void throwFailure() {
+		if (failure != null)
+			throw new RuntimeException(failure);
+	}
+
+	/***
+	 * Stops the computation : the chunks not started are dropped, and the ones being computed stop at their
+	 * next element
+	 */
+	public void cancel() {
+		cancelled = true;
+		scheduler.remove(this);
+		synchronized (this) {
+			notifyAll();
+		}
+	}
+
+	public boolean isCancelled() {
+		return cancelled;
+	}
+
+	public Priority getPriority() {
+		return priority;
+	}
+
+	public int size() {
+		return elements.size();
+	}
+
+	/***
+	 * @return the number of elements computed so far (in any order)
+	 */
+	public int getNbComputed() {
+		return nbComputed.get();
+	}
+
+	int getNbChunks() {
+		return nbChunks;
+	}
+
+	int getNbChunksLeft() {
+		return nbChunks - nextChunk;
+	}
+
+	boolean hasChunksLeft() {
+		return nextChunk < nbChunks;
+	}
+
+	int takeChunk() {
+		return nextChunk++;
+	}
+
+	void computeChunk(int chunk) {
+
+		for (int i = chunk * chunkSize; i < Math.min(elements.size(), (chunk + 1) * chunkSize) && !cancelled; i++) {
+			try {
+				action.accept(elements.get(i));
+				nbComputed.incrementAndGet();
+			} catch (Throwable e) {
+				failure = e;
+				cancel();
+			}
+		}
+
+		synchronized (this) {
+			computedChunks[chunk] = true;
+			notifyAll();
+		}
+	}
+}
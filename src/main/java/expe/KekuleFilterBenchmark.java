@@ -0,0 +1,81 @@
+package expe;
+
+import generator.GeneralModel;
+import generator.properties.model.ModelPropertySet;
+import generator.properties.model.expression.BinaryNumericalExpression;
+import generator.properties.model.expression.SubjectExpression;
+
+import java.util.Arrays;
+
+/***
+ * Compares the generation of the benzenoids respecting a "kekule" (or "concealed") property with the
+ * propagators of the model, to the former approach : generating all the benzenoids and checking each of them
+ * once built.
+ * Usage : KekuleFilterBenchmark nbHexagons operator value (e.g. 7 >= 20)
+ *         KekuleFilterBenchmark nbHexagons concealed
+ */
+public enum KekuleFilterBenchmark {
+	;
+
+	private static final int NB_RUNS = 3;
+
+	public static void main(String[] args) {
+
+		if (args.length < 2) {
+			System.out.println("Usage : KekuleFilterBenchmark nbHexagons operator value | nbHexagons concealed");
+			return;
+		}
+
+		int nbHexagons = Integer.parseInt(args[0]);
+
+		ModelPropertySet filteredSet = buildPropertySet(nbHexagons);
+		if ("concealed".equals(args[1]))
+			filteredSet.getById("concealed").addExpression(new SubjectExpression("concealed"));
+		else
+			filteredSet.getById("kekule").addExpression(new BinaryNumericalExpression("kekuleNumber", args[1], Integer.parseInt(args[2])));
+
+		/*
+		 * Each approach is run several times (alternately), so that the times are measured once the JIT has
+		 * compiled the solver and the propagators
+		 */
+
+		int nbSolutions = 0;
+		int[] nbChecked = new int[2];
+		long propagatorsTime = Long.MAX_VALUE;
+		long postCheckTime = Long.MAX_VALUE;
+
+		for (int run = 0; run < NB_RUNS; run++) {
+
+			GeneralModel model = new GeneralModel(filteredSet);
+			model.setInTestMode(true);
+
+			long begin = System.currentTimeMillis();
+			nbSolutions = model.generate(molecule -> {});
+			propagatorsTime = Math.min(propagatorsTime, System.currentTimeMillis() - begin);
+
+			GeneralModel allModel = new GeneralModel(buildPropertySet(nbHexagons));
+			allModel.setInTestMode(true);
+
+			Arrays.fill(nbChecked, 0);
+
+			begin = System.currentTimeMillis();
+			allModel.generate(molecule -> {
+				nbChecked[0]++;
+				if (molecule.respectPostProcessing(filteredSet))
+					nbChecked[1]++;
+			});
+			postCheckTime = Math.min(postCheckTime, System.currentTimeMillis() - begin);
+		}
+
+		System.out.println(nbHexagons + " hexagons, " + String.join(" ", args).substring(args[0].length() + 1));
+		System.out.println("propagators : " + nbSolutions + " solutions in " + propagatorsTime + " ms (best of " + NB_RUNS + ")");
+		System.out.println("post-check  : " + nbChecked[1] + " solutions (" + nbChecked[0] + " built) in "
+				+ postCheckTime + " ms (best of " + NB_RUNS + ")");
+	}
+
+	private static ModelPropertySet buildPropertySet(int nbHexagons) {
+		ModelPropertySet modelPropertySet = new ModelPropertySet();
+		modelPropertySet.getById("hexagons").addExpression(new BinaryNumericalExpression("hexagons", "=", nbHexagons));
+		return modelPropertySet;
+	}
+}
@@ -0,0 +1,75 @@
+package expe;
+
+import generator.GeneralModel;
+import generator.properties.model.ModelPropertySet;
+import generator.properties.model.expression.BinaryNumericalExpression;
+import nogood.NoGoodStore;
+
+import java.util.ArrayList;
+
+/***
+ * Compares the hashed no-good store with the former ArrayList<ArrayList<Integer>> scan. The no-goods of a
+ * generation are replayed in both structures (each one is added, then looked up again as a duplicate).
+ * Usage : NoGoodStoreBenchmark [nbHexagons] (10 by default)
+ */
+public enum NoGoodStoreBenchmark {
+	;
+
+	public static void main(String[] args) {
+
+		int nbHexagons = args.length > 0 ? Integer.parseInt(args[0]) : 10;
+
+		ModelPropertySet modelPropertySet = new ModelPropertySet();
+		modelPropertySet.getById("hexagons").addExpression(new BinaryNumericalExpression("hexagons", "=", nbHexagons));
+
+		GeneralModel model = new GeneralModel(modelPropertySet);
+		model.setInTestMode(true);
+
+		long begin = System.currentTimeMillis();
+		int nbSolutions = model.generate(molecule -> {});
+		long generationTime = System.currentTimeMillis() - begin;
+
+		NoGoodStore recorded = model.getNoGoods();
+
+		/*
+		 * Former structure
+		 */
+
+		begin = System.nanoTime();
+		ArrayList<ArrayList<Integer>> list = new ArrayList<>();
+		for (int pass = 0; pass < 2; pass++) {
+			for (int i = 0; i < recorded.size(); i++) {
+				ArrayList<Integer> nogood = new ArrayList<>();
+				for (int hexagon : recorded.get(i))
+					nogood.add(hexagon);
+				if (!list.contains(nogood))
+					list.add(nogood);
+			}
+		}
+		long listTime = System.nanoTime() - begin;
+
+		long listMemory = 16L + 4L * list.size();
+		for (ArrayList<Integer> nogood : list) {
+			listMemory += 24 + 16 + 4L * nogood.size();
+			for (Integer hexagon : nogood)
+				if (hexagon > 127)
+					listMemory += 16;
+		}
+
+		/*
+		 * Hashed store
+		 */
+
+		begin = System.nanoTime();
+		NoGoodStore store = new NoGoodStore();
+		for (int pass = 0; pass < 2; pass++)
+			for (int i = 0; i < recorded.size(); i++)
+				store.add(recorded.get(i));
+		long storeTime = System.nanoTime() - begin;
+
+		System.out.println(nbHexagons + " hexagons : " + nbSolutions + " solutions, " + recorded.size()
+				+ " no-goods, generation in " + generationTime + " ms");
+		System.out.println("ArrayList scan : " + listTime / 1000000 + " ms, ~" + listMemory / 1024 + " KiB");
+		System.out.println("NoGoodStore    : " + storeTime / 1000000 + " ms, ~" + store.memoryFootprint() / 1024 + " KiB");
+	}
+}
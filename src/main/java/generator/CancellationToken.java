@@ -0,0 +1,19 @@
+package generator;
+
+/***
+ * Shared flag used to stop a generation from another thread.
+ * A token is owned by the caller of the generation, not by a global state, so that
+ * several generations can run (and be stopped) independently.
+ */
+public class CancellationToken {
+
+	private volatile boolean cancelled;
+
+	public void cancel() {
+		cancelled = true;
+	}
+
+	public boolean isCancelled() {
+		return cancelled;
+	}
+}
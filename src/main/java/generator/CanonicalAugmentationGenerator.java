@@ -0,0 +1,251 @@
+package generator;
+
+import benzenoid.Benzenoid;
+import benzenoid.CanonicalForm;
+import generator.properties.Property;
+import generator.properties.model.ModelPropertySet;
+import generator.properties.model.expression.BinaryNumericalExpression;
+import generator.properties.model.expression.PropertyExpression;
+import utils.HexNeighborhood;
+
+import java.util.ArrayList;
+import java.util.Arrays;
+import java.util.HashSet;
+import java.util.Objects;
+import java.util.Set;
+import java.util.function.Consumer;
+
+/***
+ * Orderly generation of the benzenoids with a given number of hexagons, without solver and without no-goods.
+ * A benzenoid is built by adding one hexagon at a time, and a child is kept only if the added hexagon is its
+ * canonical last hexagon : the non-cut hexagon of the border with the greatest position in the canonical code
+ * (smallest code among the 12 images of the benzenoid by the symmetries of the lattice). Each isomorphism class
+ * is generated exactly once, and the memory used is proportional to the number of hexagons.
+ * As in the Choco model (ConstraintBuilder.postNoHolesOfSize1Constraint), the benzenoids have no hole of one
+ * hexagon but may have larger holes (e.g. 10 hexagons around a hole of two). Removing the canonical last hexagon
+ * never creates a hole of one hexagon, so every such benzenoid is reached.
+ * Hexagons are given by their (x, y) coordinates in the coronenoid grid (see HexNeighborhood).
+ */
+public class CanonicalAugmentationGenerator {
+
+	private final int nbHexagons;
+	private final Consumer<Benzenoid> consumer;
+	private final CancellationToken cancellationToken;
+
+	private int nbGenerated;
+
+	public CanonicalAugmentationGenerator(int nbHexagons, Consumer<Benzenoid> consumer, CancellationToken cancellationToken) {
+		this.nbHexagons = nbHexagons;
+		this.consumer = consumer;
+		this.cancellationToken = cancellationToken;
+	}
+
+	/***
+	 * @return true iff the properties only ask for a given number of hexagons ("hexagons = n")
+	 */
+	public static boolean isApplicable(ModelPropertySet modelPropertySet) {
+		for (Property property : modelPropertySet)
+			if (property.hasExpressions() && !"hexagons".equals(property.getId()))
+				return false;
+		return getNbHexagons(modelPropertySet) > 0;
+	}
+
+	/***
+	 * @return the value of the "hexagons = n" expression, or -1 if there is none
+	 */
+	public static int getNbHexagons(ModelPropertySet modelPropertySet) {
+		if (!modelPropertySet.has("hexagons") || modelPropertySet.getById("hexagons").getExpressions().size() != 1)
+			return -1;
+		PropertyExpression expression = modelPropertySet.getById("hexagons").getExpressions().get(0);
+		if (expression instanceof BinaryNumericalExpression
+				&& Objects.equals(((BinaryNumericalExpression) expression).getOperator(), "="))
+			return ((BinaryNumericalExpression) expression).getValue();
+		return -1;
+	}
+
+	/***
+	 * Generates the benzenoids, giving each of them to the consumer as soon as it is found
+	 * @return the number of benzenoids generated
+	 */
+	public int generate() {
+		nbGenerated = 0;
+		if (nbHexagons > 0)
+			augment(new int[] {0}, new int[] {0});
+		return nbGenerated;
+	}
+
+	private void augment(int[] xs, int[] ys) {
+
+		if (cancellationToken.isCancelled())
+			return;
+
+		int size = xs.length;
+
+		if (size == nbHexagons) {
+			consumer.accept(buildBenzenoid(xs, ys, nbGenerated));
+			nbGenerated++;
+			return;
+		}
+
+		/*
+		 * Children already explored from this benzenoid (added hexagons in the same orbit give the same child)
+		 */
+		Set<String> children = new HashSet<>();
+
+		int[] childXs = Arrays.copyOf(xs, size + 1);
+		int[] childYs = Arrays.copyOf(ys, size + 1);
+
+		for (int i = 0; i < size; i++) {
+			for (HexNeighborhood neighbor : HexNeighborhood.values()) {
+
+				int x = xs[i] + neighbor.dx();
+				int y = ys[i] + neighbor.dy();
+
+				if (indexOf(xs, ys, size, x, y) != -1)
+					continue;
+
+				childXs[size] = x;
+				childYs[size] = y;
+
+				if (hasHoleOfSize1(childXs, childYs, size))
+					continue;
+
+				CanonicalForm form = new CanonicalForm(childXs, childYs);
+
+				if (isCanonicalLastHexagon(childXs, childYs, form, size) && children.add(form.getCode()))
+					augment(childXs.clone(), childYs.clone());
+
+				if (cancellationToken.isCancelled())
+					return;
+			}
+		}
+	}
+
+	/***
+	 * @return true iff the added hexagon is in the same orbit as the canonical last hexagon of the benzenoid
+	 */
+	private static boolean isCanonicalLastHexagon(int[] xs, int[] ys, CanonicalForm form, int added) {
+
+		int lastPosition = -1;
+		for (int i = 0; i < xs.length; i++)
+			if (isBorderHexagon(xs, ys, i) && !isCutHexagon(xs, ys, i))
+				lastPosition = Math.max(lastPosition, form.position(0, xs[i], ys[i]));
+
+		for (int k = 0; k < form.getNbAutomorphisms(); k++)
+			if (form.position(k, xs[added], ys[added]) == lastPosition)
+				return true;
+
+		return false;
+	}
+
+	private static boolean isBorderHexagon(int[] xs, int[] ys, int i) {
+		for (HexNeighborhood neighbor : HexNeighborhood.values())
+			if (indexOf(xs, ys, xs.length, xs[i] + neighbor.dx(), ys[i] + neighbor.dy()) == -1)
+				return true;
+		return false;
+	}
+
+	/***
+	 * @return true iff removing the i-th hexagon disconnects the benzenoid
+	 */
+	private static boolean isCutHexagon(int[] xs, int[] ys, int i) {
+
+		int size = xs.length;
+		if (size <= 2)
+			return false;
+
+		boolean[] visited = new boolean[size];
+		int[] queue = new int[size];
+		int first = 0;
+		int last = 0;
+
+		int start = i == 0 ? 1 : 0;
+		visited[i] = true;
+		visited[start] = true;
+		queue[last++] = start;
+
+		while (first < last) {
+			int u = queue[first++];
+			for (HexNeighborhood neighbor : HexNeighborhood.values()) {
+				int v = indexOf(xs, ys, size, xs[u] + neighbor.dx(), ys[u] + neighbor.dy());
+				if (v != -1 && !visited[v]) {
+					visited[v] = true;
+					queue[last++] = v;
+				}
+			}
+		}
+
+		return last < size - 1;
+	}
+
+	/***
+	 * @return true iff an empty hexagon next to the added one has its six neighbors in the benzenoid (the other
+	 * empty hexagons already had an empty neighbor)
+	 */
+	private static boolean hasHoleOfSize1(int[] xs, int[] ys, int added) {
+
+		for (HexNeighborhood neighbor : HexNeighborhood.values()) {
+
+			int x = xs[added] + neighbor.dx();
+			int y = ys[added] + neighbor.dy();
+
+			if (indexOf(xs, ys, xs.length, x, y) != -1)
+				continue;
+
+			boolean surrounded = true;
+			for (HexNeighborhood neighbor2 : HexNeighborhood.values())
+				if (indexOf(xs, ys, xs.length, x + neighbor2.dx(), y + neighbor2.dy()) == -1) {
+					surrounded = false;
+					break;
+				}
+
+			if (surrounded)
+				return true;
+		}
+
+		return false;
+	}
+
+	private static int indexOf(int[] xs, int[] ys, int size, int x, int y) {
+		for (int i = 0; i < size; i++)
+			if (xs[i] == x && ys[i] == y)
+				return i;
+		return -1;
+	}
+
+	/***
+	 * Places the hexagons (given by their (x, y) coordinates, connected) in the smallest coronenoid containing
+	 * them, and builds the molecule
+	 */
+	public static Benzenoid buildBenzenoid(int[] xs, int[] ys, int index) {
+
+		int xMin = Arrays.stream(xs).min().getAsInt();
+		int yMin = Arrays.stream(ys).min().getAsInt();
+
+		for (int nbCrowns = 1; ; nbCrowns++) {
+
+			int diameter = 2 * nbCrowns - 1;
+
+			for (int shift = 0; shift < diameter; shift++) {
+
+				boolean fits = true;
+				for (int i = 0; i < xs.length && fits; i++) {
+					int x = xs[i] - xMin + shift;
+					int y = ys[i] - yMin;
+					fits = x < diameter && y < diameter && Math.abs(x - y) <= nbCrowns - 1;
+				}
+
+				if (fits) {
+					ArrayList<Integer> verticesSolution = new ArrayList<>(diameter * diameter);
+					for (int i = 0; i < diameter * diameter; i++)
+						verticesSolution.add(0);
+					for (int i = 0; i < xs.length; i++)
+						verticesSolution.set((ys[i] - yMin) * diameter + xs[i] - xMin + shift, 1);
+
+					String description = "solution " + index + "\nhexagons = " + xs.length + "\n";
+					return Benzenoid.buildMolecule(description, nbCrowns, index, verticesSolution);
+				}
+			}
+		}
+	}
+}
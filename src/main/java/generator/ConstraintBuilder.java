@@ -1,13 +1,21 @@
 package generator;
 
 import org.chocosolver.solver.Model;
+import org.chocosolver.solver.constraints.Constraint;
 import org.chocosolver.solver.variables.BoolVar;
 import org.chocosolver.util.objects.setDataStructures.iterable.IntIterableRangeSet;
 
 import constraints.Permutation;
+import generator.properties.model.ModelProperty;
+import generator.properties.model.ModelPropertySet;
+import generator.properties.model.checkers.NbKekuleStructureChecker;
+import generator.propagators.PropColorBalance;
+import generator.propagators.PropKekuleStructures;
 import utils.Coords;
 import utils.Utils;
 
+import java.util.function.DoublePredicate;
+
 public enum ConstraintBuilder {
 	;
 
@@ -95,6 +103,41 @@ public enum ConstraintBuilder {
 		}
 	}
 
+	/*
+	 * Kekule structures constraints
+	 */
+
+	/***
+	 * Posts the "kekule" and "concealed" properties as propagators, instead of leaving them to the checkers :
+	 * the number of Kekule structures is checked as soon as the hexagons are fixed, and the color balance
+	 * (necessary for having a Kekule structure) prunes the partial assignments
+	 */
+	public static PropKekuleStructures postKekuleConstraints(GeneralModel model) {
+
+		ModelPropertySet modelPropertySet = model.getModelPropertySet();
+
+		DoublePredicate condition = nbKekuleStructures -> true;
+		boolean balanced = false;
+
+		if (modelPropertySet.has("kekule")) {
+			ModelProperty property = (ModelProperty) modelPropertySet.getById("kekule");
+			condition = nbKekuleStructures -> NbKekuleStructureChecker.respects(nbKekuleStructures, property);
+			balanced = !NbKekuleStructureChecker.respects(0, property);
+		}
+
+		if (modelPropertySet.has("concealed")) {
+			condition = condition.and(nbKekuleStructures -> nbKekuleStructures == 0);
+			balanced = true;
+		}
+
+		if (balanced)
+			new Constraint("colorBalance", new PropColorBalance(model.getHexBoolVars(), model.getNbCrowns())).post();
+
+		PropKekuleStructures propagator = new PropKekuleStructures(model.getHexBoolVars(), model.getNbCrowns(), condition);
+		new Constraint("kekuleStructures", propagator).post();
+		return propagator;
+	}
+
 	/*
 	 * Borders constraint
 	 */
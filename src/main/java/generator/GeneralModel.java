@@ -3,19 +3,20 @@ package generator;
 import generator.patterns.Pattern;
 import generator.patterns.PatternLabel;
 import generator.patterns.PatternOccurences;
+import generator.patterns.PatternOccurencesCache;
+import generator.propagators.PropKekuleStructures;
 import generator.properties.Property;
 import generator.properties.model.ModelProperty;
 import generator.properties.model.ModelPropertySet;
 import generator.properties.model.expression.ParameterizedExpression;
 import generator.properties.solver.SolverProperty;
 import generator.properties.solver.SolverPropertySet;
-import javafx.application.Platform;
-import javafx.beans.property.SimpleIntegerProperty;
 import benzenoid.Benzenoid;
 import benzenoid.Node;
 import nogood.*;
 import org.chocosolver.solver.Model;
 import org.chocosolver.solver.Solver;
+import org.chocosolver.solver.search.loop.monitors.IMonitorContradiction;
 import org.chocosolver.solver.search.strategy.selectors.values.IntDomainMax;
 import org.chocosolver.solver.search.strategy.selectors.values.IntDomainMin;
 import org.chocosolver.solver.search.strategy.selectors.variables.FirstFail;
@@ -29,13 +30,14 @@ import solution.BenzenoidSolution;
 import utils.Couple;
 import utils.HexNeighborhood;
 import utils.Triplet;
-import view.generator.Stopper;
 import view.generator.boxes.HBoxCriterion;
 import view.generator.boxes.HBoxSolverCriterion;
 
 import java.text.DecimalFormat;
 import java.text.NumberFormat;
 import java.util.*;
+import java.util.function.Consumer;
+import java.util.function.IntConsumer;
 import org.chocosolver.solver.constraints.Constraint;
 
 
@@ -81,7 +83,6 @@ public class GeneralModel {
     private ArrayList<ArrayList<Integer>> neighborGraphOutterHexagons;
     //private int indexOutterHexagon;
 
-    private Couple<Integer, Integer>[] coordsCorrespondance;
 
     /*
      * Parameters
@@ -134,11 +135,26 @@ public class GeneralModel {
     private BoolVar[] nbHexagonsReifies;
     //private IntVar graphDiameter;
 
-    private final ArrayList<ArrayList<Integer>> nogoods = new ArrayList<>();
+    private final NoGoodStore nogoods = new NoGoodStore();
 
-    private final SimpleIntegerProperty nbTotalSolutions = new SimpleIntegerProperty(0);
+    private int nbTotalSolutions;
     private int indexSolution;
 
+    /*
+     * Generation control and listeners
+     */
+
+    private CancellationToken cancellationToken = new CancellationToken();
+    private IntConsumer solutionCountListener;
+    private Consumer<Benzenoid> solutionConsumer;
+    private SharedNoGoods sharedNoGoods;
+
+    /*
+     * Propagator of the "kekule" and "concealed" properties, null if none of them is set
+     */
+    private PropKekuleStructures kekulePropagator;
+    private int nbImportedSolutions;
+
 
     /*
      * Properties
@@ -210,7 +226,6 @@ public class GeneralModel {
         System.out.println("5");
         buildBenzenoidEdges();
         System.out.println("6");
-        buildCoordsCorrespondance();
         System.out.println("7");
         buildNeighborIndices();
 
@@ -436,6 +451,8 @@ public class GeneralModel {
         // Maintenant que nbPentagonsVar et nbHeptagonsVar devraient être initialisés par leurs contraintes respectives,
         // postez les contraintes de transformation.
         postTransformationConstraints(); // Assurez-vous que cette méthode existe et appelle les sous-méthodes
+        if (modelPropertySet.has("kekule") || modelPropertySet.has("concealed"))
+            kekulePropagator = ConstraintBuilder.postKekuleConstraints(this);
         if (!modelPropertySet.has("symmetry") && !modelPropertySet.has("rectangle") && !modelPropertySet.has("rhombus"))
             ConstraintBuilder.postBordersConstraints(this);
     }
@@ -490,127 +507,24 @@ public class GeneralModel {
         return builder.toString();
     }
 
-    @SuppressWarnings("unchecked")
-    private void buildCoordsCorrespondance() {
-
-        coordsCorrespondance = new Couple[diameter * diameter];
-
-        for (int lineIndex = 0; lineIndex < diameter; lineIndex++) {
-            for (int columnIndex = 0; columnIndex < diameter; columnIndex++) {
-
-                if (validHexagonIndex(lineIndex, columnIndex))
-                    coordsCorrespondance[hexagonIndicesMatrix[lineIndex][columnIndex]] = new Couple<>(lineIndex, columnIndex);
-            }
-        }
-    }
-
-    private Pattern convertToPattern() {
-
-        ArrayList<Integer> hexagonsSolutions = new ArrayList<>();
-
-        int[] correspondance = new int[diameter * diameter];
-
-        Arrays.fill(correspondance, -1);
-
-        for (int index = 0; index < benzenoidVerticesBVArray.length; index++) {
-            if (benzenoidVerticesBVArray[index] != null && benzenoidVerticesBVArray[index].getValue() == 1) {
-                    hexagonsSolutions.add(index);
-                    correspondance[index] = hexagonsSolutions.size() - 1;
-            }
-        }
-
-        int nbNodes = hexagonsSolutions.size();
-
-        /*
-         * nodes
-         */
-
-        Node[] nodes = new Node[nbNodes];
-
-        for (int i = 0; i < hexagonsSolutions.size(); i++) {
-
-            int hexagon = hexagonsSolutions.get(i);
-
-            Couple<Integer, Integer> couple = coordsCorrespondance[hexagon];
-
-            nodes[i] = new Node(couple.getY(), couple.getX(), i);
-        }
-
-        /*
-         * matrix
-         */
-
-        int[][] matrix = new int[nbNodes][nbNodes];
-        int[][] neighbors = new int[nbNodes][6];
-
-        for (int nodeIndex = 0; nodeIndex < nbNodes; nodeIndex++)
-            Arrays.fill(neighbors[nodeIndex], -1);
-
-        for (int nodeIndex = 0; nodeIndex < nbNodes; nodeIndex++) {
-
-            int u = hexagonsSolutions.get(nodeIndex);
-            Node n1 = nodes[nodeIndex];
-
-            for (int j = (nodeIndex + 1); j < nbNodes; j++) {
-
-                int v = hexagonsSolutions.get(j);
-                Node n2 = nodes[j];
-
-                if (sideSharing[u][v] == 1) {
-
-                    // Setting matrix
-                    matrix[nodeIndex][j] = 1;
-                    matrix[j][nodeIndex] = 1;
-
-                    // Setting neighbors
-                    int x1 = n1.getX();
-                    int y1 = n1.getY();
-                    int x2 = n2.getX();
-                    int y2 = n2.getY();
-
-                    if (x2 == x1 && y2 == y1 - 1) {
-                        neighbors[correspondance[u]][0] = correspondance[v];
-                        neighbors[correspondance[v]][3] = correspondance[u];
-                    } else if (x2 == x1 + 1 && y2 == y1) {
-                        neighbors[correspondance[u]][1] = correspondance[v];
-                        neighbors[correspondance[v]][4] = correspondance[u];
-                    } else if (x2 == x1 + 1 && y2 == y1 + 1) {
-                        neighbors[correspondance[u]][2] = correspondance[v];
-                        neighbors[correspondance[v]][5] = correspondance[u];
-                    } else if (x2 == x1 && y2 == y1 + 1) {
-                        neighbors[correspondance[u]][3] = correspondance[v];
-                        neighbors[correspondance[v]][0] = correspondance[u];
-                    } else if (x2 == x1 - 1 && y2 == y1) {
-                        neighbors[correspondance[u]][4] = correspondance[v];
-                        neighbors[correspondance[v]][1] = correspondance[u];
-                    } else if (x2 == x1 - 1 && y2 == y1 - 1) {
-                        neighbors[correspondance[u]][5] = correspondance[v];
-                        neighbors[correspondance[v]][2] = correspondance[u];
-                    }
-                }
-            }
-        }
-
-        /*
-         * Label
-         */
-
-        PatternLabel[] labels = new PatternLabel[nbNodes];
-        Arrays.fill(labels, PatternLabel.POSITIVE);
-        return new Pattern(matrix, labels, nodes, null, neighbors, 0);
-    }
-
-    private void recordNoGoods() {
-
+    /***
+     * @return the compact indices of the hexagons of the current solution, in increasing order
+     */
+    private ArrayList<Integer> buildPresentHexagons() {
         ArrayList<Integer> vertices = new ArrayList<>();
         for (int i = 0; i < hexBoolVars.length; i++)
             if (hexBoolVars[i].getValue() == 1)
                 vertices.add(i);
+        return vertices;
+    }
 
-        int center = hexagonCompactIndicesTab[hexagonIndicesMatrix[(diameter - 1) / 2][(diameter - 1) / 2]];
+    /***
+     * Forbids every solution isomorphic to the given one
+     * @param vertices : compact indices of the hexagons of the solution, in increasing order
+     */
+    private void recordNoGoods(ArrayList<Integer> vertices) {
 
-        Solution solution = new Solution(nodesRefs, hexagonCompactIndicesTab, hexagonSparseIndicesTab, hexagonIndicesMatrix,
-                center, nbCrowns, vertices);
+        Solution solution = new Solution(nbCrowns, vertices);
 
         NoGoodRecorder noGoodRecorder;// = null;
 
@@ -629,7 +543,6 @@ public class GeneralModel {
                     }
                 }
             }
-            solution.setPattern(convertToPattern());
             noGoodRecorder = new NoGoodBorderRecorder(this, solution, topBorder, leftBorder);
         } else {
 
@@ -646,15 +559,15 @@ public class GeneralModel {
                     noGoodRecorder = new NoGoodUniqueRecorder(this, solution);
             }
         }
-        solution.setPattern(convertToPattern());
         noGoodRecorder = new NoGoodAllRecorder(this, solution);
         noGoodRecorder.record();
 
     }
 
-    // Dans generator.GeneralModel.java
-
-    public SolverResults solve() {
+    /***
+     * Applies the constraints of the model and the solver properties, and sets the search strategy
+     */
+    void prepareSolver() {
         // Appliquer les contraintes de base du modèle et celles définies par l'utilisateur
         applyModelConstraints(); // S'assure que nbPentagonsVar et nbHeptagonsVar sont initialisés
         // et que les contraintes de transformation sont postées.
@@ -691,15 +604,38 @@ public class GeneralModel {
             }
         }
 
-        solverResults = new SolverResults();
+        // Les solutions rejetées par le propagateur des structures de Kekulé sont interdites à isomorphisme près
+        if (kekulePropagator != null)
+            chocoSolver.plugMonitor((IMonitorContradiction) contradiction -> recordRejectedSolutions());
+
+        // Permet d'arrêter la recherche depuis l'extérieur
+        chocoSolver.limitSearch(() -> cancellationToken.isCancelled());
+    }
+
+    /***
+     * Runs the generation without storing anything: each benzenoid is given to the consumer as soon as
+     * it is found (and after its no-goods are recorded). The consumer is called from the calling thread.
+     * @return the number of benzenoids given to the consumer
+     */
+    public int generate(Consumer<Benzenoid> consumer) {
+        prepareSolver();
+        return run(consumer);
+    }
+
+    /***
+     * Runs the generation on a model whose solver has already been prepared
+     */
+    int run(Consumer<Benzenoid> consumer) {
         indexSolution = 0;
+        solutionConsumer = consumer;
+        return search();
+    }
 
-        long begin = System.currentTimeMillis();
+    private int search() {
 
-        chocoSolver.limitSearch(() -> Stopper.STOP); // Permet d'arrêter la recherche depuis l'extérieur
-        Stopper.STOP = false; // Réinitialiser le stopper
+        int nbSolutions = 0;
 
-        while (chocoSolver.solve() && !generatorRun.isPaused()) {
+        while (importSharedNoGoods() && chocoSolver.solve() && !generatorRun.isPaused()) {
 
             // À ce stade, Choco a trouvé une affectation pour hexBoolVars et transformationActiveVars
             // qui satisfait toutes les contraintes.
@@ -724,42 +660,107 @@ public class GeneralModel {
             // ----- FIN SECTION À REVOIR PROFONDÉMENT -----
 
             if (molecule.respectPostProcessing(modelPropertySet)) { // Ce filtre doit aussi être conscient des C5/C7
-                solverResults.addMolecule(molecule);
-                if (inTestMode()) {
-                    nbTotalSolutions.set(nbTotalSolutions.get() + 1);
-                } else {
-                    Platform.runLater(() -> nbTotalSolutions.set(nbTotalSolutions.get() + 1));
-                }
-
-                recordNoGoods(); // Cette méthode doit aussi potentiellement être adaptée
-
-                // BenzenoidSolution est probablement pour une représentation purement hexagonale.
-                // À revoir si la structure interne change.
-                BenzenoidSolution solverSolution = new BenzenoidSolution(GUB, nbCrowns,
-                        chocoModel.getName() + indexSolution, hexagonSparseIndicesTab);
 
-                solverResults.addSolution(solverSolution, description, nbCrowns);
-                solverResults.addVerticesSolution(verticesSolution); // Conserver la solution Choco brute pour le débogage
+                acceptSolution(buildPresentHexagons());
 
-                displaySolution(chocoSolver); // Pour le débogage
+                solutionConsumer.accept(molecule);
 
                 if (verbose) {
                     System.out.println("NO-GOOD");
-                    for (ArrayList<Integer> ng : nogoods) {
-                        for (Integer v : ng)
+                    for (int i = 0; i < nogoods.size(); i++) {
+                        for (int v : nogoods.get(i))
                             System.out.print(v + " ");
                         System.out.println();
                     }
                 }
                 indexSolution++;
+                nbSolutions++;
             }
         }
 
+        return nbSolutions;
+    }
+
+    /***
+     * Counts the solutions, and forbids the solutions isomorphic to the current one
+     */
+    private void acceptSolution(ArrayList<Integer> presentHexagons) {
+
+        nbTotalSolutions ++;
+        if (!inTestMode() && solutionCountListener != null)
+            solutionCountListener.accept(nbTotalSolutions);
+
+        recordNoGoods(presentHexagons); // Cette méthode doit aussi potentiellement être adaptée
+        if (sharedNoGoods != null)
+            sharedNoGoods.publish(this, presentHexagons);
+    }
+
+    /***
+     * Runs the generation only to count the benzenoids : the molecules are not built (unless a property has to
+     * check them) and nothing is stored
+     * @return the number of benzenoids by number of hexagons
+     */
+    public TreeMap<Integer, Integer> count() {
+
+        prepareSolver();
+        indexSolution = 0;
+
+        boolean postProcessing = modelPropertySet.needsPostProcessing();
+        TreeMap<Integer, Integer> counts = new TreeMap<>();
+
+        while (importSharedNoGoods() && chocoSolver.solve() && !generatorRun.isPaused()) {
+
+            if (postProcessing) {
+                Benzenoid molecule = Benzenoid.buildMolecule("", nbCrowns, indexSolution, buildVerticesSolution());
+                if (!molecule.respectPostProcessing(modelPropertySet))
+                    continue;
+            }
+
+            ArrayList<Integer> presentHexagons = buildPresentHexagons();
+            acceptSolution(presentHexagons);
+            counts.merge(presentHexagons.size(), 1, Integer::sum);
+            indexSolution++;
+        }
+
+        return counts;
+    }
+
+    /***
+     * Forbids the solutions isomorphic to the ones rejected by the propagator of the Kekule structures, which
+     * are rejected too
+     */
+    private void recordRejectedSolutions() {
+        for (ArrayList<Integer> vertices : kekulePropagator.pollRejectedSolutions())
+            recordNoGoods(vertices);
+    }
+
+    /***
+     * Records the no-goods of the solutions found by the other models sharing the same SharedNoGoods
+     * @return always true, so that it can be chained with the solver call
+     */
+    private boolean importSharedNoGoods() {
+        if (sharedNoGoods != null) {
+            int nbSharedSolutions = sharedNoGoods.size();
+            for (ArrayList<Integer> vertices : sharedNoGoods.getSolutions(nbImportedSolutions, nbSharedSolutions, this))
+                recordNoGoods(vertices);
+            nbImportedSolutions = nbSharedSolutions;
+        }
+        return true;
+    }
+
+    public SolverResults solve() {
+
+        solverResults = new SolverResults();
+
+        long begin = System.currentTimeMillis();
+
+        generate(this::storeSolution);
+
         long end = System.currentTimeMillis();
         long time = end - begin;
 
         solverResults.setTime(time);
-        solverResults.setNbTotalSolution(nbTotalSolutions.get());
+        solverResults.setNbTotalSolution(nbTotalSolutions);
         solverResults.setSolver(chocoSolver);
 
         System.out.println(nbCrowns + " crowns");
@@ -773,6 +774,24 @@ public class GeneralModel {
         return solverResults;
     }
 
+    /***
+     * Stores the benzenoid found by the solver (and the current solution of the solver) in the results
+     */
+    private void storeSolution(Benzenoid molecule) {
+
+        solverResults.addMolecule(molecule);
+
+        // BenzenoidSolution est probablement pour une représentation purement hexagonale.
+        // À revoir si la structure interne change.
+        BenzenoidSolution solverSolution = new BenzenoidSolution(GUB, nbCrowns,
+                chocoModel.getName() + indexSolution, hexagonSparseIndicesTab);
+
+        solverResults.addSolution(solverSolution, buildDescription(indexSolution), nbCrowns);
+        solverResults.addVerticesSolution(molecule.getVerticesSolutions()); // Conserver la solution Choco brute pour le débogage
+
+        displaySolution(chocoSolver); // Pour le débogage
+    }
+
     private boolean inTestMode() {
         return isInTestMode;
     }
@@ -1284,6 +1303,7 @@ public class GeneralModel {
 
     public void stop() {
         generatorRun.stop();
+        cancellationToken.cancel();
     }
 
     public boolean isPaused() {
@@ -1295,54 +1315,7 @@ public class GeneralModel {
     }
 
     public void resume() {
-
-        while (chocoSolver.solve() && !generatorRun.isPaused()) {
-
-            Platform.runLater(() -> nbTotalSolutions.set(nbTotalSolutions.get() + 1));
-
-            recordNoGoods();
-
-            BenzenoidSolution solution = new BenzenoidSolution(GUB, nbCrowns, chocoModel.getName() + indexSolution,
-                    hexagonSparseIndicesTab);
-            String description = buildDescription(indexSolution);
-            solverResults.addSolution(solution, description, nbCrowns);
-
-            ArrayList<BoolVar> presentHexagons = new ArrayList<>();
-            ArrayList<Integer> verticesSolution = new ArrayList<>();
-
-            for (BoolVar benzenoidVertex : benzenoidVerticesBVArray) {
-
-                if (benzenoidVertex != null) {
-                    verticesSolution.add(benzenoidVertex.getValue());
-
-                    if (benzenoidVertex.getValue() == 1) {
-                        presentHexagons.add(benzenoidVertex);
-                    }
-
-                } else
-                    verticesSolution.add(0);
-            }
-
-            solverResults.addVerticesSolution(verticesSolution);
-
-            displaySolution(chocoSolver);
-            //System.out.println(solver.getDecisionPath());
-
-            if (verbose) {
-
-                System.out.println("NO-GOOD");
-
-                for (ArrayList<Integer> ng : nogoods) {
-                    for (Integer v : ng)
-                        System.out.println(v + " ");
-                }
-
-                System.out.println();
-            }
-
-            indexSolution++;
-        }
-
+        search();
     }
 
     private void buildNodesRefs() {
@@ -1358,28 +1331,33 @@ public class GeneralModel {
         }
     }
 
-    private boolean isValid(Couple<Integer, Integer> coord, Pattern fragment, int index) {
-        if (coord.getX() < 0 || coord.getX() >= diameter || coord.getY() < 0 || coord.getY() >= diameter
-                || hexagonIndicesMatrix[coord.getY()][coord.getX()] == -1) {
-            return fragment.getLabel(index) != PatternLabel.POSITIVE;
-        }
-        return true;
-    }
+    /***
+     * @return the occurences of the pattern in the coronenoid, computed once per pattern and diameter (see
+     * PatternOccurencesCache)
+     */
+    public PatternOccurences computeTranslations(Pattern pattern) {
+
+        PatternOccurences fragmentOccurences = PatternOccurencesCache.get(pattern, diameter, () -> placePattern(pattern));
+
+        /*
+         * Chaque hexagone d'une occurence en dehors du coronénoïde est un hexagone extérieur
+         */
+        for (Integer[] occurence : fragmentOccurences.getOccurences())
+            for (Integer hexagon : occurence)
+                if (hexagon == -1)
+                    outterHexagonsIndexes.add(diameter * diameter);
 
-    private int findIndex(ArrayList<Couple<Integer, Integer>> coords, Couple<Integer, Integer> coord) {
-        for (int i = 0; i < coords.size(); i++)
-            if (coords.get(i).equals(coord))
-                return i;
-        return -1;
+        return fragmentOccurences;
     }
 
     @SuppressWarnings("unchecked")
-    public PatternOccurences computeTranslations(Pattern pattern) {
+    private PatternOccurences placePattern(Pattern pattern) {
 
         PatternOccurences fragmentOccurences = new PatternOccurences();
+        int nbNodes = pattern.getNbNodes();
 
         /*
-         * Trouver l'hexagone pr�sent du fragment le plus en haut � gauche
+         * Trouver l'hexagone présent du fragment le plus en haut à gauche
          */
 
         int minY = Integer.MAX_VALUE;
@@ -1389,7 +1367,7 @@ public class GeneralModel {
 
         while (true) {
             boolean containsPresentHexagon = false;
-            for (int i = 0; i < pattern.getNbNodes(); i++) {
+            for (int i = 0; i < nbNodes; i++) {
                 Node node = pattern.getNodesRefs()[i];
                 if (node.getY() == minY && pattern.getLabel(i) == PatternLabel.POSITIVE)
                     containsPresentHexagon = true;
@@ -1401,7 +1379,7 @@ public class GeneralModel {
 
         int nodeIndex = -1;
         int minX = Integer.MAX_VALUE;
-        for (int i = 0; i < pattern.getNbNodes(); i++) {
+        for (int i = 0; i < nbNodes; i++) {
             Node node = pattern.getNodesRefs()[i];
             if (node.getY() == minY && node.getX() < minX && pattern.getLabel(i) == PatternLabel.POSITIVE) {
                 minX = node.getX();
@@ -1410,152 +1388,93 @@ public class GeneralModel {
         }
 
         /*
-         * Trouver les positions ou le fragment peut �tre plac�
+         * Position de chaque hexagone du fragment par rapport à firstNode (parcours en largeur du fragment),
+         * qui ne dépend pas de l'endroit où le fragment est placé
          */
 
-        for (int lineIndex = 0; lineIndex < diameter; lineIndex++) {
-            for (int columnIndex = 0; columnIndex < diameter; columnIndex++) {
-                int hexagonIndex = hexagonIndicesMatrix[lineIndex][columnIndex];
-                if (hexagonIndex != -1) {
-                    /*
-                     * On place le fragment dans le coron�no�de de telle sorte que firstNode
-                     * corresponde � hexagon
-                     */
-
-                    int[] checkedHexagons = new int[pattern.getNbNodes()];
-                    Couple<Integer, Integer>[] coords = new Couple[pattern.getNbNodes()];
-
-                    int candidat = nodeIndex;
-                    checkedHexagons[nodeIndex] = 1;
-                    coords[nodeIndex] = new Couple<>(columnIndex, lineIndex);
-
-                    ArrayList<Integer> candidats = new ArrayList<>();
-
-                    for (HexNeighborhood neighbor : HexNeighborhood.values()) {
-                        if (pattern.getNeighbor(candidat, neighbor.getIndex()) != -1) {
-                            int neighborIndex = pattern.getNeighbor(candidat, neighbor.getIndex());
-                            candidats.add(neighborIndex);
-                            coords[neighborIndex] = new Couple<>(columnIndex + neighbor.dx(), lineIndex + neighbor.dy());
-                            checkedHexagons[neighborIndex] = 1;
-                        }
-                    }
+        int[] shiftsX = new int[nbNodes];
+        int[] shiftsY = new int[nbNodes];
+        boolean[] checkedHexagons = new boolean[nbNodes];
+        int[] candidats = new int[nbNodes];
+        int first = 0;
+        int last = 0;
+
+        checkedHexagons[nodeIndex] = true;
+        candidats[last++] = nodeIndex;
+
+        while (first < last) {
+            int candidat = candidats[first++];
+            for (HexNeighborhood neighbor : HexNeighborhood.values()) {
+                int neighborIndex = pattern.getNeighbor(candidat, neighbor.getIndex());
+                if (neighborIndex != -1 && !checkedHexagons[neighborIndex]) {
+                    shiftsX[neighborIndex] = shiftsX[candidat] + neighbor.dx();
+                    shiftsY[neighborIndex] = shiftsY[candidat] + neighbor.dy();
+                    checkedHexagons[neighborIndex] = true;
+                    candidats[last++] = neighborIndex;
+                }
+            }
+        }
 
-                    while (candidats.size() > 0) {
+        /*
+         * Trouver les positions ou le fragment peut être placé : firstNode correspond à l'hexagone
+         * (lineIndex, columnIndex), et les hexagones présents doivent être dans le coronénoïde
+         */
 
-                        candidat = candidats.get(0);
+        int[] hexagons = new int[nbNodes];
 
-                        for (HexNeighborhood neighbor : HexNeighborhood.values()) {
-                            if (pattern.getNeighbor(candidat, neighbor.getIndex()) != -1) {
+        for (int lineIndex = 0; lineIndex < diameter; lineIndex++) {
+            for (int columnIndex = 0; columnIndex < diameter; columnIndex++) {
 
-                                int neighborIndex = pattern.getNeighbor(candidat, neighbor.getIndex());
+                if (hexagonIndicesMatrix[lineIndex][columnIndex] == -1)
+                    continue;
 
-                                if (checkedHexagons[neighborIndex] == 0) {
-                                    candidats.add(neighborIndex);
-                                    coords[neighborIndex] = new Couple<>(coords[candidat].getX() + neighbor.dx(), coords[candidat].getY() + neighbor.dy());
-                                    checkedHexagons[neighborIndex] = 1;
-                                }
-                            }
-                        }
+                boolean valid = true;
+                for (int i = 0; i < nbNodes && valid; i++) {
+                    int x = columnIndex + shiftsX[i];
+                    int y = lineIndex + shiftsY[i];
+                    hexagons[i] = x >= 0 && x < diameter && y >= 0 && y < diameter ? hexagonIndicesMatrix[y][x] : -1;
+                    valid = hexagons[i] != -1 || pattern.getLabel(i) != PatternLabel.POSITIVE;
+                }
 
-                        candidats.remove(candidats.get(0));
-                    }
+                if (!valid)
+                    continue;
 
-                    /*
-                     * On teste si le fragment obtenu est valide
-                     */
+                Integer[] occurence = new Integer[nbNodes];
+                Couple<Integer, Integer>[] coords = new Couple[nbNodes];
 
-                    boolean valid = true;
-                    for (int i = 0; i < coords.length; i++) {
-                        Couple<Integer, Integer> coord = coords[i];
-                        if (!isValid(coord, pattern, i))
-                            valid = false;
-                    }
-                    if (valid) {
-                        ArrayList<Couple<Integer, Integer>> outterHexagons = new ArrayList<>();
-                        Integer[] occurence = new Integer[pattern.getNbNodes()];
-
-                        for (int i = 0; i < coords.length; i++) {
-                            Couple<Integer, Integer> coord = coords[i];
-                            int indexOutterHexagon = diameter * diameter;
-                            if (coord.getX() >= 0 && coord.getX() < diameter && coord.getY() >= 0
-                                    && coord.getY() < diameter) {
-                                occurence[i] = hexagonIndicesMatrix[coord.getY()][coord.getX()];
-
-                                if (hexagonIndicesMatrix[coord.getY()][coord.getX()] == -1 && !outterHexagons.contains(coord)) {
-                                    outterHexagons.add(coord);
-                                    outterHexagonsIndexes.add(indexOutterHexagon);
-                                    indexOutterHexagon++;
-                                }
-                            } else {
-                                occurence[i] = -1;
-
-                                if (!outterHexagons.contains(coord)) {
-                                    outterHexagons.add(coord);
-                                    outterHexagonsIndexes.add(indexOutterHexagon);
-                                    indexOutterHexagon++;
-                                }
-                            }
-                        }
+                ArrayList<Integer> present = new ArrayList<>();
+                ArrayList<Integer> absent = new ArrayList<>();
+                ArrayList<Integer> unknown = new ArrayList<>();
+                ArrayList<Integer> outter = new ArrayList<>();
 
-                        ArrayList<Integer> present = new ArrayList<>();
-                        ArrayList<Integer> absent = new ArrayList<>();
-                        ArrayList<Integer> unknown = new ArrayList<>();
-                        ArrayList<Integer> outter = new ArrayList<>();
-
-                        for (int i = 0; i < pattern.getNbNodes(); i++) {
-                            if (pattern.getLabel(i) == PatternLabel.NEUTRAL) {
-                                Couple<Integer, Integer> coord = coords[i];
-
-                                if (coord.getX() >= 0 && coord.getX() < diameter && coord.getY() >= 0
-                                        && coord.getY() < diameter) {
-                                    if (hexagonIndicesMatrix[coord.getY()][coord.getX()] == -1) {
-
-                                        int index = findIndex(outterHexagons, coord);
-                                        outter.add(outterHexagonsIndexes.get(index));
-                                    } else {
-                                        unknown.add(hexagonIndicesMatrix[coord.getY()][coord.getX()]);
-                                    }
-                                } else {
-                                    int index = findIndex(outterHexagons, coord);
-                                    outter.add(outterHexagonsIndexes.get(index));
-                                }
-                            } else if (pattern.getLabel(i) == PatternLabel.POSITIVE) {
-                                Couple<Integer, Integer> coord = coords[i];
-                                present.add(hexagonIndicesMatrix[coord.getY()][coord.getX()]);
-                            } else if (pattern.getLabel(i) == PatternLabel.NEGATIVE) {
-                                Couple<Integer, Integer> coord = coords[i];
-
-                                if (coord.getX() >= 0 && coord.getX() < diameter && coord.getY() >= 0
-                                        && coord.getY() < diameter) {
-                                    if (hexagonIndicesMatrix[coord.getY()][coord.getX()] == -1) {
-
-                                        int index = findIndex(outterHexagons, coord);
-                                        outter.add(outterHexagonsIndexes.get(index));
-                                    } else {
-                                        absent.add(hexagonIndicesMatrix[coord.getY()][coord.getX()]);
-                                    }
-                                } else {
-                                    int index = findIndex(outterHexagons, coord);
-                                    outter.add(outterHexagonsIndexes.get(index));
-                                }
-                            }
-                        }
+                for (int i = 0; i < nbNodes; i++) {
 
-                        fragmentOccurences.addOccurence(occurence);
-                        fragmentOccurences.addCoordinate(coords);
-                        fragmentOccurences.addOutterHexagons(outter);
-                        fragmentOccurences.addPresentHexagons(present);
-                        fragmentOccurences.addAbsentHexagons(absent);
-                        fragmentOccurences.addUnknownHexagons(unknown);
-                    }
+                    occurence[i] = hexagons[i];
+                    coords[i] = new Couple<>(columnIndex + shiftsX[i], lineIndex + shiftsY[i]);
+
+                    if (hexagons[i] == -1)
+                        outter.add(diameter * diameter);
+                    else if (pattern.getLabel(i) == PatternLabel.POSITIVE)
+                        present.add(hexagons[i]);
+                    else if (pattern.getLabel(i) == PatternLabel.NEGATIVE)
+                        absent.add(hexagons[i]);
+                    else if (pattern.getLabel(i) == PatternLabel.NEUTRAL)
+                        unknown.add(hexagons[i]);
                 }
+
+                fragmentOccurences.addOccurence(occurence);
+                fragmentOccurences.addCoordinate(coords);
+                fragmentOccurences.addOutterHexagons(outter);
+                fragmentOccurences.addPresentHexagons(present);
+                fragmentOccurences.addAbsentHexagons(absent);
+                fragmentOccurences.addUnknownHexagons(unknown);
             }
         }
 
         return fragmentOccurences;
     }
 
-    public ArrayList<ArrayList<Integer>> getNoGoods() {
+    public NoGoodStore getNoGoods() {
         return nogoods;
     }
 
@@ -1571,10 +1490,26 @@ public class GeneralModel {
         return chocoModel;
     }
 
-    public SimpleIntegerProperty getNbTotalSolutions() {
+    public int getNbTotalSolutions() {
         return nbTotalSolutions;
     }
 
+    public void setSolutionCountListener(IntConsumer solutionCountListener) {
+        this.solutionCountListener = solutionCountListener;
+    }
+
+    public CancellationToken getCancellationToken() {
+        return cancellationToken;
+    }
+
+    public void setCancellationToken(CancellationToken cancellationToken) {
+        this.cancellationToken = cancellationToken;
+    }
+
+    public void setSharedNoGoods(SharedNoGoods sharedNoGoods) {
+        this.sharedNoGoods = sharedNoGoods;
+    }
+
     public ModelPropertySet getModelPropertySet() {
         return this.modelPropertySet;
     }
@@ -0,0 +1,18 @@
+package generator;
+
+/***
+ * Engines able to generate the benzenoids of a model property set. The engines give the same benzenoids : the
+ * ones with no hole of one hexagon (holes of two hexagons or more are allowed).
+ */
+public enum GenerationEngine {
+
+	/***
+	 * Choco model with no-goods, handles every property
+	 */
+	CHOCO,
+
+	/***
+	 * Orderly generation (CanonicalAugmentationGenerator), only for "hexagons = n"
+	 */
+	CANONICAL_AUGMENTATION
+}
@@ -0,0 +1,124 @@
+package generator;
+
+import benzenoid.Benzenoid;
+import generator.properties.model.ModelPropertySet;
+
+import java.util.concurrent.Executor;
+import java.util.concurrent.Flow;
+
+/***
+ * Publishes the benzenoids of a model property set as they are found by the solver.
+ * Each subscriber gets its own generation, run on the given executor. The search only goes
+ * on while the subscriber has some demand, and cancelling the subscription stops it.
+ */
+public class GenerationPublisher implements Flow.Publisher<Benzenoid> {
+
+	private final ModelPropertySet modelPropertySet;
+	private final Executor executor;
+
+	public GenerationPublisher(ModelPropertySet modelPropertySet, Executor executor) {
+		this.modelPropertySet = modelPropertySet;
+		this.executor = executor;
+	}
+
+	@Override
+	public void subscribe(Flow.Subscriber<? super Benzenoid> subscriber) {
+		GenerationSubscription subscription = new GenerationSubscription(subscriber);
+		subscriber.onSubscribe(subscription);
+		executor.execute(subscription::run);
+	}
+
+	private class GenerationSubscription implements Flow.Subscription {
+
+		private final Flow.Subscriber<? super Benzenoid> subscriber;
+		private final CancellationToken cancellationToken = new CancellationToken();
+		private long demand;
+		private Throwable error; // guarded by this, signaled by the generation thread
+		private boolean done; // only used by the generation thread
+
+		GenerationSubscription(Flow.Subscriber<? super Benzenoid> subscriber) {
+			this.subscriber = subscriber;
+		}
+
+		/***
+		 * A non-positive request cancels the search, the error being signaled by the generation thread so that
+		 * the signals stay serial
+		 */
+		@Override
+		public synchronized void request(long n) {
+			if (n <= 0) {
+				if (error == null)
+					error = new IllegalArgumentException("non-positive request: " + n);
+				cancel();
+				return;
+			}
+			demand = demand + n < 0 ? Long.MAX_VALUE : demand + n;
+			notifyAll();
+		}
+
+		@Override
+		public synchronized void cancel() {
+			cancellationToken.cancel();
+			notifyAll();
+		}
+
+		/***
+		 * Blocks the search until the subscriber asks for more benzenoids or cancels
+		 * @return true iff the search can go on
+		 */
+		private synchronized boolean awaitDemand() {
+			while (demand == 0 && !cancellationToken.isCancelled()) {
+				try {
+					wait();
+				} catch (InterruptedException e) {
+					Thread.currentThread().interrupt();
+					cancellationToken.cancel();
+				}
+			}
+			return !cancellationToken.isCancelled();
+		}
+
+		private synchronized void consume() {
+			if (demand != Long.MAX_VALUE)
+				demand--;
+		}
+
+		private synchronized Throwable getError() {
+			return error;
+		}
+
+		void run() {
+			try {
+				if (awaitDemand()) {
+
+					/*
+					 * The solver may find another benzenoid after a cancellation : it is not delivered
+					 */
+					HeadlessGenerator.generate(modelPropertySet, molecule -> {
+						if (!done && !cancellationToken.isCancelled()) {
+							subscriber.onNext(molecule);
+							consume();
+							awaitDemand();
+						}
+					}, cancellationToken);
+
+					if (!cancellationToken.isCancelled()) {
+						done = true;
+						subscriber.onComplete();
+					}
+				}
+			} catch (RuntimeException e) {
+				if (!done) {
+					done = true;
+					subscriber.onError(e);
+				}
+			}
+
+			Throwable error = getError();
+			if (error != null && !done) {
+				done = true;
+				subscriber.onError(error);
+			}
+		}
+	}
+}
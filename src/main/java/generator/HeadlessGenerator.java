@@ -0,0 +1,65 @@
+package generator;
+
+import benzenoid.Benzenoid;
+import generator.properties.model.ModelPropertySet;
+
+import java.util.TreeMap;
+import java.util.concurrent.Executor;
+import java.util.concurrent.Flow;
+import java.util.function.Consumer;
+
+/***
+ * Entry points to run a generation without any graphical interface
+ */
+public enum HeadlessGenerator {
+	;
+
+	/***
+	 * Generates the benzenoids respecting the given properties, giving each of them to the consumer as soon as
+	 * it is found. Nothing is stored, the caller decides what to keep.
+	 * @param cancellationToken allows to stop the generation from another thread
+	 * @return the number of benzenoids generated
+	 */
+	public static int generate(ModelPropertySet modelPropertySet, Consumer<Benzenoid> consumer, CancellationToken cancellationToken) {
+		GeneralModel model = ModelBuilder.buildModel(modelPropertySet);
+		if (model == null)
+			throw new IllegalArgumentException("A property limiting the number of hexagons is required");
+		model.setCancellationToken(cancellationToken);
+		return model.generate(consumer);
+	}
+
+	/***
+	 * Same as generate(modelPropertySet, consumer, cancellationToken), with the given engine. Both engines give the
+	 * same benzenoids : no hole of one hexagon, larger holes allowed.
+	 * @throws IllegalArgumentException if the engine cannot handle the properties
+	 */
+	public static int generate(ModelPropertySet modelPropertySet, Consumer<Benzenoid> consumer, CancellationToken cancellationToken,
+							   GenerationEngine engine) {
+		if (engine == GenerationEngine.CHOCO)
+			return generate(modelPropertySet, consumer, cancellationToken);
+
+		if (!CanonicalAugmentationGenerator.isApplicable(modelPropertySet))
+			throw new IllegalArgumentException("The canonical augmentation only handles \"hexagons = n\"");
+		int nbHexagons = CanonicalAugmentationGenerator.getNbHexagons(modelPropertySet);
+		return new CanonicalAugmentationGenerator(nbHexagons, consumer, cancellationToken).generate();
+	}
+
+	/***
+	 * Counts the benzenoids respecting the given properties without building them (see GeneralModel.count())
+	 * @return the number of benzenoids by number of hexagons
+	 */
+	public static TreeMap<Integer, Integer> count(ModelPropertySet modelPropertySet, CancellationToken cancellationToken) {
+		GeneralModel model = ModelBuilder.buildModel(modelPropertySet);
+		if (model == null)
+			throw new IllegalArgumentException("A property limiting the number of hexagons is required");
+		model.setCancellationToken(cancellationToken);
+		return model.count();
+	}
+
+	/***
+	 * @return a publisher running one generation per subscriber on the given executor, with backpressure
+	 */
+	public static Flow.Publisher<Benzenoid> publisher(ModelPropertySet modelPropertySet, Executor executor) {
+		return new GenerationPublisher(modelPropertySet, executor);
+	}
+}
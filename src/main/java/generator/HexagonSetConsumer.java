@@ -0,0 +1,14 @@
+package generator;
+
+/***
+ * Receives sets of hexagons (compact indices) without allocating a list for each of them
+ */
+@FunctionalInterface
+public interface HexagonSetConsumer {
+
+	/***
+	 * @param hexagons : buffer whose 'length' first cells are the hexagons, in increasing order. The buffer is
+	 *                 reused by the caller and must be copied to be kept.
+	 */
+	void accept(int[] hexagons, int length);
+}
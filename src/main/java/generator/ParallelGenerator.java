@@ -0,0 +1,114 @@
+package generator;
+
+import benzenoid.Benzenoid;
+import generator.properties.model.ModelPropertySet;
+
+import java.util.ArrayList;
+import java.util.Collections;
+import java.util.HashSet;
+import java.util.List;
+import java.util.Set;
+import java.util.concurrent.ExecutionException;
+import java.util.concurrent.ExecutorService;
+import java.util.concurrent.Executors;
+import java.util.concurrent.Future;
+import java.util.function.Consumer;
+
+/***
+ * Generation splitting the search space into independent sub-models solved on a work-stealing pool.
+ * Each sub-model fixes the values of the first hexagons of the coronenoid (the top border), so that the
+ * sub-models are disjoint and cover the whole search space. The no-goods are shared between the
+ * sub-models, and the few isomorphic benzenoids found concurrently are removed before being given to the
+ * consumer, so that the result is the same set of benzenoids as a sequential generation.
+ */
+public enum ParallelGenerator {
+	;
+
+	/*
+	 * Number of sub-models per thread, so that the pool can balance the uneven sizes of the sub-models
+	 */
+	private static final int NB_SUB_MODELS_PER_THREAD = 4;
+
+	/***
+	 * Generates the benzenoids respecting the given properties with the given number of threads.
+	 * The consumer is called from the threads of the pool, one benzenoid at a time.
+	 * @return the number of benzenoids generated
+	 */
+	public static int generate(ModelPropertySet modelPropertySet, Consumer<Benzenoid> consumer,
+							   CancellationToken cancellationToken, int nbThreads) {
+
+		GeneralModel firstModel = ModelBuilder.buildModel(modelPropertySet);
+		if (firstModel == null)
+			throw new IllegalArgumentException("A property limiting the number of hexagons is required");
+
+		int nbFixedHexagons = 0;
+		while (nbFixedHexagons < firstModel.getHexBoolVars().length && nbFixedHexagons < firstModel.getNbCrowns()
+				&& (1 << nbFixedHexagons) < NB_SUB_MODELS_PER_THREAD * nbThreads)
+			nbFixedHexagons++;
+
+		/*
+		 * The sub-models are built (and their constraints posted) by the calling thread, only the searches
+		 * are run concurrently
+		 */
+
+		SharedNoGoods sharedNoGoods = new SharedNoGoods();
+		List<GeneralModel> subModels = new ArrayList<>();
+
+		for (int assignment = 0; assignment < (1 << nbFixedHexagons); assignment++) {
+
+			GeneralModel model = assignment == 0 ? firstModel : ModelBuilder.buildModel(modelPropertySet);
+			assert model != null;
+
+			for (int i = 0; i < nbFixedHexagons; i++)
+				model.getProblem().arithm(model.getHexBoolVar(i), "=", (assignment >> i) & 1).post();
+
+			model.setCancellationToken(cancellationToken);
+			model.setSharedNoGoods(sharedNoGoods);
+			model.setInTestMode(true);
+			model.prepareSolver();
+			subModels.add(model);
+		}
+
+		Set<String> generatedNames = new HashSet<>();
+		int[] nbGenerated = {0};
+
+		Consumer<Benzenoid> merger = molecule -> {
+			String name = Collections.min(molecule.getNames());
+			synchronized (generatedNames) {
+				if (generatedNames.add(name)) {
+					nbGenerated[0]++;
+					consumer.accept(molecule);
+				}
+			}
+		};
+
+		ExecutorService pool = Executors.newWorkStealingPool(nbThreads);
+
+		try {
+			List<Future<Integer>> futures = new ArrayList<>();
+			for (GeneralModel model : subModels)
+				futures.add(pool.submit(() -> model.run(merger)));
+
+			for (Future<Integer> future : futures)
+				future.get();
+
+		} catch (InterruptedException e) {
+			Thread.currentThread().interrupt();
+			cancellationToken.cancel();
+		} catch (ExecutionException e) {
+			cancellationToken.cancel();
+			throw new RuntimeException(e.getCause());
+		} finally {
+			pool.shutdown();
+		}
+
+		synchronized (generatedNames) {
+			return nbGenerated[0];
+		}
+	}
+
+	public static int generate(ModelPropertySet modelPropertySet, Consumer<Benzenoid> consumer,
+							   CancellationToken cancellationToken) {
+		return generate(modelPropertySet, consumer, cancellationToken, Runtime.getRuntime().availableProcessors());
+	}
+}
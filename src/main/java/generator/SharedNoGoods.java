@@ -0,0 +1,37 @@
+package generator;
+
+import java.util.ArrayList;
+import java.util.List;
+
+/***
+ * Solutions found by the models of a parallel generation. Each model records the no-goods of the
+ * solutions found by the others, so that an isomorphism class is (almost always) generated only once.
+ */
+public class SharedNoGoods {
+
+	private final ArrayList<ArrayList<Integer>> solutions = new ArrayList<>();
+	private final ArrayList<GeneralModel> owners = new ArrayList<>();
+
+	/***
+	 * @param vertices : compact indices of the hexagons of the solution
+	 */
+	public synchronized void publish(GeneralModel owner, ArrayList<Integer> vertices) {
+		solutions.add(vertices);
+		owners.add(owner);
+	}
+
+	public synchronized int size() {
+		return solutions.size();
+	}
+
+	/***
+	 * @return the solutions of index in [from, to[ which were not found by the given model
+	 */
+	public synchronized List<ArrayList<Integer>> getSolutions(int from, int to, GeneralModel model) {
+		List<ArrayList<Integer>> result = new ArrayList<>();
+		for (int i = from; i < to; i++)
+			if (owners.get(i) != model)
+				result.add(solutions.get(i));
+		return result;
+	}
+}
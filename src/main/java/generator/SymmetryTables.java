@@ -0,0 +1,133 @@
+package generator;
+
+import java.util.Arrays;
+import java.util.concurrent.ConcurrentHashMap;
+
+/***
+ * Lookup tables of a coronenoid, computed once per number of crowns : coordinates of the hexagons and the
+ * 12 symmetries of the coronenoid (6 rotations around its center, and the same after a reflection) as
+ * permutations of the compact indices of the hexagons.
+ */
+public final class SymmetryTables {
+
+	public static final int NB_SYMMETRIES = 12;
+
+	private static final ConcurrentHashMap<Integer, SymmetryTables> TABLES = new ConcurrentHashMap<>();
+
+	private final int nbCrowns;
+	private final int diameter;
+
+	/*
+	 * Line and column of each hexagon (by compact index)
+	 */
+	private final int[] lines;
+	private final int[] columns;
+
+	/*
+	 * Compact index of the hexagon at [line][column], -1 if outside of the coronenoid
+	 */
+	private final int[][] compactIndices;
+
+	/*
+	 * symmetries[k][i] : compact index of the image of hexagon i by the k-th symmetry
+	 */
+	private final int[][] symmetries;
+
+	private SymmetryTables(int nbCrowns) {
+
+		this.nbCrowns = nbCrowns;
+		diameter = 2 * nbCrowns - 1;
+
+		compactIndices = new int[diameter][diameter];
+		int nbHexagons = 0;
+		for (int line = 0; line < diameter; line++) {
+			Arrays.fill(compactIndices[line], -1);
+			for (int column = 0; column < diameter; column++)
+				if (isInCoronenoid(line, column))
+					compactIndices[line][column] = nbHexagons++;
+		}
+
+		lines = new int[nbHexagons];
+		columns = new int[nbHexagons];
+		for (int line = 0; line < diameter; line++)
+			for (int column = 0; column < diameter; column++)
+				if (compactIndices[line][column] != -1) {
+					lines[compactIndices[line][column]] = line;
+					columns[compactIndices[line][column]] = column;
+				}
+
+		/*
+		 * With (x, y) = (column, line) relative to the center, the rotation of 60 degrees is
+		 * (x, y) -> (x - y, x) and the reflection is (x, y) -> (y, x)
+		 */
+
+		int center = nbCrowns - 1;
+		symmetries = new int[NB_SYMMETRIES][nbHexagons];
+
+		for (int symmetry = 0; symmetry < NB_SYMMETRIES; symmetry++) {
+			for (int hexagon = 0; hexagon < nbHexagons; hexagon++) {
+
+				int x = columns[hexagon] - center;
+				int y = lines[hexagon] - center;
+
+				if (symmetry >= 6) {
+					int tmp = x;
+					x = y;
+					y = tmp;
+				}
+
+				for (int k = 0; k < symmetry % 6; k++) {
+					int tmp = x;
+					x = x - y;
+					y = tmp;
+				}
+
+				symmetries[symmetry][hexagon] = compactIndices[y + center][x + center];
+			}
+		}
+	}
+
+	public static SymmetryTables get(int nbCrowns) {
+		return TABLES.computeIfAbsent(nbCrowns, SymmetryTables::new);
+	}
+
+	public boolean isInCoronenoid(int line, int column) {
+		return line >= 0 && line < diameter && column >= 0 && column < diameter
+				&& Math.abs(line - column) <= nbCrowns - 1;
+	}
+
+	public int getNbCrowns() {
+		return nbCrowns;
+	}
+
+	public int getDiameter() {
+		return diameter;
+	}
+
+	public int getNbHexagons() {
+		return lines.length;
+	}
+
+	public int getLine(int hexagon) {
+		return lines[hexagon];
+	}
+
+	public int getColumn(int hexagon) {
+		return columns[hexagon];
+	}
+
+	/***
+	 * @return the compact index of the hexagon, -1 if it is outside of the coronenoid
+	 */
+	public int getCompactIndex(int line, int column) {
+		return isInCoronenoid(line, column) ? compactIndices[line][column] : -1;
+	}
+
+	/***
+	 * @return the compact index of the image of the hexagon by the given symmetry (0-5 : rotations of
+	 * k * 60 degrees, 6-11 : the same after a reflection)
+	 */
+	public int getImage(int symmetry, int hexagon) {
+		return symmetries[symmetry][hexagon];
+	}
+}
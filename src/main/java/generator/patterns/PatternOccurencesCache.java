@@ -0,0 +1,96 @@
+package generator.patterns;
+
+import java.util.Arrays;
+import java.util.Collections;
+import java.util.LinkedHashMap;
+import java.util.Map;
+import java.util.function.Supplier;
+
+/***
+ * Cache of the occurences of the patterns in the coronenoids, so that building several models with the same
+ * pattern (pattern UI, PatternProperty) computes its translations only once. The occurences of a pattern
+ * only depend on its shape, its labels and the diameter of the coronenoid : the key is the code of the pattern
+ * translated to (0, 0), and the least recently used entries are evicted.
+ */
+public enum PatternOccurencesCache {
+	;
+
+	private static final int CAPACITY = 64;
+
+	private static final Map<Key, PatternOccurences> CACHE = Collections.synchronizedMap(
+			new LinkedHashMap<>(16, 0.75f, true) {
+				@Override
+				protected boolean removeEldestEntry(Map.Entry<Key, PatternOccurences> eldest) {
+					return size() > CAPACITY;
+				}
+			});
+
+	/***
+	 * @return the occurences of the pattern in the coronenoid of the given diameter, computed by the given
+	 * function if they are not in the cache. The result is a copy which can be modified (e.g. by addAll).
+	 */
+	public static PatternOccurences get(Pattern pattern, int diameter, Supplier<PatternOccurences> computation) {
+
+		Key key = new Key(pattern, diameter);
+		PatternOccurences occurences = CACHE.get(key);
+
+		if (occurences == null) {
+			occurences = computation.get();
+			CACHE.put(key, occurences);
+		}
+
+		PatternOccurences copy = new PatternOccurences();
+		copy.addAll(occurences);
+		return copy;
+	}
+
+	public static void clear() {
+		CACHE.clear();
+	}
+
+	private static final class Key {
+
+		private final int[] code;
+		private final int hashCode;
+
+		/*
+		 * code : diameter, number of nodes, then for each node its label, its coordinates relative to the
+		 * top-left corner of the pattern and its 6 neighbors
+		 */
+		Key(Pattern pattern, int diameter) {
+
+			int nbNodes = pattern.getNbNodes();
+			int xMin = Integer.MAX_VALUE;
+			int yMin = Integer.MAX_VALUE;
+			for (int i = 0; i < nbNodes; i++) {
+				xMin = Math.min(xMin, pattern.getNode(i).getX());
+				yMin = Math.min(yMin, pattern.getNode(i).getY());
+			}
+
+			code = new int[2 + 9 * nbNodes];
+			code[0] = diameter;
+			code[1] = nbNodes;
+
+			int index = 2;
+			for (int i = 0; i < nbNodes; i++) {
+				code[index++] = pattern.getLabel(i).ordinal();
+				code[index++] = pattern.getNode(i).getX() - xMin;
+				code[index++] = pattern.getNode(i).getY() - yMin;
+				for (int j = 0; j < 6; j++)
+					code[index++] = pattern.getNeighbor(i, j);
+			}
+
+			hashCode = Arrays.hashCode(code);
+		}
+
+		@Override
+		public boolean equals(Object obj) {
+			return obj instanceof Key && Arrays.equals(code, ((Key) obj).code);
+		}
+
+		@Override
+		public int hashCode() {
+			return hashCode;
+		}
+	}
+}
@@ -0,0 +1,169 @@
+package generator.propagators;
+
+import generator.SymmetryTables;
+import org.chocosolver.solver.constraints.Propagator;
+import org.chocosolver.solver.constraints.PropagatorPriority;
+import org.chocosolver.solver.exception.ContradictionException;
+import org.chocosolver.solver.variables.BoolVar;
+import org.chocosolver.util.ESat;
+
+/***
+ * Ensures that the benzenoid has as many white carbons as black ones, which is necessary for it to have a
+ * Kekule structure. The difference between the two colors is the number of peaks (hexagons without upper
+ * neighbors) minus the number of valleys (hexagons without lower neighbors), i.e. Benzenoid.colorShift().
+ * The propagator bounds this difference on the partial assignment, and fixes the remaining peaks and valleys
+ * once one of the bounds is 0.
+ */
+public class PropColorBalance extends Propagator<BoolVar> {
+
+	/*
+	 * Value of a peak or valley term which is not yet known
+	 */
+	private static final int UNKNOWN = -1;
+
+	/*
+	 * peaks[i] / valleys[i] : compact indices of the two upper / lower neighbors of hexagon i, -1 if outside
+	 * of the coronenoid
+	 */
+	private final int[][] peaks;
+	private final int[][] valleys;
+
+	public PropColorBalance(BoolVar[] hexagons, int nbCrowns) {
+
+		super(hexagons, PropagatorPriority.LINEAR, false);
+
+		SymmetryTables tables = SymmetryTables.get(nbCrowns);
+		peaks = new int[hexagons.length][];
+		valleys = new int[hexagons.length][];
+
+		for (int i = 0; i < hexagons.length; i++) {
+			int line = tables.getLine(i);
+			int column = tables.getColumn(i);
+			peaks[i] = new int[] { tables.getCompactIndex(line - 1, column - 1), tables.getCompactIndex(line - 1, column) };
+			valleys[i] = new int[] { tables.getCompactIndex(line + 1, column), tables.getCompactIndex(line + 1, column + 1) };
+		}
+	}
+
+	@Override
+	public void propagate(int evtmask) throws ContradictionException {
+
+		boolean changed = true;
+
+		while (changed) {
+
+			int nbPeaks = 0, nbUnknownPeaks = 0;
+			int nbValleys = 0, nbUnknownValleys = 0;
+
+			for (int i = 0; i < vars.length; i++) {
+
+				int peak = termValue(i, peaks[i]);
+				if (peak == 1)
+					nbPeaks++;
+				else if (peak == UNKNOWN)
+					nbUnknownPeaks++;
+
+				int valley = termValue(i, valleys[i]);
+				if (valley == 1)
+					nbValleys++;
+				else if (valley == UNKNOWN)
+					nbUnknownValleys++;
+			}
+
+			int min = nbPeaks - nbValleys - nbUnknownValleys;
+			int max = nbPeaks + nbUnknownPeaks - nbValleys;
+
+			if (min > 0 || max < 0)
+				fails();
+
+			changed = false;
+
+			if (max == 0 && nbUnknownPeaks + nbUnknownValleys > 0) {
+				for (int i = 0; i < vars.length; i++) {
+					changed |= forceTerm(i, peaks[i], false);
+					changed |= forceTerm(i, valleys[i], true);
+				}
+			}
+
+			else if (min == 0 && nbUnknownPeaks + nbUnknownValleys > 0) {
+				for (int i = 0; i < vars.length; i++) {
+					changed |= forceTerm(i, peaks[i], true);
+					changed |= forceTerm(i, valleys[i], false);
+				}
+			}
+		}
+	}
+
+	/***
+	 * @return the value of the term "hexagon i is present and its two given neighbors are absent" : 1, 0 or
+	 * UNKNOWN
+	 */
+	private int termValue(int i, int[] neighbors) {
+
+		if (vars[i].isInstantiatedTo(0))
+			return 0;
+
+		boolean known = vars[i].isInstantiated();
+
+		for (int neighbor : neighbors) {
+			if (neighbor != -1) {
+				if (vars[neighbor].isInstantiatedTo(1))
+					return 0;
+				if (!vars[neighbor].isInstantiated())
+					known = false;
+			}
+		}
+
+		return known ? 1 : UNKNOWN;
+	}
+
+	/***
+	 * Forces the value of an unknown term. A term can only be made false when a single literal is left.
+	 * @return true iff a variable has been instantiated
+	 */
+	private boolean forceTerm(int i, int[] neighbors, boolean value) throws ContradictionException {
+
+		if (termValue(i, neighbors) != UNKNOWN)
+			return false;
+
+		if (value) {
+			boolean changed = vars[i].instantiateTo(1, this);
+			for (int neighbor : neighbors)
+				if (neighbor != -1)
+					changed |= vars[neighbor].instantiateTo(0, this);
+			return changed;
+		}
+
+		int nbUnknownLiterals = vars[i].isInstantiated() ? 0 : 1;
+		for (int neighbor : neighbors)
+			if (neighbor != -1 && !vars[neighbor].isInstantiated())
+				nbUnknownLiterals++;
+
+		if (nbUnknownLiterals != 1)
+			return false;
+
+		if (!vars[i].isInstantiated())
+			return vars[i].instantiateTo(0, this);
+
+		for (int neighbor : neighbors)
+			if (neighbor != -1 && !vars[neighbor].isInstantiated())
+				return vars[neighbor].instantiateTo(1, this);
+
+		return false;
+	}
+
+	@Override
+	public ESat isEntailed() {
+
+		int colorShift = 0;
+
+		for (int i = 0; i < vars.length; i++) {
+			int peak = termValue(i, peaks[i]);
+			int valley = termValue(i, valleys[i]);
+			if (peak == UNKNOWN || valley == UNKNOWN)
+				return ESat.UNDEFINED;
+			colorShift += peak - valley;
+		}
+
+		return ESat.eval(colorShift == 0);
+	}
+}
@@ -0,0 +1,87 @@
+package generator.propagators;
+
+import benzenoid.CarbonGraph;
+import benzenoid.SubGraph;
+import generator.SymmetryTables;
+import org.chocosolver.solver.constraints.Propagator;
+import org.chocosolver.solver.constraints.PropagatorPriority;
+import org.chocosolver.solver.exception.ContradictionException;
+import org.chocosolver.solver.variables.BoolVar;
+import org.chocosolver.util.ESat;
+import parsers.SolutionConverter;
+import solveur.LinAlgorithm.PerfectMatchingType;
+
+import java.util.ArrayList;
+import java.util.function.DoublePredicate;
+
+/***
+ * Checks the number of Kekule structures of the benzenoid as soon as all its hexagons are fixed, so that the
+ * solutions which do not respect it are rejected by the solver instead of being built and filtered afterwards.
+ * The number of Kekule structures is computed on the carbon graph only (exact determinant of the Rispoli
+ * matrix), without building the molecule. It is not monotonic when hexagons are added, so nothing is deduced from a partial assignment :
+ * the pruning of the partial assignments is done by PropColorBalance.
+ */
+public class PropKekuleStructures extends Propagator<BoolVar> {
+
+	private final int nbCrowns;
+	private final SymmetryTables tables;
+	private final DoublePredicate condition;
+
+	/*
+	 * Solutions rejected since the last call to pollRejectedSolutions()
+	 */
+	private ArrayList<ArrayList<Integer>> rejectedSolutions = new ArrayList<>();
+
+	public PropKekuleStructures(BoolVar[] hexagons, int nbCrowns, DoublePredicate condition) {
+		super(hexagons, PropagatorPriority.VERY_SLOW, false);
+		this.nbCrowns = nbCrowns;
+		this.condition = condition;
+		tables = SymmetryTables.get(nbCrowns);
+	}
+
+	@Override
+	public void propagate(int evtmask) throws ContradictionException {
+		if (isCompletelyInstantiated() && !condition.test(computeNbKekuleStructures())) {
+			ArrayList<Integer> hexagons = new ArrayList<>();
+			for (int i = 0; i < vars.length; i++)
+				if (vars[i].getValue() == 1)
+					hexagons.add(i);
+			rejectedSolutions.add(hexagons);
+			fails();
+		}
+	}
+
+	/***
+	 * @return the solutions rejected since the last call (compact indices of their hexagons), so that the
+	 * model can forbid their isomorphic solutions
+	 */
+	public ArrayList<ArrayList<Integer>> pollRejectedSolutions() {
+		ArrayList<ArrayList<Integer>> solutions = rejectedSolutions;
+		rejectedSolutions = new ArrayList<>();
+		return solutions;
+	}
+
+	@Override
+	public ESat isEntailed() {
+		if (!isCompletelyInstantiated())
+			return ESat.UNDEFINED;
+		return ESat.eval(condition.test(computeNbKekuleStructures()));
+	}
+
+	private double computeNbKekuleStructures() {
+
+		int diameter = tables.getDiameter();
+		ArrayList<Integer> verticesSolution = new ArrayList<>(diameter * diameter);
+		for (int i = 0; i < diameter * diameter; i++)
+			verticesSolution.add(0);
+
+		for (int i = 0; i < vars.length; i++)
+			if (vars[i].getValue() == 1)
+				verticesSolution.set(tables.getLine(i) * diameter + tables.getColumn(i), 1);
+
+		int[][] edgeMatrix = new SolutionConverter(verticesSolution, nbCrowns).buildEdgeMatrix();
+
+		return new SubGraph(new CarbonGraph(edgeMatrix), new int[edgeMatrix.length], PerfectMatchingType.EXACT)
+				.getNbPerfectMatchings();
+	}
+}
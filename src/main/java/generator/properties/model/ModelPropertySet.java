@@ -5,6 +5,7 @@ import generator.properties.PropertySet;
 import javafx.stage.FileChooser;
 import view.generator.boxes.HBoxCriterion;
 import view.generator.boxes.HBoxModelCriterion;
+import generator.properties.model.checkers.Checker;
 import generator.properties.model.expression.PropertyExpressionFactory;
 import java.io.*;
 import java.util.ArrayList;
@@ -80,6 +81,16 @@ public class ModelPropertySet extends PropertySet {
 			property.clearExpressions();
 	}
 
+	/***
+	 * @return true iff some property needs the molecule to be checked once found by the solver
+	 */
+	public boolean needsPostProcessing() {
+		for (Property property : getPropertyList())
+			if (property.hasExpressions() && ((ModelProperty) property).getChecker() != Checker.NOCHECKER)
+				return true;
+		return false;
+	}
+
 	public boolean symmetryConstraintsAppliable() {
 		return false;// TODO this.has("rectangle");
 	}
@@ -14,12 +14,18 @@ public class NbKekuleStructureChecker extends Checker {
 	 */
 	@Override
 	public boolean checks(Benzenoid molecule, ModelProperty property) {
+		return respects(molecule.getNbKekuleStructures(), property);
+	}
+
+	/***
+	 * Checks if the given number of Kekule structures respects the expressions of the property
+	 */
+	public static boolean respects(double nbKekuleStructures, ModelProperty property) {
 		ArrayList<PropertyExpression> expressions = property.getExpressions();
 		for(PropertyExpression expression : expressions)
 			if (expression instanceof BinaryNumericalExpression) {
 				String operator = ((BinaryNumericalExpression)expression).getOperator();
 				double value = ((BinaryNumericalExpression)expression).getValue();
-				double nbKekuleStructures = molecule.getNbKekuleStructures();
 				if(!comparison(nbKekuleStructures , operator, value))
 					return false;
 			}
@@ -29,7 +35,7 @@ public class NbKekuleStructureChecker extends Checker {
  * 
  * @return the boolean result of the comparison "value1 operator value2"
  */
-	private boolean comparison(double value1, String operator, double value2) {
+	private static boolean comparison(double value1, String operator, double value2) {
 		switch(operator) {
 		case "=" : return value1 == value2;
 		case "<" : return value1 < value2;
@@ -1,8 +1,7 @@
 package nogood;
 
-import java.util.ArrayList;
-
 import generator.GeneralModel;
+import generator.HexagonSetConsumer;
 import generator.Solution;
 
 public class NoGoodAllRecorder extends NoGoodRecorder {
@@ -12,8 +11,8 @@ public class NoGoodAllRecorder extends NoGoodRecorder {
 	}
 
 	@Override
-	protected ArrayList<ArrayList<Integer>> computeOccurences() {
-		return getSolution().allTranslations();
+	protected void computeOccurences(HexagonSetConsumer consumer) {
+		getSolution().allTranslations(consumer);
 	}
 
 }
@@ -3,6 +3,7 @@ package nogood;
 import java.util.ArrayList;
 
 import generator.GeneralModel;
+import generator.HexagonSetConsumer;
 import generator.Solution;
 
 public class NoGoodBorderRecorder extends NoGoodRecorder {
@@ -18,8 +19,8 @@ public class NoGoodBorderRecorder extends NoGoodRecorder {
 	}
 
 	@Override
-	protected ArrayList<ArrayList<Integer>> computeOccurences() {
-		return getSolution().borderTranslations(topBorder, leftBorder);
+	protected void computeOccurences(HexagonSetConsumer consumer) {
+		getSolution().borderTranslations(topBorder, leftBorder, consumer);
 	}
 
 }
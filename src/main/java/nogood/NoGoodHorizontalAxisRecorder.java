@@ -1,8 +1,7 @@
 package nogood;
 
-import java.util.ArrayList;
-
 import generator.GeneralModel;
+import generator.HexagonSetConsumer;
 import generator.Solution;
 
 public class NoGoodHorizontalAxisRecorder extends NoGoodRecorder {
@@ -12,7 +11,7 @@ public class NoGoodHorizontalAxisRecorder extends NoGoodRecorder {
 	}
 
 	@Override
-	protected ArrayList<ArrayList<Integer>> computeOccurences() {
-		return getSolution().translationsFaceMirror();
+	protected void computeOccurences(HexagonSetConsumer consumer) {
+		getSolution().translationsFaceMirror(consumer);
 	}
 }
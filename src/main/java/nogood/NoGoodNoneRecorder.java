@@ -1,8 +1,7 @@
 package nogood;
 
-import java.util.ArrayList;
-
 import generator.GeneralModel;
+import generator.HexagonSetConsumer;
 import generator.Solution;
 
 public class NoGoodNoneRecorder extends NoGoodRecorder {
@@ -13,9 +12,7 @@ public class NoGoodNoneRecorder extends NoGoodRecorder {
 	}
 
 	@Override
-	protected ArrayList<ArrayList<Integer>> computeOccurences() {
-		// TODO Auto-generated method stub
-		return new ArrayList<>();
+	protected void computeOccurences(HexagonSetConsumer consumer) {
 	}
 
 }
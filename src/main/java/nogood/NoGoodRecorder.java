@@ -1,12 +1,11 @@
 package nogood;
 
 import generator.GeneralModel;
+import generator.HexagonSetConsumer;
 import generator.Solution;
 import org.chocosolver.solver.variables.BoolVar;
 import org.chocosolver.util.objects.setDataStructures.iterable.IntIterableRangeSet;
 
-import java.util.ArrayList;
-
 public abstract class NoGoodRecorder {
 
 	private final GeneralModel model;
@@ -17,12 +16,13 @@ public abstract class NoGoodRecorder {
 		this.solution = solution;
 	}
 
-	protected abstract ArrayList<ArrayList<Integer>> computeOccurences();
+	/***
+	 * Gives to the consumer the sets of hexagons to forbid
+	 */
+	protected abstract void computeOccurences(HexagonSetConsumer consumer);
 
 	public void record() {
 
-		ArrayList<ArrayList<Integer>> translations = computeOccurences();
-
 		BoolVar reified = model.getNbHexagonsReified(getSolution().getNbNodes());
 
 		if (reified == null) {
@@ -32,49 +32,26 @@ public abstract class NoGoodRecorder {
 			reified = newVariable;
 		}
 
-		for (ArrayList<Integer> translation : translations) {
-
-			ArrayList<Integer> nogood = new ArrayList<>();
-
-			if (translation.size() > 1) {
-
-				BoolVar[] varClause = new BoolVar[translation.size() + 1];
-				IntIterableRangeSet[] valClause = new IntIterableRangeSet[translation.size() + 1];
-
-				for (int i = 0; i < translation.size(); i++) {
+		BoolVar nbHexagonsReified = reified;
 
-					varClause[i] = model.getHexBoolVars()[translation.get(i)];
-					valClause[i] = new IntIterableRangeSet(0);
+		computeOccurences((nogood, length) -> {
 
-					nogood.add(translation.get(i));
-				}
+			if (length == 0 || !model.getNoGoods().add(nogood, length))
+				return;
 
-				varClause[varClause.length - 1] = reified;
-				valClause[valClause.length - 1] = new IntIterableRangeSet(0);
+			BoolVar[] varClause = new BoolVar[length + 1];
+			IntIterableRangeSet[] valClause = new IntIterableRangeSet[length + 1];
 
-				if (!model.getNoGoods().contains(nogood)) {
-					model.getProblem().getClauseConstraint().addClause(varClause, valClause);
-					model.getNoGoods().add(nogood);
-				}
+			for (int i = 0; i < length; i++) {
+				varClause[i] = model.getHexBoolVars()[nogood[i]];
+				valClause[i] = new IntIterableRangeSet(0);
 			}
 
-			else if (translation.size() == 1) {
-
-				nogood.add(translation.get(0));
-				nogood.add(translation.get(0));
-
-				BoolVar[] varClause = new BoolVar[] { model.getHexBoolVars()[translation.get(0)], reified };
-
-				IntIterableRangeSet[] valClause = new IntIterableRangeSet[] { new IntIterableRangeSet(0),
-						new IntIterableRangeSet(0) };
-
-				if (!model.getNoGoods().contains(nogood)) {
-					model.getProblem().getClauseConstraint().addClause(varClause, valClause);
-					model.getNoGoods().add(nogood);
-				}
-			}
-		}
+			varClause[length] = nbHexagonsReified;
+			valClause[length] = new IntIterableRangeSet(0);
 
+			model.getProblem().getClauseConstraint().addClause(varClause, valClause);
+		});
 	}
 
 	public Solution getSolution() {
@@ -0,0 +1,132 @@
+package nogood;
+
+import java.util.Arrays;
+
+/***
+ * Set of the no-goods recorded by a model. A no-good is the (sorted) set of the compact indices of the
+ * hexagons of a forbidden solution. The no-goods are stored as primitive int arrays, and are found with an
+ * open addressing hash table keyed by a 64-bit hash of the sorted hexagons.
+ */
+public class NoGoodStore {
+
+	private static final int INITIAL_CAPACITY = 1024;
+
+	/*
+	 * Recorded no-goods, by order of insertion
+	 */
+	private int[][] nogoods = new int[INITIAL_CAPACITY][];
+	private int size;
+
+	/*
+	 * Hash table : index + 1 of the no-good in nogoods (0 for an empty slot)
+	 */
+	private int[] table = new int[2 * INITIAL_CAPACITY];
+
+	/***
+	 * Adds the no-good made of the given hexagons
+	 * @param hexagons : compact indices of the hexagons (in any order, the array is not modified)
+	 * @return true iff the no-good was not already recorded
+	 */
+	public boolean add(int[] hexagons) {
+		int[] nogood = hexagons.clone();
+		Arrays.sort(nogood);
+		return add(nogood, nogood.length);
+	}
+
+	/***
+	 * Adds the no-good made of the 'length' first hexagons of the array, which must be sorted. The array is only
+	 * copied if the no-good is new, so that a buffer can be given.
+	 * @return true iff the no-good was not already recorded
+	 */
+	public boolean add(int[] sortedHexagons, int length) {
+
+		long hash = hash(sortedHexagons, length);
+		int slot = findSlot(sortedHexagons, length, hash);
+
+		if (table[slot] != 0)
+			return false;
+
+		int[] nogood = Arrays.copyOf(sortedHexagons, length);
+
+		if (size == nogoods.length)
+			nogoods = Arrays.copyOf(nogoods, 2 * size);
+
+		nogoods[size] = nogood;
+		size++;
+		table[slot] = size;
+
+		if (2 * size > table.length)
+			rehash();
+
+		return true;
+	}
+
+	public boolean contains(int[] hexagons) {
+		int[] nogood = hexagons.clone();
+		Arrays.sort(nogood);
+		return table[findSlot(nogood, nogood.length, hash(nogood, nogood.length))] != 0;
+	}
+
+	/***
+	 * @return the slot of the table containing the given no-good, or the empty slot where it would be added
+	 */
+	private int findSlot(int[] nogood, int length, long hash) {
+		int mask = table.length - 1;
+		int slot = (int) (hash ^ (hash >>> 32)) & mask;
+		while (table[slot] != 0) {
+			int index = table[slot] - 1;
+			if (Arrays.equals(nogoods[index], 0, nogoods[index].length, nogood, 0, length))
+				return slot;
+			slot = (slot + 1) & mask;
+		}
+		return slot;
+	}
+
+	public int size() {
+		return size;
+	}
+
+	/***
+	 * @return the index-th recorded no-good (sorted), which must not be modified
+	 */
+	public int[] get(int index) {
+		return nogoods[index];
+	}
+
+	/***
+	 * @return an estimation of the memory used by the store, in bytes
+	 */
+	public long memoryFootprint() {
+		long bytes = 4L * table.length + 4L * nogoods.length;
+		for (int i = 0; i < size; i++)
+			bytes += 16 + 4L * nogoods[i].length;
+		return bytes;
+	}
+
+	private void rehash() {
+		table = new int[2 * table.length];
+		int mask = table.length - 1;
+		for (int index = 0; index < size; index++) {
+			long hash = hash(nogoods[index], nogoods[index].length);
+			int slot = (int) (hash ^ (hash >>> 32)) & mask;
+			while (table[slot] != 0)
+				slot = (slot + 1) & mask;
+			table[slot] = index + 1;
+		}
+	}
+
+	/***
+	 * 64-bit FNV-1a hash of the hexagons, followed by a final mix so that the low bits are usable as a slot
+	 */
+	static long hash(int[] nogood, int length) {
+		long hash = 0xcbf29ce484222325L;
+		for (int i = 0; i < length; i++) {
+			hash ^= nogood[i];
+			hash *= 0x100000001b3L;
+		}
+		hash ^= hash >>> 33;
+		hash *= 0xff51afd7ed558ccdL;
+		hash ^= hash >>> 33;
+		return hash;
+	}
+}
@@ -1,8 +1,7 @@
 package nogood;
 
-import java.util.ArrayList;
-
 import generator.GeneralModel;
+import generator.HexagonSetConsumer;
 import generator.Solution;
 
 public class NoGoodUniqueRecorder extends NoGoodRecorder {
@@ -13,10 +12,8 @@ public class NoGoodUniqueRecorder extends NoGoodRecorder {
 	}
 
 	@Override
-	protected ArrayList<ArrayList<Integer>> computeOccurences() {
-		ArrayList<ArrayList<Integer>> translations = new ArrayList<>();
-		translations.add(getSolution().getVertices());
-		return translations;
+	protected void computeOccurences(HexagonSetConsumer consumer) {
+		consumer.accept(getSolution().getHexagons(), getSolution().getNbNodes());
 	}
 
 }
@@ -52,24 +52,8 @@ public enum GraphParser {
 			verticesSolution.set(hexagon, 1);
 		}
 
-		String graphFilename = "tmp.graph";
-		String graphCoordFilename = "tmp.graph_coord";
+		Benzenoid molecule = new SolutionConverter(verticesSolution, nbCrowns).buildBenzenoid();
 
-		GraphFileBuilder graphBuilder = new GraphFileBuilder(verticesSolution, graphFilename, nbCrowns);
-		graphBuilder.buildGraphFile();
-
-		GraphCoordFileBuilder graphCoordBuilder = new GraphCoordFileBuilder(graphFilename, graphCoordFilename);
-		graphCoordBuilder.convertInstance();
-
-		Benzenoid molecule = GraphParser.parseUndirectedGraph(graphCoordFilename, null, false);
-
-		File file = new File("tmp.graph");
-		file.delete();
-
-		file = new File("tmp.graph_coord");
-		file.delete();
-
-		assert molecule != null;
 		molecule.setVerticesSolutions(verticesSolution);
 
 		return molecule;
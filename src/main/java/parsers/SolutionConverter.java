@@ -2,18 +2,26 @@ package parsers;
 
 import benzenoid.Benzenoid;
 import benzenoid.Node;
-import utils.Couple;
 import utils.HexNeighborhood;
 import utils.RelativeMatrix;
-import utils.Utils;
 
-import java.awt.*;
 import java.util.ArrayList;
 import java.util.Arrays;
 import java.util.List;
 
+/***
+ * Builds a Benzenoid from a solution of the generator (a 0/1 value for each hexagon of the coronenoid)
+ * entirely in memory. The result is the same molecule as the one obtained by chaining GraphFileBuilder,
+ * GraphCoordFileBuilder and GraphParser.parseUndirectedGraph (same carbon indices, same edges order,
+ * same coordinates and same hexagons), without writing tmp.graph / tmp.graph_coord files.
+ */
 public class SolutionConverter {
 
+    /*
+     * Shift between the carbon at position i of an hexagon and the one at position i + 1
+     */
+    private static final int [][] TRANSITIONS = {{1, 1}, {0, 1}, {-1, 1}, {-1, -1}, {0, -1}, {1, -1}};
+
     private final List<Integer> solution;
     private final int nbCrowns;
 
@@ -21,17 +29,25 @@ public class SolutionConverter {
 
     private int [][] solutionMatrix;
 
+    /*
+     * Hexagons present in the solution, by increasing index in the coronenoid, with the
+     * carbons indices given by GraphFileBuilder
+     */
     private int [][] hexagons;
+    private int [][] hexagonsNeighbors;
+    private int nbNodes;
+    private int nbEdges;
 
-    private int [][] adjacencyMatrix;
-
-    private int [] hexagonsCovered;
-
-    private Node[] verticesCoordinates;
+    /*
+     * Coordinates of the carbons, computed as GraphCoordFileBuilder does
+     */
+    private int [] xCoordinates;
+    private int [] yCoordinates;
+    private boolean [] placedNodes;
+    private int [][] nodesNeighbors;
+    private int [] nodesDegrees;
 
-    private RelativeMatrix nodesCoordinates;
-
-    private List<String> hexagonsString;
+    private ArrayList<String> hexagonsString;
 
     public SolutionConverter(List<Integer> solution, int nbCrowns) {
         this.solution = solution;
@@ -41,220 +57,248 @@ public class SolutionConverter {
 
     public Benzenoid buildBenzenoid() {
 
-        //int nbNodes = solution.size();
+        buildHexagons();
+        computeCoordinates();
 
-        int [] checkedHexagons = new int[diameter * diameter];
-        Arrays.fill(checkedHexagons, -1);
+        /*
+         * Renumbering the carbons in the order GraphParser discovers them while reading the edges
+         */
 
-        for (int i = 0 ; i < solution.size() ; i++) {
-            if (solution.get(i) == 1)
-                checkedHexagons[i] = 0;
-        }
+        int [] newIndices = new int[nbNodes];
+        Arrays.fill(newIndices, -1);
 
-        int n = 0;
-        int indexNode = 0;
+        int nbHexagons = hexagons.length;
 
-        int solutionSize = solution.stream().reduce(0, Integer::sum);
+        Node [] nodes = new Node[nbNodes];
+        RelativeMatrix nodesCoordinates = new RelativeMatrix(8 * nbHexagons + 1, 16 * nbHexagons + 1, 4 * nbHexagons, 8 * nbHexagons);
+        int [][] edgeMatrix = new int[nbNodes][nbNodes];
+        ArrayList<ArrayList<Integer>> edgeLists = new ArrayList<>();
+        ArrayList<String> edgesString = new ArrayList<>();
 
-        hexagons = new int [solution.size()][6];
-        for (int[] hexagon : hexagons) Arrays.fill(hexagon, -1);
+        for (int i = 0 ; i < nbNodes ; i++)
+            edgeLists.add(new ArrayList<>());
 
-        while (n < solutionSize) {
-            int hexagon = findCandidate(checkedHexagons);
-            int [] neighborhood = neighborhood(hexagon);
+        int nodeIndex = 0;
+        int edgeIndex = 0;
 
-            makeNeighbors(checkedHexagons, hexagons, hexagon, neighborhood);
+        for (int i = 0 ; i < nbNodes ; i++) {
 
-            for (int i = 0 ; i < neighborhood.length ; i++) {
-                if (hexagons[hexagon][i] == -1) {
-                    hexagons[hexagon][i] = indexNode;
-                    indexNode ++;
-                }
-            }
+            int [] neighbors = Arrays.copyOf(nodesNeighbors[i], nodesDegrees[i]);
+            Arrays.sort(neighbors);
 
-            checkedHexagons[hexagon] = 1;
-            n++;
-        }
+            for (int j : neighbors) {
 
-        int [][] edgeMatrix = new int[indexNode][indexNode];
-        int nbEdges = 0;
-        int nbHexagons = 0;
+                if (j > i) {
 
-        for (int[] hexagon : hexagons) {
-            if (isHexagonFull(hexagon)) {
-                nbHexagons++;
-                for (int i = 0; i < 6; i++) {
-                    int u = hexagon[i];
-                    int v = hexagon[(i + 1) % 6];
-
-                    if (edgeMatrix[u][v] == 0) {
-                        edgeMatrix[u][v] = 1;
-                        edgeMatrix[v][u] = 1;
-                        nbEdges++;
+                    if (newIndices[i] == -1) {
+                        newIndices[i] = nodeIndex;
+                        nodes[nodeIndex] = new Node(xCoordinates[i], yCoordinates[i], nodeIndex);
+                        nodesCoordinates.set(xCoordinates[i], yCoordinates[i], nodeIndex);
+                        nodeIndex ++;
                     }
-                }
-            }
-        }
-
-        /*
-         * Computing coordinates
-         */
 
-        int nbNodes = indexNode;
+                    if (newIndices[j] == -1) {
+                        newIndices[j] = nodeIndex;
+                        nodes[nodeIndex] = new Node(xCoordinates[j], yCoordinates[j], nodeIndex);
+                        nodesCoordinates.set(xCoordinates[j], yCoordinates[j], nodeIndex);
+                        nodeIndex ++;
+                    }
 
-        verticesCoordinates = new Node[nbNodes];
-        nodesCoordinates = new RelativeMatrix(8 * nbHexagons + 1, 16 * nbHexagons + 1, 4 * nbHexagons, 8 * nbHexagons);
-        adjacencyMatrix = new int[nbNodes][nbNodes];
-        hexagonsCovered = new int[nbHexagons];
+                    int u = newIndices[i];
+                    int v = newIndices[j];
 
-        hexagonsString = new ArrayList<>();
+                    edgeLists.get(u).add(edgeIndex);
+                    edgeLists.get(v).add(edgeIndex);
+                    edgeMatrix[u][v] = 1;
+                    edgeMatrix[v][u] = 1;
+                    edgesString.add("e " + xCoordinates[i] + "_" + yCoordinates[i] + " " + xCoordinates[j] + "_" + yCoordinates[j]);
+                    edgeIndex ++;
+                }
+            }
+        }
 
-        setFirstHexagon();
+        return new Benzenoid(nbNodes, nbEdges, nbHexagons, edgeLists, edgeMatrix, edgesString, hexagonsString,
+                nodes, nodesCoordinates, -1);
+    }
 
-        ArrayList<Integer> candidats = new ArrayList<>();
-        candidats.add(0);
+    /***
+     * Builds only the carbon graph of the solution (no coordinates, no Benzenoid), for the computations
+     * done during the search
+     * @return the adjacency matrix of the carbons, with the indices given by GraphFileBuilder
+     */
+    public int [][] buildEdgeMatrix() {
 
-        while (!candidats.isEmpty()) {
-            int candidat = candidats.get(0);
+        buildHexagons();
 
-            for (int hexagon = 0; hexagon < nbHexagons; hexagon++) {
-                if (hexagon != candidat && hexagonsCovered[hexagon] == 0) {
+        int [][] edgeMatrix = new int[nbNodes][nbNodes];
+        for (int u = 0 ; u < nbNodes ; u++)
+            for (int i = 0 ; i < nodesDegrees[u] ; i++)
+                edgeMatrix[u][nodesNeighbors[u][i]] = 1;
 
-                    for (int i = 0; i < 6; i++) {
-                        int j = (i + 1) % 6;
+        return edgeMatrix;
+    }
 
-                        //CHERCHER SI hexagon est sharesSide à candidat
+    /***
+     * Gives an index to each carbon, hexagon after hexagon (same indices as GraphFileBuilder)
+     */
+    private void buildHexagons() {
 
-                        for (int i2 = 0; i2 < 6; i2++) {
-                            int j2 = (i2 + 1) % 6;
+        int [][] sparseHexagons = new int [solution.size()][];
+        int [] compactIndices = new int[solution.size()];
+        Arrays.fill(compactIndices, -1);
 
-                            if ((hexagons[candidat][i] == hexagons[hexagon][i2] &&
-                                    hexagons[candidat][j] == hexagons[hexagon][j2]) ||
-                                    (hexagons[candidat][i] == hexagons[hexagon][j2] &&
-                                            hexagons[candidat][j] == hexagons[hexagon][i2])) {
+        int nbHexagons = 0;
+        for (int i = 0 ; i < solution.size() ; i++) {
+            if (solution.get(i) == 1) {
+                compactIndices[i] = nbHexagons;
+                nbHexagons ++;
+            }
+        }
 
-                                Node[] nodesHexagon = new Node[6];
+        hexagons = new int[nbHexagons][];
+        hexagonsNeighbors = new int[nbHexagons][6];
 
-                                if (hexagons[candidat][i] == hexagons[hexagon][i2] &&
-                                        hexagons[candidat][j] == hexagons[hexagon][j2]) {
+        int indexNode = 0;
 
-                                    nodesHexagon[i2] = verticesCoordinates[hexagons[candidat][i]];
-                                    nodesHexagon[j2] = verticesCoordinates[hexagons[candidat][j]];
+        for (int hexagon = 0 ; hexagon < solution.size() ; hexagon++) {
 
-                                }
+            if (compactIndices[hexagon] == -1)
+                continue;
 
-                                if (hexagons[candidat][i] == hexagons[hexagon][j2] &&
-                                        hexagons[candidat][j] == hexagons[hexagon][i2]) {
+            int [] neighborhood = neighborhood(hexagon);
+            int [] vertices = new int[6];
+            Arrays.fill(vertices, -1);
 
-                                    nodesHexagon[i2] = verticesCoordinates[hexagons[candidat][j]];
-                                    nodesHexagon[j2] = verticesCoordinates[hexagons[candidat][i]];
+            makeNeighbors(sparseHexagons, vertices, neighborhood);
 
-                                }
+            for (int i = 0 ; i < 6 ; i++) {
+                if (vertices[i] == -1) {
+                    vertices[i] = indexNode;
+                    indexNode ++;
+                }
+                hexagonsNeighbors[compactIndices[hexagon]][i] = neighborhood[i] == -1 ? -1 : compactIndices[neighborhood[i]];
+            }
 
-                                //On cherche si il existe d'autres hexagons déja traités à part candidat qui sont adjacents à $hexagone
-                                for (int hexagon2 = 0; hexagon2 < nbHexagons; hexagon2++) {
-                                    if (hexagon2 != candidat && hexagon2 != hexagon && hexagonsCovered[hexagon2] == 1) {
+            sparseHexagons[hexagon] = vertices;
+            hexagons[compactIndices[hexagon]] = vertices;
+        }
 
-                                        //test d'adjacence
-                                        for (int i3 = 0; i3 < 6; i3++) {
-                                            int j3 = (i3 + 1) % 6;
+        nbNodes = indexNode;
 
-                                            for (int i4 = 0; i4 < 6; i4++) {
-                                                int j4 = (i4 + 1) % 6;
+        nodesNeighbors = new int[nbNodes][3];
+        nodesDegrees = new int[nbNodes];
+        nbEdges = 0;
 
-                                                if (hexagons[hexagon][i3] == hexagons[hexagon2][i4] &&
-                                                        hexagons[hexagon][j3] == hexagons[hexagon2][j4]) {
+        for (int [] hexagon : hexagons) {
+            for (int i = 0 ; i < 6 ; i++) {
+                int u = hexagon[i];
+                int v = hexagon[(i + 1) % 6];
+                if (!areNeighbors(u, v)) {
+                    nodesNeighbors[u][nodesDegrees[u]] = v;
+                    nodesDegrees[u] ++;
+                    nodesNeighbors[v][nodesDegrees[v]] = u;
+                    nodesDegrees[v] ++;
+                    nbEdges ++;
+                }
+            }
+        }
+    }
 
-                                                    nodesHexagon[i3] = verticesCoordinates[hexagons[hexagon2][i4]];
-                                                    nodesHexagon[j3] = verticesCoordinates[hexagons[hexagon2][j4]];
-                                                }
+    /***
+     * Places the carbons on the grid with a breadth-first walk over the hexagons (same walk as GraphCoordFileBuilder)
+     */
+    private void computeCoordinates() {
 
-                                                if (hexagons[hexagon][i3] == hexagons[hexagon2][j4] &&
-                                                        hexagons[hexagon][j3] == hexagons[hexagon2][i4]) {
+        int nbHexagons = hexagons.length;
 
-                                                    nodesHexagon[i3] = verticesCoordinates[hexagons[hexagon2][j4]];
-                                                    nodesHexagon[j3] = verticesCoordinates[hexagons[hexagon2][i4]];
-                                                }
+        xCoordinates = new int[nbNodes];
+        yCoordinates = new int[nbNodes];
+        placedNodes = new boolean[nbNodes];
+        hexagonsString = new ArrayList<>();
 
-                                            }
-                                        }
-                                    }
-                                }
+        boolean [] hexagonsCovered = new boolean[nbHexagons];
 
-                                //puis on ajoute les noeuds non renseignés par rapport à ceux déja connus
+        setFirstHexagon();
+        hexagonsCovered[0] = true;
 
-                                int firstIndex = 0;
-                                for (int index = 0; index < 6; index++) {
-                                    if (nodesHexagon[index] != null) {
-                                        firstIndex = index;
-                                        break;
-                                    }
-                                }
+        int [] candidats = new int[nbHexagons];
+        int first = 0;
+        int last = 0;
+        candidats[last++] = 0;
 
-                                int cpt = 0;
-                                while (cpt < 6) {
-                                    int nextIndex = (firstIndex + 1) % 6;
-                                    if (nodesHexagon[nextIndex] == null) {
-                                        assert nodesHexagon[firstIndex] != null;
-                                        Point newCoord = transition(nodesHexagon[firstIndex].getX(), nodesHexagon[firstIndex].getY(), firstIndex);
-                                        int nodeId = hexagons[hexagon][nextIndex];
-                                        nodesHexagon[nextIndex] = new Node((int) newCoord.getX(), (int) newCoord.getY(), nodeId);
-                                    }
-                                    firstIndex = (firstIndex + 1) % 6;
-                                    cpt++;
-                                }
+        while (first < last) {
 
-                                StringBuilder builder = new StringBuilder();
-                                builder.append("h ");
-                                for (int index = 0; index < nodesHexagon.length; index++) {
-                                    Node node = nodesHexagon[index];
-                                    Node node2 = nodesHexagon[(index + 1) % 6];
+            int candidat = candidats[first++];
 
-                                    assert node != null;
-                                    adjacencyMatrix[node.getIndex()][node2.getIndex()] = 1;
-                                    adjacencyMatrix[node2.getIndex()][node.getIndex()] = 1;
+            int [] neighbors = Arrays.stream(hexagonsNeighbors[candidat]).filter(neighbor -> neighbor != -1).sorted().toArray();
 
-                                    builder.append(node.getX()).append("_").append(node.getY());
-                                    if (index < nodesHexagon.length - 1)
-                                        builder.append(" ");
+            for (int hexagon : neighbors) {
+                if (!hexagonsCovered[hexagon]) {
+                    placeHexagon(hexagon);
+                    hexagonsCovered[hexagon] = true;
+                    candidats[last++] = hexagon;
+                }
+            }
+        }
+    }
 
-                                    nodesCoordinates.set(node.getX(), node.getY(), node.getIndex());
-                                    nodesCoordinates.set(node2.getX(), node2.getY(), node2.getIndex());
+    private void placeHexagon(int hexagon) {
 
-                                    verticesCoordinates[node.getIndex()] = node;
-                                }
+        int [] vertices = hexagons[hexagon];
 
-                                hexagonsString.add(builder.toString());
-                                //on ajoute hexagone aux candidats
-                                candidats.add(hexagon);
-                                hexagonsCovered[hexagon] = 1;
-                            }
-                        }
-                    }
-                }
+        int firstIndex = 0;
+        for (int index = 0 ; index < 6 ; index++) {
+            if (placedNodes[vertices[index]]) {
+                firstIndex = index;
+                break;
             }
-            candidats.remove(0);
         }
 
-        int [][] finalHexagons = new int[nbHexagons][6];
-        int index = 0;
-        for (int [] hexagon : hexagons) {
-            boolean valid = true;
-            for (int i = 0 ; i < hexagon.length ; i++) {
-                if (hexagon[i] == -1) {
-                    valid = false;
-                    break;
-                }
-            }
-            if (valid) {
-                finalHexagons[index] = hexagon;
-                index ++;
+        for (int cpt = 0 ; cpt < 6 ; cpt++) {
+            int nextIndex = (firstIndex + 1) % 6;
+            if (!placedNodes[vertices[nextIndex]]) {
+                int u = vertices[firstIndex];
+                placeNode(vertices[nextIndex], xCoordinates[u] + TRANSITIONS[firstIndex][0], yCoordinates[u] + TRANSITIONS[firstIndex][1]);
             }
+            firstIndex = nextIndex;
+        }
+
+        addHexagonString(vertices);
+    }
+
+    private void setFirstHexagon() {
+        int [] vertices = hexagons[0];
+        placeNode(vertices[0], 0, 0);
+        placeNode(vertices[1], 1, 1);
+        placeNode(vertices[2], 1, 2);
+        placeNode(vertices[3], 0, 3);
+        placeNode(vertices[4], -1, 2);
+        placeNode(vertices[5], -1, 1);
+        addHexagonString(vertices);
+    }
 
+    private void placeNode(int node, int x, int y) {
+        xCoordinates[node] = x;
+        yCoordinates[node] = y;
+        placedNodes[node] = true;
+    }
+
+    private void addHexagonString(int [] vertices) {
+        StringBuilder builder = new StringBuilder();
+        builder.append("h ");
+        for (int index = 0 ; index < 6 ; index++) {
+            builder.append(xCoordinates[vertices[index]]).append("_").append(yCoordinates[vertices[index]]);
+            if (index < 5)
+                builder.append(" ");
         }
+        hexagonsString.add(builder.toString());
+    }
 
-        Benzenoid benzenoid = new Benzenoid(nbNodes, nbEdges, nbHexagons, finalHexagons, verticesCoordinates, edgeMatrix, nodesCoordinates);
-        return benzenoid;
+    private boolean areNeighbors(int u, int v) {
+        for (int i = 0 ; i < nodesDegrees[u] ; i++)
+            if (nodesNeighbors[u][i] == v)
+                return true;
+        return false;
     }
 
     private void buildCoordinatesMatrix() {
@@ -303,25 +347,13 @@ public class SolutionConverter {
         }
     }
 
-    private int findCandidate(int [] checkedHexagons) {
-
-        for (int i = 0 ; i < checkedHexagons.length ; i++) {
-            if (checkedHexagons[i] == 0)
-                return i;
-        }
-        return -1;
-    }
-
     private int [] neighborhood(int hexagon) {
 
         int [] neighborhood = new int[6];
-        for (int i = 0 ; i < 6 ; i++)
-            neighborhood[i] = -1;
+        Arrays.fill(neighborhood, -1);
 
-        Couple<Integer, Integer> coords = Utils.getHexagonCoords(hexagon, diameter);
-        assert coords != null;
-        int x = coords.getX();
-        int y = coords.getY();
+        int x = hexagon % diameter;
+        int y = hexagon / diameter;
 
         for(HexNeighborhood neighbor : HexNeighborhood.values()) {
             int x2 = x + neighbor.dx();
@@ -337,96 +369,35 @@ public class SolutionConverter {
         return neighborhood;
     }
 
-    private void makeNeighbors(int[] checkedHexagons, int[][] hexagons, int hexagon, int[] neighborhood) {
+    private void makeNeighbors(int[][] sparseHexagons, int[] vertices, int[] neighborhood) {
         for (int i = 0 ; i < neighborhood.length ; i++) {
 
             int neighbor = neighborhood[i];
 
-            if (neighbor != -1 && checkedHexagons[neighbor] == 1) {
+            if (neighbor != -1 && sparseHexagons[neighbor] != null) {
+
+                int [] neighborVertices = sparseHexagons[neighbor];
 
                 if (i == 0) {
-                    hexagons[hexagon][0] = hexagons[neighbor][4];
-                    hexagons[hexagon][1] = hexagons[neighbor][3];
+                    vertices[0] = neighborVertices[4];
+                    vertices[1] = neighborVertices[3];
                 } else if (i == 1) {
-                    hexagons[hexagon][1] = hexagons[neighbor][5];
-                    hexagons[hexagon][2] = hexagons[neighbor][4];
+                    vertices[1] = neighborVertices[5];
+                    vertices[2] = neighborVertices[4];
                 } else if (i == 2) {
-                    hexagons[hexagon][2] = hexagons[neighbor][0];
-                    hexagons[hexagon][3] = hexagons[neighbor][5];
+                    vertices[2] = neighborVertices[0];
+                    vertices[3] = neighborVertices[5];
                 } else if (i == 3) {
-                    hexagons[hexagon][3] = hexagons[neighbor][1];
-                    hexagons[hexagon][4] = hexagons[neighbor][0];
+                    vertices[3] = neighborVertices[1];
+                    vertices[4] = neighborVertices[0];
                 } else if (i == 4) {
-                    hexagons[hexagon][5] = hexagons[neighbor][1];
-                    hexagons[hexagon][4] = hexagons[neighbor][2];
+                    vertices[5] = neighborVertices[1];
+                    vertices[4] = neighborVertices[2];
                 } else if (i == 5) {
-                    hexagons[hexagon][0] = hexagons[neighbor][2];
-                    hexagons[hexagon][5] = hexagons[neighbor][3];
+                    vertices[0] = neighborVertices[2];
+                    vertices[5] = neighborVertices[3];
                 }
             }
         }
     }
-
-    private boolean isHexagonFull(int [] hexagon) {
-
-        for (int j : hexagon) {
-            if (j == -1)
-                return false;
-        }
-
-        return true;
-    }
-
-    private void setFirstHexagon() {
-        //Adding firstHexagon
-        nodesCoordinates.set(0, 0, hexagons[0][0]);
-        nodesCoordinates.set(1, 1, hexagons[0][1]);
-        nodesCoordinates.set(1, 2, hexagons[0][2]);
-        nodesCoordinates.set(0, 3, hexagons[0][3]);
-        nodesCoordinates.set(-1, 2, hexagons[0][4]);
-        nodesCoordinates.set(-1, 1, hexagons[0][5]);
-
-        verticesCoordinates[hexagons[0][0]] = new Node(0, 0, hexagons[0][0]);
-        verticesCoordinates[hexagons[0][1]] = new Node(1, 1, hexagons[0][1]);
-        verticesCoordinates[hexagons[0][2]] = new Node(1, 2, hexagons[0][2]);
-        verticesCoordinates[hexagons[0][3]] = new Node(0, 3, hexagons[0][3]);
-        verticesCoordinates[hexagons[0][4]] = new Node(-1, 2, hexagons[0][4]);
-        verticesCoordinates[hexagons[0][5]] = new Node(-1, 1, hexagons[0][5]);
-
-        adjacencyMatrix[hexagons[0][0]][hexagons[0][1]] = 1;
-        adjacencyMatrix[hexagons[0][1]][hexagons[0][0]] = 1;
-        adjacencyMatrix[hexagons[0][1]][hexagons[0][2]] = 1;
-        adjacencyMatrix[hexagons[0][2]][hexagons[0][1]] = 1;
-        adjacencyMatrix[hexagons[0][2]][hexagons[0][3]] = 1;
-        adjacencyMatrix[hexagons[0][3]][hexagons[0][2]] = 1;
-        adjacencyMatrix[hexagons[0][3]][hexagons[0][4]] = 1;
-        adjacencyMatrix[hexagons[0][4]][hexagons[0][3]] = 1;
-        adjacencyMatrix[hexagons[0][4]][hexagons[0][5]] = 1;
-        adjacencyMatrix[hexagons[0][5]][hexagons[0][4]] = 1;
-        adjacencyMatrix[hexagons[0][5]][hexagons[0][0]] = 1;
-        adjacencyMatrix[hexagons[0][0]][hexagons[0][5]] = 1;
-
-        hexagonsString.add("h 0_0 1_1 1_2 0_3 -1_2 -1_1");
-
-        hexagonsCovered[0] = 1;
-    }
-
-    private Point transition(int x, int y, int position) {
-
-        //Constants
-        int h = 0;
-        if (position == h) return new Point(x + 1, y + 1);
-        int HD = 1;
-        if (position == HD) return new Point(x, y + 1);
-        int BD = 2;
-        if (position == BD) return new Point(x - 1, y + 1);
-        int b = 3;
-        if (position == b) return new Point(x - 1, y - 1);
-        int BG = 4;
-        if (position == BG) return new Point(x, y - 1);
-        int HG = 5;
-        if (position == HG) return new Point(x + 1, y - 1);
-
-        return null;
-    }
 }
@@ -1,38 +1,51 @@
 package solution;
 
-import java.util.ArrayList;
+import java.util.BitSet;
 import java.util.List;
 
+/***
+ * Clar cover : the hexagons having a circle, the indexes of the double bonds in bonds (couples of carbons (u, v)
+ * with u < v, sorted, shared by the covers of a molecule) and the single electrons
+ */
 public class ClarCoverSolution {
 
-	private final int[] circles;
+	private final int nbHexagons;
+	private final int nbCarbons;
+
+	private final BitSet circles;
+	private final BitSet doubleBonds;
+	private final BitSet singleElectrons;
+
 	private final int[][] bonds;
-	private final int[] singleElectrons;
 
 	/*
 	 * Constructors
 	 */
 
-	public ClarCoverSolution(int[] circles, int[][] bonds, int[] singleElectrons) {
+	public ClarCoverSolution(int nbHexagons, int nbCarbons, BitSet circles, BitSet doubleBonds,
+			BitSet singleElectrons, int[][] bonds) {
+		this.nbHexagons = nbHexagons;
+		this.nbCarbons = nbCarbons;
 		this.circles = circles;
-		this.bonds = bonds;
+		this.doubleBonds = doubleBonds;
 		this.singleElectrons = singleElectrons;
+		this.bonds = bonds;
 	}
 
 	/*
 	 * Getters & Setters
 	 */
 
-	public int[] getSingleElectrons() {
+	public BitSet getSingleElectrons() {
 		return singleElectrons;
 	}
 
 	public int getNbCarbons() {
-		return singleElectrons.length;
+		return nbCarbons;
 	}
 
 	public int getNbHexagons() {
-		return circles.length;
+		return nbHexagons;
 	}
 
 	/*
@@ -40,15 +53,33 @@ public class ClarCoverSolution {
 	 */
 
 	public boolean isCircle(int i) {
-		return circles[i] == 1;
+		return circles.get(i);
 	}
 
 	public boolean isDoubleBond(int i, int j) {
-		return bonds[i][j] == 1;
+
+		int u = Math.min(i, j);
+		int v = Math.max(i, j);
+
+		int low = 0;
+		int high = bonds.length - 1;
+
+		while (low <= high) {
+			int middle = (low + high) >>> 1;
+			int[] bond = bonds[middle];
+			if (bond[0] < u || (bond[0] == u && bond[1] < v))
+				low = middle + 1;
+			else if (bond[0] == u && bond[1] == v)
+				return doubleBonds.get(middle);
+			else
+				high = middle - 1;
+		}
+
+		return false;
 	}
 
 	public boolean isSingle(int i) {
-		return singleElectrons[i] == 1;
+		return singleElectrons.get(i);
 	}
 
 	@Override
@@ -56,25 +87,21 @@ public class ClarCoverSolution {
 		StringBuilder builder = new StringBuilder();
 
 		builder.append("circles: {");
-		for (int i = 0; i < circles.length; i++) {
+		for (int i = 0; i < nbHexagons; i++) {
 			if (isCircle(i))
 				builder.append(i).append(", ");
 		}
 		builder.append("}\n");
 
 		builder.append("single_electrons: {");
-		for (int i = 0; i < singleElectrons.length; i++)
+		for (int i = 0; i < nbCarbons; i++)
 			if (isSingle(i))
 				builder.append(i).append(", ");
 		builder.append("}\n");
 
 		builder.append("double_bonds: {\n");
-		for (int i = 0; i < bonds.length; i++) {
-			for (int j = (i + 1); j < bonds.length; j++) {
-				if (isDoubleBond(i, j))
-					builder.append("\t(").append(i).append(", ").append(j).append("), \n");
-			}
-		}
+		for (int bond = doubleBonds.nextSetBit(0); bond >= 0; bond = doubleBonds.nextSetBit(bond + 1))
+			builder.append("\t(").append(bonds[bond][0]).append(", ").append(bonds[bond][1]).append("), \n");
 		builder.append("}\n");
 
 		return builder.toString();
@@ -92,7 +119,8 @@ public class ClarCoverSolution {
 		for (int i = 0 ; i < nbCarbons ; i ++) {
 			double avg = 0.0;
 			for (ClarCoverSolution solution : solutions) {
-				avg += solution.getSingleElectrons()[i];
+				if (solution.isSingle(i))
+					avg += 1.0;
 			}
 			avg = avg / (double) solutions.size();
 			radicalarStatistics[i] = avg;
@@ -106,13 +134,7 @@ public class ClarCoverSolution {
 	 * @return the Clar number
 	 */
 	public int getClarNumber() {
-		int nb = 0;
-		for (int i = 0; i < circles.length; i++) {
-			if (isCircle(i)) {
-				nb += 1;
-			}
-		}
-		return nb;
+		return circles.cardinality();
 	}
 
 }
@@ -0,0 +1,383 @@
+package solveur;
+
+import benzenoid.Benzenoid;
+import benzenoid.CarbonGraph;
+import solution.ClarCoverSolution;
+
+import java.util.ArrayList;
+import java.util.BitSet;
+import java.util.List;
+import java.util.stream.Stream;
+import java.util.stream.StreamSupport;
+
+/***
+ * Optimal Clar covers of a benzenoid without a solver : each carbon belongs to a circle (drawn in a hexagon), to
+ * a double bond or is a single electron, two single electrons being never adjacent, and an optimal cover has the
+ * fewest single electrons, then the most circles. The sets of single electrons are enumerated first; for each of
+ * them, the sets of circles are searched by a branch and bound over the hexagons, the rest of the molecule having
+ * to own a Kekule structure. For a bipartite molecule, this is checked with its edge inclusion counter when a
+ * circle is added, and a set of circles without Kekule structure is pruned, since a circle could be replaced by 3
+ * double bonds. The double bonds of the optimal covers are then streamed by KekuleStructureEnumerator.
+ */
+public class ClarCoverEnumerator {
+
+	private final Benzenoid molecule;
+
+	private final int nbCarbons;
+	private final int nbHexagons;
+	private final int[][] hexagons;
+	private final CarbonGraph graph;
+	private final int[][] bonds;
+
+	/*
+	 * Bicoloration of the carbons, if the molecule is bipartite, and number of white carbons minus number of black
+	 * ones (the single electrons must have the same difference)
+	 */
+	private final boolean bipartite;
+	private final boolean[] white;
+	private final int colorShift;
+
+	/*
+	 * Current partial cover : carbons having a circle or a single electron, and the hexagons having a circle
+	 */
+	private final boolean[] covered;
+	private final List<Integer> coveredCarbons = new ArrayList<>();
+	private final BitSet circles = new BitSet();
+
+	private final int[] marks;
+	private int mark;
+
+	private int bestNbCircles;
+	private List<BitSet> circleSets;
+
+	/*
+	 * Optimal partial cover : its single electrons and its circles
+	 */
+	private static final class Cover {
+
+		private final BitSet singleElectrons;
+		private final BitSet circles;
+
+		private Cover(BitSet singleElectrons, BitSet circles) {
+			this.singleElectrons = singleElectrons;
+			this.circles = circles;
+		}
+	}
+
+	private ClarCoverEnumerator(Benzenoid molecule) {
+
+		this.molecule = molecule;
+
+		nbCarbons = molecule.getNbCarbons();
+		nbHexagons = molecule.getNbHexagons();
+		hexagons = molecule.getHexagons();
+		graph = molecule.getGraph();
+		bonds = KekuleStructureEnumerator.bonds(molecule);
+
+		/*
+		 * Bicoloration of the carbons
+		 */
+
+		white = new boolean[nbCarbons];
+		boolean[] colored = new boolean[nbCarbons];
+		boolean isBipartite = true;
+		int shift = 0;
+
+		for (int first = 0; first < nbCarbons; first++) {
+
+			if (colored[first])
+				continue;
+
+			colored[first] = true;
+			white[first] = true;
+			List<Integer> queue = new ArrayList<>();
+			queue.add(first);
+
+			for (int i = 0; i < queue.size(); i++) {
+				int u = queue.get(i);
+				shift += white[u] ? 1 : -1;
+				for (int k = 0; k < graph.getDegree(u); k++) {
+					int v = graph.getNeighbor(u, k);
+					if (!colored[v]) {
+						colored[v] = true;
+						white[v] = !white[u];
+						queue.add(v);
+					} else if (white[v] == white[u])
+						isBipartite = false;
+				}
+			}
+		}
+
+		bipartite = isBipartite;
+		colorShift = shift;
+
+		covered = new boolean[nbCarbons];
+		marks = new int[nbCarbons];
+	}
+
+	/***
+	 * @return the optimal Clar covers of the molecule
+	 */
+	public static Stream<ClarCoverSolution> stream(Benzenoid molecule, boolean parallel) {
+		ClarCoverEnumerator enumerator = new ClarCoverEnumerator(molecule);
+		return enumerator.stream(enumerator.optimalCovers(), parallel);
+	}
+
+	/***
+	 * @return the Clar covers of the molecule having the given number of single electrons, and the most circles
+	 */
+	public static Stream<ClarCoverSolution> stream(Benzenoid molecule, int nbSingleElectrons, boolean parallel) {
+		ClarCoverEnumerator enumerator = new ClarCoverEnumerator(molecule);
+		return enumerator.stream(enumerator.optimalCovers(nbSingleElectrons), parallel);
+	}
+
+	/***
+	 * @return the number of circles of the optimal Clar covers of the molecule, -1 if it has none
+	 */
+	public static int clarNumber(Benzenoid molecule) {
+		List<Cover> covers = new ClarCoverEnumerator(molecule).optimalCovers();
+		return covers.isEmpty() ? -1 : covers.get(0).circles.cardinality();
+	}
+
+	private Stream<ClarCoverSolution> stream(List<Cover> covers, boolean parallel) {
+
+		Stream<Cover> stream = parallel ? covers.parallelStream() : covers.stream();
+
+		return stream.flatMap(cover -> {
+
+			BitSet removedCarbons = (BitSet) cover.singleElectrons.clone();
+			for (int hexagon = cover.circles.nextSetBit(0); hexagon >= 0; hexagon = cover.circles.nextSetBit(hexagon + 1))
+				for (int carbon : hexagons[hexagon])
+					removedCarbons.set(carbon);
+
+			return StreamSupport.stream(new KekuleStructureEnumerator(molecule, removedCarbons), false)
+					.map(doubleBonds -> new ClarCoverSolution(nbHexagons, nbCarbons, cover.circles, doubleBonds,
+							cover.singleElectrons, bonds));
+		});
+	}
+
+	/*
+	 * Optimal partial covers, with the fewest single electrons (at most one per hexagon)
+	 */
+	private List<Cover> optimalCovers() {
+
+		int first = bipartite ? Math.abs(colorShift) : 0;
+		int step = bipartite ? 2 : 1;
+
+		for (int nbSingleElectrons = first; nbSingleElectrons <= nbHexagons; nbSingleElectrons += step) {
+			List<Cover> covers = optimalCovers(nbSingleElectrons);
+			if (!covers.isEmpty())
+				return covers;
+		}
+
+		return new ArrayList<>();
+	}
+
+	/*
+	 * Partial covers with the given number of single electrons and the most circles
+	 */
+	private List<Cover> optimalCovers(int nbSingleElectrons) {
+
+		List<Cover> covers = new ArrayList<>();
+
+		if (nbSingleElectrons < 0 || nbSingleElectrons > nbHexagons || nbSingleElectrons > nbCarbons)
+			return covers;
+
+		List<BitSet> singleElectronsSets = new ArrayList<>();
+		chooseSingleElectrons(nbSingleElectrons, 0, 0, new BitSet(), singleElectronsSets);
+
+		int[] nbCircles = new int[singleElectronsSets.size()];
+		int clarNumber = -1;
+
+		for (int i = 0; i < singleElectronsSets.size(); i++) {
+			cover(singleElectronsSets.get(i));
+			nbCircles[i] = maxNbCircles();
+			uncover(singleElectronsSets.get(i));
+			clarNumber = Math.max(clarNumber, nbCircles[i]);
+		}
+
+		if (clarNumber == -1)
+			return covers;
+
+		for (int i = 0; i < singleElectronsSets.size(); i++) {
+			if (nbCircles[i] != clarNumber)
+				continue;
+
+			BitSet singleElectrons = singleElectronsSets.get(i);
+			cover(singleElectrons);
+			for (BitSet circleSet : circleSets(clarNumber))
+				covers.add(new Cover(singleElectrons, circleSet));
+			uncover(singleElectrons);
+		}
+
+		return covers;
+	}
+
+	/*
+	 * Sets of pairwise non adjacent carbons, after first, such that the rest of a bipartite molecule can have a
+	 * Kekule structure
+	 */
+	private void chooseSingleElectrons(int nbLeft, int first, int shift, BitSet singleElectrons, List<BitSet> sets) {
+
+		if (bipartite && Math.abs(colorShift - shift) > nbLeft)
+			return;
+
+		if (nbLeft == 0) {
+			if (!bipartite || hasKekuleStructure(singleElectrons))
+				sets.add((BitSet) singleElectrons.clone());
+			return;
+		}
+
+		for (int carbon = first; carbon < nbCarbons; carbon++) {
+
+			boolean isolated = true;
+			for (int i = 0; i < graph.getDegree(carbon) && isolated; i++)
+				if (singleElectrons.get(graph.getNeighbor(carbon, i)))
+					isolated = false;
+
+			if (isolated) {
+				singleElectrons.set(carbon);
+				chooseSingleElectrons(nbLeft - 1, carbon + 1, shift + (white[carbon] ? 1 : -1), singleElectrons, sets);
+				singleElectrons.clear(carbon);
+			}
+		}
+	}
+
+	/*
+	 * Branch and bound over the hexagons : the largest number of circles, -1 if the molecule has no cover (the
+	 * single electrons of a bipartite molecule leave a Kekule structure)
+	 */
+	private int maxNbCircles() {
+
+		bestNbCircles = -1;
+		search(0, 0, -1);
+
+		return bestNbCircles;
+	}
+
+	private List<BitSet> circleSets(int nbCircles) {
+
+		circleSets = new ArrayList<>();
+		search(0, 0, nbCircles);
+
+		List<BitSet> sets = circleSets;
+		circleSets = null;
+		return sets;
+	}
+
+	/*
+	 * Adds circles in the hexagons after hexagon : when target is -1, improves bestNbCircles, else collects the
+	 * sets of target circles
+	 */
+	private void search(int hexagon, int nbCircles, int target) {
+
+		int bound = nbCircles + upperBound(hexagon);
+		if (target == -1 ? bound <= bestNbCircles : bound < target)
+			return;
+
+		if (hexagon == nbHexagons) {
+			if (bipartite || hasKekuleStructure()) {
+				if (target == -1)
+					bestNbCircles = nbCircles;
+				else if (nbCircles == target)
+					circleSets.add((BitSet) circles.clone());
+			}
+			return;
+		}
+
+		if ((target == -1 || nbCircles < target) && isFree(hexagon)) {
+
+			addCircle(hexagon);
+			if (!bipartite || hasKekuleStructure())
+				search(hexagon + 1, nbCircles + 1, target);
+			removeCircle(hexagon);
+		}
+
+		search(hexagon + 1, nbCircles, target);
+	}
+
+	/*
+	 * Number of circles which can still be added from hexagon, bounded by the free carbons of their hexagons
+	 */
+	private int upperBound(int hexagon) {
+
+		mark++;
+		int nbFreeHexagons = 0;
+		int nbFreeCarbons = 0;
+		int minSize = Integer.MAX_VALUE;
+
+		for (int i = hexagon; i < nbHexagons; i++) {
+			if (isFree(i)) {
+				nbFreeHexagons++;
+				minSize = Math.min(minSize, hexagons[i].length);
+				for (int carbon : hexagons[i])
+					if (marks[carbon] != mark) {
+						marks[carbon] = mark;
+						nbFreeCarbons++;
+					}
+			}
+		}
+
+		return nbFreeHexagons == 0 ? 0 : Math.min(nbFreeHexagons, nbFreeCarbons / minSize);
+	}
+
+	private boolean isFree(int hexagon) {
+		for (int carbon : hexagons[hexagon])
+			if (covered[carbon])
+				return false;
+		return true;
+	}
+
+	private void addCircle(int hexagon) {
+		circles.set(hexagon);
+		for (int carbon : hexagons[hexagon]) {
+			covered[carbon] = true;
+			coveredCarbons.add(carbon);
+		}
+	}
+
+	private void removeCircle(int hexagon) {
+		circles.clear(hexagon);
+		for (int carbon : hexagons[hexagon]) {
+			covered[carbon] = false;
+			coveredCarbons.remove(coveredCarbons.size() - 1);
+		}
+	}
+
+	private void cover(BitSet singleElectrons) {
+		for (int carbon = singleElectrons.nextSetBit(0); carbon >= 0; carbon = singleElectrons.nextSetBit(carbon + 1)) {
+			covered[carbon] = true;
+			coveredCarbons.add(carbon);
+		}
+	}
+
+	private void uncover(BitSet singleElectrons) {
+		for (int carbon = singleElectrons.nextSetBit(0); carbon >= 0; carbon = singleElectrons.nextSetBit(carbon + 1)) {
+			covered[carbon] = false;
+			coveredCarbons.remove(coveredCarbons.size() - 1);
+		}
+	}
+
+	/*
+	 * True if the uncovered carbons own a Kekule structure
+	 */
+	private boolean hasKekuleStructure() {
+
+		if (bipartite)
+			return molecule.getEdgeInclusionCounter().getNbPerfectMatchingsWithout(coveredCarbons).signum() > 0;
+
+		BitSet removedCarbons = new BitSet(nbCarbons);
+		for (int carbon : coveredCarbons)
+			removedCarbons.set(carbon);
+
+		return new KekuleStructureEnumerator(molecule, removedCarbons).tryAdvance(structure -> {
+		});
+	}
+
+	private boolean hasKekuleStructure(BitSet singleElectrons) {
+		cover(singleElectrons);
+		boolean result = hasKekuleStructure();
+		uncover(singleElectrons);
+		return result;
+	}
+}
@@ -0,0 +1,362 @@
+package solveur;
+
+import benzenoid.Benzenoid;
+import utils.Couple;
+import utils.HexNeighborhood;
+
+import java.util.ArrayList;
+import java.util.Arrays;
+import java.util.HashMap;
+import java.util.HashSet;
+import java.util.Map;
+import java.util.Set;
+import java.util.function.Consumer;
+
+/***
+ * Enumeration of the conjugated circuits (cycles of size 4k + 2) of a benzenoid, without a solver. A cycle of
+ * the benzenoid is the border of the set of faces it surrounds : a connected set of hexagons (and of holes, for
+ * a coronoid) without hole. These regions are enumerated from the dual graph, each one once, and the regions
+ * too large to have a border of the maximum size are pruned : in each of the 3 directions, the border crosses
+ * twice every row of the region, so its size is at least twice the sum of the widths of the region.
+ */
+public class ConjugatedCircuitsEnumerator {
+
+	private final int maxSize;
+	private final Consumer<int[]> consumer;
+
+	/*
+	 * Faces : the hexagons, then the holes
+	 */
+	private final int nbFaces;
+	private final int[][] faceNeighbors;
+	private final int[][] faceEdges;
+	private final int[][] faceBounds;
+
+	/*
+	 * Edges (firstVertices[e] < secondVertices[e])
+	 */
+	private final int[] firstVertices;
+	private final int[] secondVertices;
+
+	/*
+	 * State of the current region
+	 */
+	private final boolean[] inRegion;
+	private final int[] nbRegionNeighbors;
+	private final int[] edgeCounts;
+	private final int[] carbonCounts;
+	private int nbRegionFaces;
+	private int nbRegionEdges;
+	private int nbRegionCarbons;
+	private int nbBorderEdges;
+
+	private ConjugatedCircuitsEnumerator(Benzenoid molecule, int maxSize, Consumer<int[]> consumer) {
+
+		this.maxSize = maxSize;
+		this.consumer = consumer;
+
+		int nbHexagons = molecule.getNbHexagons();
+		int[][] hexagons = molecule.getHexagons();
+		int[][] dualGraph = molecule.getDualGraph();
+		Couple<Integer, Integer>[] coords = molecule.getHexagonsCoords();
+
+		/*
+		 * Edges of the hexagons
+		 */
+
+		Map<Long, Integer> edgesIndexes = new HashMap<>();
+		ArrayList<int[]> edges = new ArrayList<>();
+		int[][] hexagonEdges = new int[nbHexagons][6];
+
+		for (int h = 0; h < nbHexagons; h++)
+			for (int k = 0; k < 6; k++) {
+				int u = Math.min(hexagons[h][k], hexagons[h][(k + 1) % 6]);
+				int v = Math.max(hexagons[h][k], hexagons[h][(k + 1) % 6]);
+				Integer edge = edgesIndexes.get((long) u << 32 | v);
+				if (edge == null) {
+					edge = edges.size();
+					edgesIndexes.put((long) u << 32 | v, edge);
+					edges.add(new int[] { u, v });
+				}
+				hexagonEdges[h][k] = edge;
+			}
+
+		firstVertices = new int[edges.size()];
+		secondVertices = new int[edges.size()];
+		for (int e = 0; e < edges.size(); e++) {
+			firstVertices[e] = edges.get(e)[0];
+			secondVertices[e] = edges.get(e)[1];
+		}
+
+		/*
+		 * Holes : the components of the cells missing in the molecule which do not reach its bounding box
+		 */
+
+		Map<Long, Integer> hexagonsIndexes = new HashMap<>();
+		int xMin = Integer.MAX_VALUE, xMax = Integer.MIN_VALUE, yMin = Integer.MAX_VALUE, yMax = Integer.MIN_VALUE;
+		for (int h = 0; h < nbHexagons; h++) {
+			int x = coords[h].getX();
+			int y = coords[h].getY();
+			hexagonsIndexes.put(cell(x, y), h);
+			xMin = Math.min(xMin, x);
+			xMax = Math.max(xMax, x);
+			yMin = Math.min(yMin, y);
+			yMax = Math.max(yMax, y);
+		}
+
+		Map<Long, Integer> holesIndexes = new HashMap<>();
+		ArrayList<ArrayList<long[]>> holes = new ArrayList<>();
+		Set<Long> outside = new HashSet<>();
+
+		for (int y = yMin; y <= yMax; y++)
+			for (int x = xMin; x <= xMax; x++) {
+				long cell = cell(x, y);
+				if (hexagonsIndexes.containsKey(cell) || holesIndexes.containsKey(cell) || outside.contains(cell))
+					continue;
+
+				ArrayList<long[]> component = new ArrayList<>();
+				boolean reachesBorder = false;
+				ArrayList<long[]> stack = new ArrayList<>();
+				Set<Long> visited = new HashSet<>();
+				stack.add(new long[] { x, y });
+				visited.add(cell);
+
+				while (!stack.isEmpty()) {
+					long[] current = stack.remove(stack.size() - 1);
+					component.add(current);
+					for (HexNeighborhood direction : HexNeighborhood.values()) {
+						int nx = (int) current[0] + direction.dx();
+						int ny = (int) current[1] + direction.dy();
+						long neighbor = cell(nx, ny);
+						if (nx < xMin || nx > xMax || ny < yMin || ny > yMax)
+							reachesBorder = true;
+						else if (!hexagonsIndexes.containsKey(neighbor) && visited.add(neighbor))
+							stack.add(new long[] { nx, ny });
+					}
+				}
+
+				if (reachesBorder)
+					for (long[] c : component)
+						outside.add(cell((int) c[0], (int) c[1]));
+				else {
+					for (long[] c : component)
+						holesIndexes.put(cell((int) c[0], (int) c[1]), nbHexagons + holes.size());
+					holes.add(component);
+				}
+			}
+
+		nbFaces = nbHexagons + holes.size();
+
+		/*
+		 * Neighbors, edges and bounds (min and max of x, y and x - y) of the faces
+		 */
+
+		ArrayList<ArrayList<Integer>> neighbors = new ArrayList<>();
+		ArrayList<ArrayList<Integer>> facesEdges = new ArrayList<>();
+		for (int f = 0; f < nbFaces; f++) {
+			neighbors.add(new ArrayList<>());
+			facesEdges.add(new ArrayList<>());
+		}
+
+		faceBounds = new int[nbFaces][];
+
+		for (int h = 0; h < nbHexagons; h++) {
+			int x = coords[h].getX();
+			int y = coords[h].getY();
+			faceBounds[h] = new int[] { x, x, y, y, x - y, x - y };
+
+			for (HexNeighborhood direction : HexNeighborhood.values()) {
+				int k = direction.getIndex();
+				facesEdges.get(h).add(hexagonEdges[h][k]);
+
+				int neighbor = dualGraph[h][k];
+				if (neighbor == -1) {
+					Integer hole = holesIndexes.get(cell(x + direction.dx(), y + direction.dy()));
+					if (hole != null) {
+						neighbor = hole;
+						facesEdges.get(hole).add(hexagonEdges[h][k]);
+						if (!neighbors.get(hole).contains(h))
+							neighbors.get(hole).add(h);
+					}
+				}
+
+				if (neighbor != -1 && !neighbors.get(h).contains(neighbor))
+					neighbors.get(h).add(neighbor);
+			}
+		}
+
+		for (int i = 0; i < holes.size(); i++) {
+			int[] bounds = { Integer.MAX_VALUE, Integer.MIN_VALUE, Integer.MAX_VALUE, Integer.MIN_VALUE,
+					Integer.MAX_VALUE, Integer.MIN_VALUE };
+			for (long[] c : holes.get(i))
+				include(bounds, (int) c[0], (int) c[1]);
+			faceBounds[nbHexagons + i] = bounds;
+		}
+
+		faceNeighbors = new int[nbFaces][];
+		faceEdges = new int[nbFaces][];
+		for (int f = 0; f < nbFaces; f++) {
+			faceNeighbors[f] = neighbors.get(f).stream().mapToInt(Integer::intValue).toArray();
+			faceEdges[f] = facesEdges.get(f).stream().mapToInt(Integer::intValue).toArray();
+		}
+
+		inRegion = new boolean[nbFaces];
+		nbRegionNeighbors = new int[nbFaces];
+		edgeCounts = new int[firstVertices.length];
+		carbonCounts = new int[molecule.getNbCarbons()];
+	}
+
+	/***
+	 * Gives to the consumer each cycle of the benzenoid whose size is 4k + 2 and at most maxSize, as the list of
+	 * its edges (u0, v0, u1, v1, ...) sorted by first then second vertex, with ui < vi
+	 */
+	public static void enumerate(Benzenoid molecule, int maxSize, Consumer<int[]> consumer) {
+		new ConjugatedCircuitsEnumerator(molecule, maxSize, consumer).enumerate();
+	}
+
+	private void enumerate() {
+
+		/*
+		 * Each region is enumerated from its face of smallest index (algorithm ESU of Wernicke) : the faces
+		 * added to the region are greater than it, and are neighbors of the last face added but not of the
+		 * previous ones
+		 */
+
+		for (int face = 0; face < nbFaces; face++) {
+
+			int[] bounds = faceBounds[face].clone();
+			if (minBorderSize(bounds) > maxSize)
+				continue;
+
+			add(face);
+
+			ArrayList<Integer> extension = new ArrayList<>();
+			for (int neighbor : faceNeighbors[face])
+				if (neighbor > face)
+					extension.add(neighbor);
+
+			extend(face, extension, bounds);
+			remove(face);
+		}
+	}
+
+	private void extend(int firstFace, ArrayList<Integer> extension, int[] bounds) {
+
+		treatRegion();
+
+		ArrayList<Integer> candidates = new ArrayList<>(extension);
+
+		while (!candidates.isEmpty()) {
+
+			int face = candidates.remove(candidates.size() - 1);
+
+			int[] newBounds = bounds.clone();
+			int[] faceBound = faceBounds[face];
+			newBounds[0] = Math.min(newBounds[0], faceBound[0]);
+			newBounds[1] = Math.max(newBounds[1], faceBound[1]);
+			newBounds[2] = Math.min(newBounds[2], faceBound[2]);
+			newBounds[3] = Math.max(newBounds[3], faceBound[3]);
+			newBounds[4] = Math.min(newBounds[4], faceBound[4]);
+			newBounds[5] = Math.max(newBounds[5], faceBound[5]);
+
+			if (minBorderSize(newBounds) > maxSize)
+				continue;
+
+			ArrayList<Integer> newExtension = new ArrayList<>(candidates);
+			for (int neighbor : faceNeighbors[face])
+				if (neighbor > firstFace && !inRegion[neighbor] && nbRegionNeighbors[neighbor] == 0
+						&& !newExtension.contains(neighbor))
+					newExtension.add(neighbor);
+
+			add(face);
+			extend(firstFace, newExtension, newBounds);
+			remove(face);
+		}
+	}
+
+	/*
+	 * The border of the region is a simple cycle if the region has no hole (V - E + F = 1)
+	 */
+	private void treatRegion() {
+
+		if (nbBorderEdges > maxSize || nbBorderEdges % 4 != 2
+				|| nbRegionCarbons - nbRegionEdges + nbRegionFaces != 1)
+			return;
+
+		int[] cycle = new int[2 * nbBorderEdges];
+		long[] borderEdges = new long[nbBorderEdges];
+		int index = 0;
+		for (int e = 0; e < edgeCounts.length; e++)
+			if (edgeCounts[e] == 1)
+				borderEdges[index++] = (long) firstVertices[e] << 32 | secondVertices[e];
+
+		Arrays.sort(borderEdges);
+		for (int i = 0; i < nbBorderEdges; i++) {
+			cycle[2 * i] = (int) (borderEdges[i] >> 32);
+			cycle[2 * i + 1] = (int) borderEdges[i];
+		}
+
+		consumer.accept(cycle);
+	}
+
+	private void add(int face) {
+
+		inRegion[face] = true;
+		nbRegionFaces++;
+
+		for (int neighbor : faceNeighbors[face])
+			nbRegionNeighbors[neighbor]++;
+
+		for (int edge : faceEdges[face]) {
+			if (edgeCounts[edge] == 0) {
+				nbRegionEdges++;
+				nbBorderEdges++;
+				if (carbonCounts[firstVertices[edge]]++ == 0)
+					nbRegionCarbons++;
+				if (carbonCounts[secondVertices[edge]]++ == 0)
+					nbRegionCarbons++;
+			} else if (edgeCounts[edge] == 1)
+				nbBorderEdges--;
+			edgeCounts[edge]++;
+		}
+	}
+
+	private void remove(int face) {
+
+		inRegion[face] = false;
+		nbRegionFaces--;
+
+		for (int neighbor : faceNeighbors[face])
+			nbRegionNeighbors[neighbor]--;
+
+		for (int edge : faceEdges[face]) {
+			edgeCounts[edge]--;
+			if (edgeCounts[edge] == 0) {
+				nbRegionEdges--;
+				nbBorderEdges--;
+				if (--carbonCounts[firstVertices[edge]] == 0)
+					nbRegionCarbons--;
+				if (--carbonCounts[secondVertices[edge]] == 0)
+					nbRegionCarbons--;
+			} else if (edgeCounts[edge] == 1)
+				nbBorderEdges++;
+		}
+	}
+
+	private static int minBorderSize(int[] bounds) {
+		return 2 * ((bounds[1] - bounds[0] + 1) + (bounds[3] - bounds[2] + 1) + (bounds[5] - bounds[4] + 1));
+	}
+
+	private static void include(int[] bounds, int x, int y) {
+		bounds[0] = Math.min(bounds[0], x);
+		bounds[1] = Math.max(bounds[1], x);
+		bounds[2] = Math.min(bounds[2], y);
+		bounds[3] = Math.max(bounds[3], y);
+		bounds[4] = Math.min(bounds[4], x - y);
+		bounds[5] = Math.max(bounds[5], x - y);
+	}
+
+	private static long cell(int x, int y) {
+		return (long) x << 32 | (y & 0xFFFFFFFFL);
+	}
+}
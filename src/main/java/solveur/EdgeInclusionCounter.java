@@ -0,0 +1,328 @@
+package solveur;
+
+import benzenoid.Benzenoid;
+import benzenoid.CarbonGraph;
+import solveur.LinAlgorithm.PerfectMatchingType;
+
+import java.math.BigInteger;
+import java.util.ArrayList;
+import java.util.Arrays;
+import java.util.List;
+
+/***
+ * Numbers of perfect matchings of a benzenoid from which carbons are removed, from a single inversion of its
+ * biadjacency matrix A (lines : white carbons, columns : black ones). By Jacobi's formula, the minor of A
+ * without the lines I and the columns J is det(A) * det(inverse(A)[J][I]) (up to the sign), so the number of
+ * perfect matchings containing the bond (u, v) is |det(A) * inverse(A)[v][u]|. The inversion is a fraction-free
+ * Gauss-Jordan elimination, which gives D * inverse(A) with |D| = |det(A)|, on longs then on BigIntegers if a
+ * value overflows. When more than half of the carbons are removed (or if A is singular), the minor is computed
+ * directly.
+ */
+public class EdgeInclusionCounter {
+
+	private final Benzenoid molecule;
+
+	private final boolean[] white;
+	private final int[] indexes;
+
+	private int[][] matrix;
+	private BigInteger determinant;
+	private long[][] inverse;
+	private BigInteger[][] bigInverse;
+
+	public EdgeInclusionCounter(Benzenoid molecule) {
+
+		this.molecule = molecule;
+
+		int nbCarbons = molecule.getNbCarbons();
+		CarbonGraph graph = molecule.getGraph();
+
+		white = new boolean[nbCarbons];
+		indexes = new int[nbCarbons];
+
+		/*
+		 * Bicoloration of the carbons
+		 */
+
+		boolean[] colored = new boolean[nbCarbons];
+		List<Integer> whites = new ArrayList<>();
+		List<Integer> blacks = new ArrayList<>();
+
+		for (int first = 0; first < nbCarbons; first++) {
+
+			if (colored[first])
+				continue;
+
+			colored[first] = true;
+			white[first] = true;
+			ArrayList<Integer> queue = new ArrayList<>();
+			queue.add(first);
+
+			for (int i = 0; i < queue.size(); i++) {
+				int u = queue.get(i);
+				if (white[u]) {
+					indexes[u] = whites.size();
+					whites.add(u);
+				} else {
+					indexes[u] = blacks.size();
+					blacks.add(u);
+				}
+				for (int k = 0; k < graph.getDegree(u); k++) {
+					int v = graph.getNeighbor(u, k);
+					if (!colored[v]) {
+						colored[v] = true;
+						white[v] = !white[u];
+						queue.add(v);
+					}
+				}
+			}
+		}
+
+		if (whites.size() != blacks.size())
+			return;
+
+		int n = whites.size();
+		matrix = new int[n][n];
+		for (int i = 0; i < n; i++) {
+			int u = whites.get(i);
+			for (int k = 0; k < graph.getDegree(u); k++) {
+				int v = graph.getNeighbor(u, k);
+				if (!white[v])
+					matrix[i][indexes[v]] = 1;
+			}
+		}
+
+		invert();
+	}
+
+	public BigInteger getNbPerfectMatchings() {
+		return getNbPerfectMatchingsWithout(new ArrayList<>());
+	}
+
+	/***
+	 * @return the number of perfect matchings containing the bond (u, v)
+	 */
+	public BigInteger getNbPerfectMatchings(int u, int v) {
+
+		if (inverse == null && bigInverse == null) {
+			ArrayList<Integer> bond = new ArrayList<>();
+			bond.add(u);
+			bond.add(v);
+			return getNbPerfectMatchingsWithout(bond);
+		}
+
+		if (white[u] == white[v])
+			return BigInteger.ZERO;
+
+		int line = white[u] ? indexes[u] : indexes[v];
+		int column = white[u] ? indexes[v] : indexes[u];
+
+		if (inverse != null)
+			return BigInteger.valueOf(Math.abs(inverse[column][line]));
+		return bigInverse[column][line].abs();
+	}
+
+	/***
+	 * @return the number of perfect matchings of the molecule without the given carbons
+	 */
+	public BigInteger getNbPerfectMatchingsWithout(List<Integer> carbons) {
+
+		if (matrix == null)
+			return RispoliAlgorithm.removeCircuit(molecule, new ArrayList<>(carbons), PerfectMatchingType.EXACT)
+					.getExactNbPerfectMatchings();
+
+		int n = matrix.length;
+		boolean[] removedLines = new boolean[n];
+		boolean[] removedColumns = new boolean[n];
+		List<Integer> lines = new ArrayList<>();
+		List<Integer> columns = new ArrayList<>();
+
+		for (int carbon : carbons) {
+			int index = indexes[carbon];
+			if (white[carbon] && !removedLines[index]) {
+				removedLines[index] = true;
+				lines.add(index);
+			} else if (!white[carbon] && !removedColumns[index]) {
+				removedColumns[index] = true;
+				columns.add(index);
+			}
+		}
+
+		if (lines.size() != columns.size())
+			return BigInteger.ZERO;
+
+		int k = lines.size();
+		if (k == 0)
+			return determinant;
+
+		/*
+		 * Minor of the remaining lines and columns
+		 */
+
+		if ((inverse == null && bigInverse == null) || 2 * k > n) {
+
+			int[][] minor = new int[n - k][n - k];
+			int i = 0;
+			for (int line = 0; line < n; line++) {
+				if (removedLines[line])
+					continue;
+				int j = 0;
+				for (int column = 0; column < n; column++)
+					if (!removedColumns[column])
+						minor[i][j++] = matrix[line][column];
+				i++;
+			}
+
+			return ExactDeterminant.determinant(minor).abs();
+		}
+
+		/*
+		 * Jacobi's formula : det(inverse[J][I]) / |D|^(k - 1)
+		 */
+
+		BigInteger minorDeterminant;
+
+		if (inverse != null) {
+			long[][] minor = new long[k][k];
+			for (int i = 0; i < k; i++)
+				for (int j = 0; j < k; j++)
+					minor[i][j] = inverse[columns.get(i)][lines.get(j)];
+			minorDeterminant = ExactDeterminant.scaledDeterminant(minor, determinant);
+		} else {
+			BigInteger[][] minor = new BigInteger[k][k];
+			for (int i = 0; i < k; i++)
+				for (int j = 0; j < k; j++)
+					minor[i][j] = bigInverse[columns.get(i)][lines.get(j)];
+			minorDeterminant = ExactDeterminant.scaledDeterminant(minor, determinant);
+		}
+
+		return minorDeterminant.abs();
+	}
+
+	/*
+	 * Sets determinant to |D| and inverse (or bigInverse) to D * inverse(matrix), determinant to 0 if the matrix
+	 * is singular
+	 */
+	private void invert() {
+
+		int n = matrix.length;
+
+		long[][] a = new long[n][2 * n];
+		for (int i = 0; i < n; i++) {
+			for (int j = 0; j < n; j++)
+				a[i][j] = matrix[i][j];
+			a[i][n + i] = 1;
+		}
+
+		try {
+			if (!eliminate(a)) {
+				determinant = BigInteger.ZERO;
+				return;
+			}
+
+			determinant = BigInteger.valueOf(n == 0 ? 1 : Math.abs(a[n - 1][n - 1]));
+			inverse = new long[n][];
+			for (int i = 0; i < n; i++)
+				inverse[i] = Arrays.copyOfRange(a[i], n, 2 * n);
+
+		} catch (ArithmeticException e) {
+			bigInvert();
+		}
+	}
+
+	/*
+	 * Fraction-free Gauss-Jordan elimination of [A | I] into [D * I | D * inverse(A)], false if A is singular
+	 */
+	private static boolean eliminate(long[][] a) {
+
+		int n = a.length;
+		long previousPivot = 1;
+
+		for (int k = 0; k < n; k++) {
+
+			if (a[k][k] == 0) {
+				int pivotLine = -1;
+				for (int i = k + 1; i < n && pivotLine == -1; i++)
+					if (a[i][k] != 0)
+						pivotLine = i;
+				if (pivotLine == -1)
+					return false;
+				long[] tmp = a[k];
+				a[k] = a[pivotLine];
+				a[pivotLine] = tmp;
+			}
+
+			long pivot = a[k][k];
+			long[] line = a[k];
+
+			for (int i = 0; i < n; i++) {
+				if (i == k)
+					continue;
+				long[] current = a[i];
+				long factor = current[k];
+				for (int j = 0; j < 2 * n; j++)
+					if (j != k)
+						current[j] = Math.subtractExact(Math.multiplyExact(current[j], pivot),
+								Math.multiplyExact(factor, line[j])) / previousPivot;
+				current[k] = 0;
+			}
+
+			previousPivot = pivot;
+		}
+
+		return true;
+	}
+
+	private void bigInvert() {
+
+		int n = matrix.length;
+
+		BigInteger[][] a = new BigInteger[n][2 * n];
+		for (int i = 0; i < n; i++)
+			for (int j = 0; j < 2 * n; j++)
+				a[i][j] = j < n ? BigInteger.valueOf(matrix[i][j]) : j == n + i ? BigInteger.ONE : BigInteger.ZERO;
+
+		BigInteger previousPivot = BigInteger.ONE;
+
+		for (int k = 0; k < n; k++) {
+
+			if (a[k][k].signum() == 0) {
+				int pivotLine = -1;
+				for (int i = k + 1; i < n && pivotLine == -1; i++)
+					if (a[i][k].signum() != 0)
+						pivotLine = i;
+				if (pivotLine == -1) {
+					determinant = BigInteger.ZERO;
+					return;
+				}
+				BigInteger[] tmp = a[k];
+				a[k] = a[pivotLine];
+				a[pivotLine] = tmp;
+			}
+
+			BigInteger pivot = a[k][k];
+
+			for (int i = 0; i < n; i++) {
+				if (i == k)
+					continue;
+				BigInteger factor = a[i][k];
+				for (int j = 0; j < 2 * n; j++) {
+					if (j == k)
+						continue;
+					BigInteger value = a[i][j].multiply(pivot);
+					if (factor.signum() != 0)
+						value = value.subtract(factor.multiply(a[k][j]));
+					a[i][j] = value.divide(previousPivot);
+				}
+				a[i][k] = BigInteger.ZERO;
+			}
+
+			previousPivot = pivot;
+		}
+
+		determinant = a[n - 1][n - 1].abs();
+		bigInverse = new BigInteger[n][];
+		for (int i = 0; i < n; i++)
+			bigInverse[i] = Arrays.copyOfRange(a[i], n, 2 * n);
+	}
+}
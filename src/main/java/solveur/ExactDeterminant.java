@@ -0,0 +1,176 @@
+package solveur;
+
+import java.math.BigInteger;
+
+/***
+ * Exact determinant of an integer matrix with the fraction-free elimination of Bareiss : every intermediate
+ * value is a minor of the matrix, so the divisions are exact. The elimination is done on longs, and starts
+ * again on BigIntegers if a value overflows.
+ */
+public enum ExactDeterminant {
+	;
+
+	public static BigInteger determinant(int[][] matrix) {
+
+		int n = matrix.length;
+		if (n == 0)
+			return BigInteger.ONE;
+
+		long[][] a = new long[n][];
+		for (int i = 0; i < n; i++) {
+			a[i] = new long[n];
+			for (int j = 0; j < n; j++)
+				a[i][j] = matrix[i][j];
+		}
+
+		try {
+			return BigInteger.valueOf(longDeterminant(a, 1));
+		} catch (ArithmeticException e) {
+			return bigDeterminant(matrix);
+		}
+	}
+
+	/***
+	 * @return det(matrix) / scale^(n - 1), for a matrix whose minors of order r are multiples of scale^(r - 1),
+	 * such as D * inverse(A) with D = det(A) : the elimination starts with scale as previous pivot, so that its
+	 * values stay minors of A instead of growing with the powers of scale
+	 */
+	public static BigInteger scaledDeterminant(long[][] matrix, BigInteger scale) {
+
+		int n = matrix.length;
+		if (n == 0)
+			return BigInteger.ONE;
+
+		if (scale.bitLength() < Long.SIZE) {
+
+			long[][] a = new long[n][];
+			for (int i = 0; i < n; i++)
+				a[i] = matrix[i].clone();
+
+			try {
+				return BigInteger.valueOf(longDeterminant(a, scale.longValue()));
+			} catch (ArithmeticException e) {
+				// the elimination starts again on BigIntegers
+			}
+		}
+
+		BigInteger[][] b = new BigInteger[n][n];
+		for (int i = 0; i < n; i++)
+			for (int j = 0; j < n; j++)
+				b[i][j] = BigInteger.valueOf(matrix[i][j]);
+
+		return bigDeterminant(b, scale);
+	}
+
+	public static BigInteger scaledDeterminant(BigInteger[][] matrix, BigInteger scale) {
+
+		int n = matrix.length;
+		if (n == 0)
+			return BigInteger.ONE;
+
+		BigInteger[][] b = new BigInteger[n][];
+		for (int i = 0; i < n; i++)
+			b[i] = matrix[i].clone();
+
+		return bigDeterminant(b, scale);
+	}
+
+	/*
+	 * The matrix is modified
+	 */
+	private static long longDeterminant(long[][] a, long previousPivot) {
+
+		int n = a.length;
+		int sign = 1;
+
+		for (int k = 0; k < n - 1; k++) {
+
+			if (a[k][k] == 0) {
+				int pivotLine = findPivot(a, k);
+				if (pivotLine == -1)
+					return 0;
+				long[] tmp = a[k];
+				a[k] = a[pivotLine];
+				a[pivotLine] = tmp;
+				sign = -sign;
+			}
+
+			long pivot = a[k][k];
+			long[] line = a[k];
+
+			for (int i = k + 1; i < n; i++) {
+				long[] current = a[i];
+				long factor = current[k];
+				for (int j = k + 1; j < n; j++) {
+					long value = Math.subtractExact(Math.multiplyExact(current[j], pivot), Math.multiplyExact(factor, line[j]));
+					current[j] = value / previousPivot;
+				}
+				current[k] = 0;
+			}
+
+			previousPivot = pivot;
+		}
+
+		return sign * a[n - 1][n - 1];
+	}
+
+	private static int findPivot(long[][] a, int k) {
+		for (int i = k + 1; i < a.length; i++)
+			if (a[i][k] != 0)
+				return i;
+		return -1;
+	}
+
+	private static BigInteger bigDeterminant(int[][] matrix) {
+
+		int n = matrix.length;
+		BigInteger[][] a = new BigInteger[n][n];
+		for (int i = 0; i < n; i++)
+			for (int j = 0; j < n; j++)
+				a[i][j] = BigInteger.valueOf(matrix[i][j]);
+
+		return bigDeterminant(a, BigInteger.ONE);
+	}
+
+	/*
+	 * The matrix is modified
+	 */
+	private static BigInteger bigDeterminant(BigInteger[][] a, BigInteger previousPivot) {
+
+		int n = a.length;
+		boolean negative = false;
+
+		for (int k = 0; k < n - 1; k++) {
+
+			if (a[k][k].signum() == 0) {
+				int pivotLine = -1;
+				for (int i = k + 1; i < n && pivotLine == -1; i++)
+					if (a[i][k].signum() != 0)
+						pivotLine = i;
+				if (pivotLine == -1)
+					return BigInteger.ZERO;
+				BigInteger[] tmp = a[k];
+				a[k] = a[pivotLine];
+				a[pivotLine] = tmp;
+				negative = !negative;
+			}
+
+			BigInteger pivot = a[k][k];
+
+			for (int i = k + 1; i < n; i++) {
+				BigInteger factor = a[i][k];
+				for (int j = k + 1; j < n; j++) {
+					BigInteger value = a[i][j].multiply(pivot);
+					if (factor.signum() != 0)
+						value = value.subtract(factor.multiply(a[k][j]));
+					a[i][j] = value.divide(previousPivot);
+				}
+				a[i][k] = BigInteger.ZERO;
+			}
+
+			previousPivot = pivot;
+		}
+
+		return negative ? a[n - 1][n - 1].negate() : a[n - 1][n - 1];
+	}
+}
@@ -0,0 +1,333 @@
+package solveur;
+
+import benzenoid.Benzenoid;
+import benzenoid.CarbonGraph;
+
+import java.util.ArrayList;
+import java.util.Arrays;
+import java.util.BitSet;
+import java.util.Iterator;
+import java.util.List;
+import java.util.Spliterator;
+import java.util.Spliterators;
+import java.util.function.Consumer;
+import java.util.stream.Stream;
+import java.util.stream.StreamSupport;
+
+/***
+ * Lazy enumeration of the Kekule structures of a benzenoid (possibly without some of its carbons), each one being
+ * the set of the indexes of its double bonds (see bonds()). The structures are produced by a backtracking on the carbons, the lowest free carbon being
+ * matched with each of its free neighbors in turn; after each choice, the carbons left with a single free neighbor
+ * are matched with it, and a carbon left without free neighbor is a dead end. The search can be split between
+ * threads : a split takes half of the untried choices of the lowest branching carbon.
+ */
+public class KekuleStructureEnumerator implements Spliterator<BitSet> {
+
+	private static final int REMOVED = -2;
+
+	/*
+	 * Bonds and neighbors of the carbons, shared between the splits
+	 */
+	private final CarbonGraph graph;
+
+	/*
+	 * Current matching : double bond of each carbon (-1 if it is free, REMOVED if it is not in the graph) and double
+	 * bonds in their order of choice
+	 */
+	private final int[] mates;
+	private final int[] trail;
+	private int trailSize;
+
+	private int[] queue;
+
+	private final List<Frame> frames = new ArrayList<>();
+	private boolean started;
+	private boolean pending;
+
+	/*
+	 * Choices of a branching carbon : choices[first..end[ are handled by this enumerator, choices[next..end[ are
+	 * left, and the matching was of size trailSize before
+	 */
+	private static final class Frame {
+
+		private final int carbon;
+		private final int[] choices;
+		private final int first;
+		private int next;
+		private int end;
+		private final int trailSize;
+
+		private Frame(int carbon, int[] choices, int next, int end, int trailSize) {
+			this.carbon = carbon;
+			this.choices = choices;
+			this.first = next;
+			this.next = next;
+			this.end = end;
+			this.trailSize = trailSize;
+		}
+	}
+
+	public KekuleStructureEnumerator(Benzenoid molecule) {
+		this(molecule, new BitSet());
+	}
+
+	/***
+	 * Enumerator of the Kekule structures of the molecule without the given carbons
+	 */
+	public KekuleStructureEnumerator(Benzenoid molecule, BitSet removedCarbons) {
+
+		graph = molecule.getGraph();
+		int nbCarbons = graph.getNbCarbons();
+
+		mates = new int[nbCarbons];
+		for (int carbon = 0; carbon < nbCarbons; carbon++)
+			mates[carbon] = removedCarbons.get(carbon) ? REMOVED : -1;
+		trail = new int[nbCarbons / 2 + 1];
+		queue = new int[nbCarbons + 1];
+	}
+
+	/*
+	 * Split of parent : the matching of parent before frame, and the choices of frame from next
+	 */
+	private KekuleStructureEnumerator(KekuleStructureEnumerator parent, Frame frame, int next) {
+
+		graph = parent.graph;
+
+		mates = new int[parent.mates.length];
+		for (int carbon = 0; carbon < mates.length; carbon++)
+			mates[carbon] = parent.mates[carbon] == REMOVED ? REMOVED : -1;
+		trail = new int[parent.trail.length];
+		queue = new int[parent.queue.length];
+
+		for (int i = 0; i < frame.trailSize; i++)
+			match(parent.trail[i]);
+
+		frames.add(new Frame(frame.carbon, frame.choices, next, frame.end, trailSize));
+		started = true;
+	}
+
+	/***
+	 * @return the bonds of the molecule, as couples of carbons (u, v) with u < v, in the order of their indexes
+	 */
+	public static int[][] bonds(Benzenoid molecule) {
+
+		CarbonGraph graph = molecule.getGraph();
+		int[][] bonds = new int[graph.getNbBonds()][];
+
+		for (int bond = 0; bond < bonds.length; bond++)
+			bonds[bond] = new int[] { graph.getFirstCarbon(bond), graph.getSecondCarbon(bond) };
+
+		return bonds;
+	}
+
+	public static Stream<BitSet> stream(Benzenoid molecule, boolean parallel) {
+		return StreamSupport.stream(new KekuleStructureEnumerator(molecule), parallel);
+	}
+
+	public static Iterator<BitSet> iterator(Benzenoid molecule) {
+		return Spliterators.iterator(new KekuleStructureEnumerator(molecule));
+	}
+
+	@Override
+	public boolean tryAdvance(Consumer<? super BitSet> action) {
+
+		BitSet structure = nextStructure();
+		if (structure == null)
+			return false;
+
+		action.accept(structure);
+		return true;
+	}
+
+	@Override
+	public Spliterator<BitSet> trySplit() {
+
+		if (!started)
+			start();
+
+		/*
+		 * The choices left are shared if this enumerator keeps one of them, or the choice it is exploring
+		 */
+		for (Frame frame : frames)
+			if (frame.end - frame.next >= 2 || (frame.next < frame.end && frame.next > frame.first)) {
+				int middle = frame.next + (frame.end - frame.next) / 2;
+				KekuleStructureEnumerator split = new KekuleStructureEnumerator(this, frame, middle);
+				frame.end = middle;
+				return split;
+			}
+
+		return null;
+	}
+
+	@Override
+	public long estimateSize() {
+		return Long.MAX_VALUE;
+	}
+
+	@Override
+	public int characteristics() {
+		return DISTINCT | NONNULL;
+	}
+
+	private BitSet nextStructure() {
+
+		if (!started)
+			start();
+
+		if (pending) {
+			pending = false;
+			return structure();
+		}
+
+		while (!frames.isEmpty()) {
+
+			Frame frame = frames.get(frames.size() - 1);
+			undo(frame.trailSize);
+
+			if (frame.next == frame.end) {
+				frames.remove(frames.size() - 1);
+				continue;
+			}
+
+			if (assign(frame.choices[frame.next++]) && descend(frame.carbon))
+				return structure();
+		}
+
+		return null;
+	}
+
+	/*
+	 * Matches the carbons having a single neighbor, and opens the first branching
+	 */
+	private void start() {
+
+		started = true;
+
+		int queueSize = 0;
+		for (int carbon = 0; carbon < mates.length; carbon++)
+			queue[queueSize++] = carbon;
+
+		if (!propagate(queueSize))
+			return;
+
+		int carbon = firstFreeCarbon(0);
+		if (carbon == -1)
+			pending = true;
+		else
+			push(carbon);
+	}
+
+	/*
+	 * Branches on the free carbons after carbon until the matching is perfect, false on a dead end
+	 */
+	private boolean descend(int carbon) {
+
+		while ((carbon = firstFreeCarbon(carbon + 1)) != -1) {
+			Frame frame = push(carbon);
+			if (!assign(frame.choices[frame.next++]))
+				return false;
+		}
+
+		return true;
+	}
+
+	private Frame push(int carbon) {
+
+		int[] choices = new int[graph.getDegree(carbon)];
+		int nbChoices = 0;
+		for (int i = 0; i < choices.length; i++)
+			if (mates[graph.getNeighbor(carbon, i)] == -1)
+				choices[nbChoices++] = graph.getBond(carbon, i);
+
+		Frame frame = new Frame(carbon, choices, 0, nbChoices, trailSize);
+		frames.add(frame);
+		return frame;
+	}
+
+	/*
+	 * Adds bond to the matching and propagates, false on a dead end
+	 */
+	private boolean assign(int bond) {
+
+		match(bond);
+
+		int queueSize = enqueueNeighbors(graph.getFirstCarbon(bond), 0);
+		queueSize = enqueueNeighbors(graph.getSecondCarbon(bond), queueSize);
+
+		return propagate(queueSize);
+	}
+
+	/*
+	 * Matches the free carbons of the queue having a single free neighbor, false if one of them has none
+	 */
+	private boolean propagate(int queueSize) {
+
+		while (queueSize > 0) {
+
+			int carbon = queue[--queueSize];
+			if (mates[carbon] != -1)
+				continue;
+
+			int nbFreeBonds = 0;
+			int freeIndex = -1;
+			for (int i = 0; i < graph.getDegree(carbon); i++)
+				if (mates[graph.getNeighbor(carbon, i)] == -1) {
+					nbFreeBonds++;
+					freeIndex = i;
+				}
+
+			if (nbFreeBonds == 0)
+				return false;
+
+			if (nbFreeBonds == 1) {
+				match(graph.getBond(carbon, freeIndex));
+				queueSize = enqueueNeighbors(carbon, queueSize);
+				queueSize = enqueueNeighbors(graph.getNeighbor(carbon, freeIndex), queueSize);
+			}
+		}
+
+		return true;
+	}
+
+	private int enqueueNeighbors(int carbon, int queueSize) {
+
+		for (int i = 0; i < graph.getDegree(carbon); i++) {
+			int neighbor = graph.getNeighbor(carbon, i);
+			if (mates[neighbor] == -1) {
+				if (queueSize == queue.length)
+					queue = Arrays.copyOf(queue, 2 * queue.length);
+				queue[queueSize++] = neighbor;
+			}
+		}
+
+		return queueSize;
+	}
+
+	private void match(int bond) {
+		mates[graph.getFirstCarbon(bond)] = bond;
+		mates[graph.getSecondCarbon(bond)] = bond;
+		trail[trailSize++] = bond;
+	}
+
+	private void undo(int size) {
+		while (trailSize > size) {
+			int bond = trail[--trailSize];
+			mates[graph.getFirstCarbon(bond)] = -1;
+			mates[graph.getSecondCarbon(bond)] = -1;
+		}
+	}
+
+	private int firstFreeCarbon(int from) {
+		for (int carbon = from; carbon < mates.length; carbon++)
+			if (mates[carbon] == -1)
+				return carbon;
+		return -1;
+	}
+
+	private BitSet structure() {
+		BitSet structure = new BitSet(graph.getNbBonds());
+		for (int i = 0; i < trailSize; i++)
+			structure.set(trail[i]);
+		return structure;
+	}
+}
@@ -0,0 +1,466 @@
+package solveur;
+
+import benzenoid.Benzenoid;
+import benzenoid.SubGraph;
+import solveur.LinAlgorithm.PerfectMatchingType;
+
+import java.math.BigInteger;
+import java.util.ArrayDeque;
+import java.util.ArrayList;
+import java.util.Arrays;
+import java.util.HashMap;
+import java.util.Map;
+
+/***
+ * Number of Kekule structures of a benzenoid, computed in linear time when its shape allows it :
+ * - catacondensed benzenoids (the dual graph is a tree) : dynamic programming along the dual tree, the state of
+ * a fused bond being the way its two carbons are covered ;
+ * - strip-like benzenoids : transfer matrix along an ordering of the carbons, the state being the set of the next
+ * carbons already covered. It is used when the number of states it may go through is small compared to the cost
+ * of the determinant, i.e. for long and narrow benzenoids.
+ * The other benzenoids are counted with the exact determinant of the Rispoli matrix.
+ */
+public enum KekuleStructuresCounter {
+	;
+
+	/*
+	 * The states of the transfer matrix are sets of positions stored in an int
+	 */
+	private static final int MAX_BANDWIDTH = Integer.SIZE - 2;
+
+	/*
+	 * The transfer matrix is used when its number of states is at most n^3 / STRIP_COST_RATIO (n : number of
+	 * carbons). Measured, a state costs about 100 times a step of the determinant : the transfer matrix is faster
+	 * on the 2, 3 and 4 hexagons wide strips, the determinant on the parallelograms and coronenoids.
+	 */
+	private static final double STRIP_COST_RATIO = 100.0;
+
+	/*
+	 * State of a fused bond, seen from one of its hexagons : the bond is double (BOND_STATE), or bit 0 (resp. 1)
+	 * tells if its first (resp. second) carbon is covered by a bond of this hexagon
+	 */
+	private static final int BOND_STATE = 4;
+	private static final int NB_STATES = 5;
+
+	public enum Method {
+		CATACONDENSED, STRIP, DETERMINANT
+	}
+
+	public static BigInteger count(Benzenoid molecule) {
+
+		if (isCatacondensed(molecule))
+			return countCatacondensed(molecule.getHexagons(), molecule.getDualGraph());
+
+		int[][] adjacency = adjacency(molecule);
+		int[] order = order(adjacency);
+
+		if (isStrip(adjacency, order))
+			return countStrip(adjacency, order);
+
+		return countDeterminant(molecule);
+	}
+
+	/***
+	 * @return the method used by count() for the given benzenoid
+	 */
+	public static Method method(Benzenoid molecule) {
+
+		if (isCatacondensed(molecule))
+			return Method.CATACONDENSED;
+
+		int[][] adjacency = adjacency(molecule);
+		if (isStrip(adjacency, order(adjacency)))
+			return Method.STRIP;
+
+		return Method.DETERMINANT;
+	}
+
+	/***
+	 * Counts with the given method (the strip method only requires a bandwidth of at most 30)
+	 */
+	public static BigInteger count(Benzenoid molecule, Method method) {
+
+		switch (method) {
+
+		case CATACONDENSED:
+			return countCatacondensed(molecule.getHexagons(), molecule.getDualGraph());
+
+		case STRIP:
+			int[][] adjacency = adjacency(molecule);
+			return countStrip(adjacency, order(adjacency));
+
+		default:
+			return countDeterminant(molecule);
+		}
+	}
+
+	/***
+	 * @return true if the dual graph of the (connected) benzenoid is a tree, i.e. if no carbon belongs to three
+	 * hexagons and there is no hole
+	 */
+	public static boolean isCatacondensed(Benzenoid molecule) {
+
+		int[][] dualGraph = molecule.getDualGraph();
+
+		int nbFusedBonds = 0;
+		for (int[] neighbors : dualGraph)
+			for (int neighbor : neighbors)
+				if (neighbor != -1)
+					nbFusedBonds++;
+
+		return nbFusedBonds / 2 == molecule.getNbHexagons() - 1;
+	}
+
+	/*
+	 * Catacondensed benzenoids
+	 */
+
+	/***
+	 * hexagons[h] : the carbons of the hexagon h in cyclic order, its bond i being (hexagons[h][i],
+	 * hexagons[h][i + 1]) and dualGraph[h][i] the hexagon sharing this bond (-1 if none). Every bond belongs to
+	 * one hexagon or is a fused bond, so a Kekule structure is the union of the bonds chosen in each hexagon,
+	 * the choices of two neighbor hexagons agreeing on their fused bond.
+	 */
+	private static BigInteger countCatacondensed(int[][] hexagons, int[][] dualGraph) {
+
+		int nbHexagons = hexagons.length;
+
+		/*
+		 * Depth-first order from the hexagon 0, parents before children
+		 */
+		int[] parents = new int[nbHexagons];
+		int[] order = new int[nbHexagons];
+		Arrays.fill(parents, -2);
+		parents[0] = -1;
+
+		ArrayDeque<Integer> stack = new ArrayDeque<>();
+		stack.push(0);
+		int nbVisited = 0;
+
+		while (!stack.isEmpty()) {
+			int hexagon = stack.pop();
+			order[nbVisited++] = hexagon;
+			for (int neighbor : dualGraph[hexagon])
+				if (neighbor != -1 && parents[neighbor] == -2) {
+					parents[neighbor] = hexagon;
+					stack.push(neighbor);
+				}
+		}
+
+		/*
+		 * counts[h][s] : number of Kekule structures of the subtree of h, the bond shared with its parent being in
+		 * the state s (seen from h)
+		 */
+		BigInteger[][] counts = new BigInteger[nbHexagons][];
+
+		for (int i = nbHexagons - 1; i >= 0; i--) {
+
+			int hexagon = order[i];
+			int[] carbons = hexagons[hexagon];
+			int[] neighbors = dualGraph[hexagon];
+
+			BigInteger[] hexagonCounts = new BigInteger[NB_STATES];
+			Arrays.fill(hexagonCounts, BigInteger.ZERO);
+
+			for (int bonds = 0; bonds < 64; bonds++) {
+
+				int covered = coveredCarbons(bonds, neighbors);
+				if (covered == -1)
+					continue;
+
+				BigInteger nbStructures = BigInteger.ONE;
+				int parentState = 0;
+
+				for (int bond = 0; bond < 6 && nbStructures.signum() != 0; bond++) {
+
+					int neighbor = neighbors[bond];
+					if (neighbor == -1)
+						continue;
+
+					int state = state(bonds, covered, bond);
+
+					if (neighbor == parents[hexagon])
+						parentState = state;
+					else
+						nbStructures = nbStructures.multiply(counts[neighbor][neighborState(state, carbons, bond, hexagons[neighbor], dualGraph[neighbor], hexagon)]);
+				}
+
+				hexagonCounts[parentState] = hexagonCounts[parentState].add(nbStructures);
+			}
+
+			counts[hexagon] = hexagonCounts;
+		}
+
+		/*
+		 * The root has no parent : all its structures are counted in the state 0
+		 */
+		return counts[0][0];
+	}
+
+	/*
+	 * @return the carbons (bit i : carbon i) of the hexagon covered by the chosen bonds, -1 if a carbon is covered
+	 * twice or if a carbon belonging to this hexagon only is not covered
+	 */
+	private static int coveredCarbons(int bonds, int[] neighbors) {
+
+		int covered = 0;
+
+		for (int bond = 0; bond < 6; bond++)
+			if ((bonds & (1 << bond)) != 0) {
+				int carbons = (1 << bond) | (1 << ((bond + 1) % 6));
+				if ((covered & carbons) != 0)
+					return -1;
+				covered |= carbons;
+			}
+
+		for (int carbon = 0; carbon < 6; carbon++)
+			if ((covered & (1 << carbon)) == 0 && neighbors[carbon] == -1 && neighbors[(carbon + 5) % 6] == -1)
+				return -1;
+
+		return covered;
+	}
+
+	private static int state(int bonds, int covered, int bond) {
+
+		if ((bonds & (1 << bond)) != 0)
+			return BOND_STATE;
+
+		int state = 0;
+		if ((covered & (1 << bond)) != 0)
+			state |= 1;
+		if ((covered & (1 << ((bond + 1) % 6))) != 0)
+			state |= 2;
+		return state;
+	}
+
+	/*
+	 * @return the state of the fused bond seen from the neighbor hexagon : each carbon of the bond must be covered
+	 * by exactly one of the two hexagons
+	 */
+	private static int neighborState(int state, int[] carbons, int bond, int[] neighborCarbons, int[] neighborNeighbors,
+			int hexagon) {
+
+		if (state == BOND_STATE)
+			return BOND_STATE;
+
+		int neighborBond = 0;
+		while (neighborNeighbors[neighborBond] != hexagon)
+			neighborBond++;
+
+		int neighborState = 0;
+
+		for (int i = 0; i < 2; i++) {
+			int carbon = neighborCarbons[(neighborBond + i) % 6];
+			boolean coveredByHexagon = carbon == carbons[bond] ? (state & 1) != 0 : (state & 2) != 0;
+			if (!coveredByHexagon)
+				neighborState |= 1 << i;
+		}
+
+		return neighborState;
+	}
+
+	/*
+	 * Strip-like benzenoids
+	 */
+
+	/***
+	 * Transfer matrix along the carbons in the given order : when the carbon at the position i is reached, it is
+	 * either already covered or bonded to one of its next neighbors. The state is the set of the carbons at the
+	 * positions i, ..., i + bandwidth already covered.
+	 */
+	private static BigInteger countStrip(int[][] adjacency, int[] order) {
+
+		int nbCarbons = order.length;
+
+		int[] positions = new int[nbCarbons];
+		for (int i = 0; i < nbCarbons; i++)
+			positions[order[i]] = i;
+
+		Map<Integer, BigInteger> states = new HashMap<>();
+		states.put(0, BigInteger.ONE);
+
+		for (int i = 0; i < nbCarbons; i++) {
+
+			Map<Integer, BigInteger> nextStates = new HashMap<>();
+
+			for (Map.Entry<Integer, BigInteger> entry : states.entrySet()) {
+
+				int state = entry.getKey();
+
+				if ((state & 1) != 0)
+					nextStates.merge(state >> 1, entry.getValue(), BigInteger::add);
+
+				else
+					for (int neighbor : adjacency[order[i]]) {
+						int offset = positions[neighbor] - i;
+						if (offset > 0 && (state & (1 << offset)) == 0)
+							nextStates.merge((state | (1 << offset)) >> 1, entry.getValue(), BigInteger::add);
+					}
+			}
+
+			states = nextStates;
+		}
+
+		return states.getOrDefault(0, BigInteger.ZERO);
+	}
+
+	/*
+	 * Reverse Cuthill-McKee like ordering : breadth-first search from a carbon far from the others, which follows
+	 * the length of a strip
+	 */
+	private static int[] order(int[][] adjacency) {
+
+		int start = farthest(adjacency, farthest(adjacency, 0));
+
+		int nbCarbons = adjacency.length;
+		int[] order = new int[nbCarbons];
+		boolean[] visited = new boolean[nbCarbons];
+
+		int nbVisited = 0;
+		int index = 0;
+
+		int carbon = start;
+
+		while (nbVisited < nbCarbons) {
+
+			if (visited[carbon])
+				carbon = nextUnvisited(visited);
+
+			order[nbVisited++] = carbon;
+			visited[carbon] = true;
+
+			while (index < nbVisited) {
+				for (int neighbor : adjacency[order[index]])
+					if (!visited[neighbor]) {
+						visited[neighbor] = true;
+						order[nbVisited++] = neighbor;
+					}
+				index++;
+			}
+		}
+
+		return order;
+	}
+
+	private static int nextUnvisited(boolean[] visited) {
+		int carbon = 0;
+		while (visited[carbon])
+			carbon++;
+		return carbon;
+	}
+
+	private static int farthest(int[][] adjacency, int source) {
+
+		int[] distances = new int[adjacency.length];
+		Arrays.fill(distances, -1);
+		distances[source] = 0;
+
+		ArrayDeque<Integer> queue = new ArrayDeque<>();
+		queue.add(source);
+		int last = source;
+
+		while (!queue.isEmpty()) {
+			last = queue.poll();
+			for (int neighbor : adjacency[last])
+				if (distances[neighbor] == -1) {
+					distances[neighbor] = distances[last] + 1;
+					queue.add(neighbor);
+				}
+		}
+
+		return last;
+	}
+
+	/*
+	 * After the position i, the state is a subset of the carbons placed after i having a neighbor placed at i or
+	 * before : the transfer matrix goes through at most the sum of 2^(number of these carbons) states
+	 */
+	private static boolean isStrip(int[][] adjacency, int[] order) {
+
+		int nbCarbons = order.length;
+
+		if (bandwidth(adjacency, order) > MAX_BANDWIDTH)
+			return false;
+
+		int[] positions = new int[nbCarbons];
+		for (int i = 0; i < nbCarbons; i++)
+			positions[order[i]] = i;
+
+		/*
+		 * The carbon at the position j is in the frontier from the position of its first neighbor to j - 1
+		 */
+		int[] frontierChanges = new int[nbCarbons + 1];
+		for (int j = 0; j < nbCarbons; j++) {
+			int first = j;
+			for (int neighbor : adjacency[order[j]])
+				first = Math.min(first, positions[neighbor]);
+			frontierChanges[first]++;
+			frontierChanges[j]--;
+		}
+
+		double maxNbStates = (double) nbCarbons * nbCarbons * nbCarbons / STRIP_COST_RATIO;
+		double nbStates = 0.0;
+		int frontier = 0;
+
+		for (int i = 0; i < nbCarbons; i++) {
+			frontier += frontierChanges[i];
+			nbStates += Math.pow(2, frontier);
+			if (nbStates > maxNbStates)
+				return false;
+		}
+
+		return true;
+	}
+
+	private static int bandwidth(int[][] adjacency, int[] order) {
+
+		int[] positions = new int[order.length];
+		for (int i = 0; i < order.length; i++)
+			positions[order[i]] = i;
+
+		int bandwidth = 0;
+		for (int u = 0; u < adjacency.length; u++)
+			for (int v : adjacency[u])
+				bandwidth = Math.max(bandwidth, Math.abs(positions[u] - positions[v]));
+
+		return bandwidth;
+	}
+
+	/*
+	 * Neighbors of each carbon, from the bonds of the hexagons (every bond of a benzenoid belongs to a hexagon)
+	 */
+	private static int[][] adjacency(Benzenoid molecule) {
+
+		int nbCarbons = molecule.getNbCarbons();
+
+		ArrayList<ArrayList<Integer>> neighbors = new ArrayList<>(nbCarbons);
+		for (int i = 0; i < nbCarbons; i++)
+			neighbors.add(new ArrayList<>(3));
+
+		for (int[] hexagon : molecule.getHexagons())
+			for (int i = 0; i < 6; i++) {
+				int u = hexagon[i];
+				int v = hexagon[(i + 1) % 6];
+				if (!neighbors.get(u).contains(v)) {
+					neighbors.get(u).add(v);
+					neighbors.get(v).add(u);
+				}
+			}
+
+		int[][] adjacency = new int[nbCarbons][];
+		for (int i = 0; i < nbCarbons; i++)
+			adjacency[i] = neighbors.get(i).stream().mapToInt(Integer::intValue).toArray();
+
+		return adjacency;
+	}
+
+	/*
+	 * General benzenoids
+	 */
+
+	private static BigInteger countDeterminant(Benzenoid molecule) {
+
+		return new SubGraph(molecule.getGraph(), new int[molecule.getNbCarbons()], PerfectMatchingType.EXACT)
+				.getExactNbPerfectMatchings();
+	}
+}
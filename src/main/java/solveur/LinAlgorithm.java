@@ -4,116 +4,75 @@ import java.io.IOException;
 import java.util.ArrayList;
 import java.util.Collections;
 import java.util.List;
-import org.chocosolver.solver.Model;
-import org.chocosolver.solver.Solution;
-import org.chocosolver.solver.Solver;
-import org.chocosolver.solver.search.strategy.selectors.values.IntDomainMin;
-import org.chocosolver.solver.search.strategy.selectors.variables.FirstFail;
-import org.chocosolver.solver.search.strategy.strategy.IntStrategy;
-import org.chocosolver.solver.variables.BoolVar;
-import org.chocosolver.solver.variables.UndirectedGraphVar;
-import org.chocosolver.util.objects.graphs.UndirectedGraph;
-import org.chocosolver.util.objects.setDataStructures.SetType;
 import benzenoid.Benzenoid;
 import benzenoid.Node;
 import benzenoid.NodeSameLine;
-import benzenoid.SubGraph;
 import parsers.GraphParser;
 import solveur.Aromaticity.RIType;
+import utils.CircuitConfigurations;
 import utils.EdgeSet;
 import utils.Interval;
 import utils.SubMolecule;
-import utils.Utils;
-
-public enum LinAlgorithm {
-	;
 
+/***
+ * Resonance energy of a benzenoid with the algorithm of Lin : the conjugated circuits are enumerated, and each
+ * one contributes to its hexagons the number of perfect matchings of the molecule without its circuit and
+ * interior. The state of a computation is held by an instance, so that several benzenoids can be processed
+ * concurrently.
+ */
+public class LinAlgorithm {
+
+	/*
+	 * DET : determinant of the Rispoli matrix with Jama (doubles), EXACT : the same determinant computed
+	 * exactly (Bareiss elimination, see ExactDeterminant). The circuits of Lin are counted with the exact minors
+	 * of EdgeInclusionCounter for both.
+	 */
 	public enum PerfectMatchingType {
-		CHOCO, DET
+		CHOCO, DET, EXACT
 	}
 
 	private static final int MAX_CYCLE_SIZE = 4;
-	public static int[][][] energies = new int[127][11][4];
-	public static double [][] circuits;
-	public static double [] circuitCount;
-	private static boolean verbose = false;
-
-	public static void computeResonanceEnergy(Benzenoid molecule, PerfectMatchingType type) {
-
-		energies = Utils.initEnergies();
-		circuits = new double[molecule.getNbHexagons()][MAX_CYCLE_SIZE];
-		circuitCount = new double [energies.length];
+	private static final int MAX_CIRCUIT_LENGTH = 26;
 
-		int[] firstVertices = new int[molecule.getNbBonds()];
-		int[] secondVertices = new int[molecule.getNbBonds()];
+	private final Benzenoid molecule;
+	private final PerfectMatchingType type;
 
-		Model model = new Model("Cycles");
-
-		UndirectedGraph GLB = new UndirectedGraph(model, molecule.getNbCarbons(), SetType.BITSET, false);
-		UndirectedGraph GUB = new UndirectedGraph(model, molecule.getNbCarbons(), SetType.BITSET, false);
-
-		for (int i = 0; i < molecule.getNbCarbons(); i++) {
-			GUB.addNode(i);
-
-			for (int j = (i + 1); j < molecule.getNbCarbons(); j++) {
-				if (molecule.getEdgeMatrix()[i][j] == 1) {
-					GUB.addEdge(i, j);
-				}
-			}
-		}
-
-		UndirectedGraphVar g = model.graphVar("g", GLB, GUB);
-
-		BoolVar[] boolEdges = new BoolVar[molecule.getNbBonds()];
-
-		int index = 0;
-		for (int i = 0; i < molecule.getNbCarbons(); i++) {
-			for (int j = (i + 1); j < molecule.getNbCarbons(); j++) {
-
-				if (molecule.getEdgeMatrix()[i][j] == 1) {
-					boolEdges[index] = model.boolVar("(" + i + "--" + j + ")");
-					model.edgeChanneling(g, boolEdges[index], i, j).post();
-					firstVertices[index] = i;
-					secondVertices[index] = j;
-					index++;
-				}
-			}
-		}
+	private final double[][] circuits;
+	private final double[] circuitCount;
+	private boolean verbose;
 
-		model.minDegree(g, 2).post();
-		model.maxDegree(g, 2).post();
-		model.connected(g).post();
+	public LinAlgorithm(Benzenoid molecule, PerfectMatchingType type) {
+		this.molecule = molecule;
+		this.type = type;
+		circuits = new double[molecule.getNbHexagons()][MAX_CYCLE_SIZE];
+		circuitCount = new double[CircuitConfigurations.NB_CYCLE_CONFIGURATIONS];
+	}
 
-		model.or(model.and(model.nbNodes(g, model.intVar(6)), model.sum(boolEdges, "=", 6)),
-				model.and(model.nbNodes(g, model.intVar(10)), model.sum(boolEdges, "=", 10)),
-				model.and(model.nbNodes(g, model.intVar(14)), model.sum(boolEdges, "=", 14)),
-				model.and(model.nbNodes(g, model.intVar(18)), model.sum(boolEdges, "=", 18)),
-				model.and(model.nbNodes(g, model.intVar(22)), model.sum(boolEdges, "=", 22)),
-				model.and(model.nbNodes(g, model.intVar(26)), model.sum(boolEdges, "=", 26))).post();
+	public double[][] getCircuits() {
+		return circuits;
+	}
 
-		model.getSolver().setSearch(new IntStrategy(boolEdges, new FirstFail(model), new IntDomainMin()));
-		Solver solver = model.getSolver();
+	public double[] getCircuitCount() {
+		return circuitCount;
+	}
 
-		Solution solution;
+	public void setVerbose(boolean verbose) {
+		this.verbose = verbose;
+	}
 
-		while (solver.solve()) {
-			solution = new Solution(model);
-			solution.record();
+	public void computeResonanceEnergy() {
 
-			ArrayList<Integer> cycle = new ArrayList<>();
+		ConjugatedCircuitsEnumerator.enumerate(molecule, MAX_CIRCUIT_LENGTH, edges -> {
 
-			for (int i = 0; i < boolEdges.length; i++) {
-				if (solution.getIntVal(boolEdges[i]) == 1) {
-					cycle.add(firstVertices[i]);
-					cycle.add(secondVertices[i]);
-				}
-			}
+			ArrayList<Integer> cycle = new ArrayList<>(edges.length);
+			for (int vertex : edges)
+				cycle.add(vertex);
 
-			treatCycle(molecule, cycle, type);
-		}
+			treatCycle(cycle);
+		});
 	}
 
-	public static void printResults(long time) {
+	public void printResults(long time) {
 
 		System.out.println("\nLOCAL ENERGY:");
 
@@ -305,12 +264,12 @@ public enum LinAlgorithm {
 		return list.toString();
 	}
 
-	public static void treatCycle(Benzenoid molecule, ArrayList<Integer> cycle, PerfectMatchingType type) {
+	public void treatCycle(ArrayList<Integer> cycle) {
 
 		EdgeSet verticalEdges = computeStraightEdges(molecule, cycle);
 		ArrayList<Interval> intervals = (ArrayList<Interval>) computeIntervals(verticalEdges);
 		Collections.sort(intervals);
-		int cycleConfiguration = Utils.identifyCycle(molecule, intervals);
+		int cycleConfiguration = CircuitConfigurations.identifyCycle(intervals);
 
 		if (cycleConfiguration != -1) {
 
@@ -334,14 +293,15 @@ public enum LinAlgorithm {
 					}
 				}
 
-				SubGraph subGraph = RispoliAlgorithm.removeCircuit(molecule, circuitForDeterminant, type);
-
 				switch (type) {
 
 				case DET:
+				case EXACT:
+					nbPerfectMatchings = molecule.getEdgeInclusionCounter().getNbPerfectMatchingsWithout(circuitForDeterminant).doubleValue();
+					break;
 
-					case CHOCO:
-						nbPerfectMatchings = subGraph.getNbPerfectMatchings();
+				case CHOCO:
+					nbPerfectMatchings = RispoliAlgorithm.removeCircuit(molecule, circuitForDeterminant, type).getNbPerfectMatchings();
 					break;
 
 				}
@@ -349,15 +309,16 @@ public enum LinAlgorithm {
 				if (verbose)
 					System.out.println(hexagons + " -> " + nbPerfectMatchings);
 
-				int[][] energiesCycle = energies[cycleConfiguration];
+				int nbHexagons = Math.min(hexagons.size(), CircuitConfigurations.getNbHexagons(cycleConfiguration));
 
-				for (int idHexagon = 0; idHexagon < hexagons.size(); idHexagon++) {
+				for (int idHexagon = 0; idHexagon < nbHexagons; idHexagon++) {
 
 					int hexagon = hexagons.get(idHexagon);
 					for (int size = 0; size < 4; size++) {
 
-						if (energiesCycle[idHexagon][size] != 0)
-							circuits[hexagon][size] += (double)(energiesCycle[idHexagon][size]) * nbPerfectMatchings;
+						int energy = CircuitConfigurations.getEnergy(cycleConfiguration, idHexagon, size);
+						if (energy != 0)
+							circuits[hexagon][size] += (double)(energy) * nbPerfectMatchings;
 					
 						
 					}
@@ -369,11 +330,12 @@ public enum LinAlgorithm {
 	}
 
 	public static Aromaticity solve(Benzenoid molecule, PerfectMatchingType type) throws IOException {
-		computeResonanceEnergy(molecule, type);
-		return new Aromaticity(molecule, circuits, RIType.OPTIMIZED);
+		LinAlgorithm algorithm = new LinAlgorithm(molecule, type);
+		algorithm.computeResonanceEnergy();
+		return new Aromaticity(molecule, algorithm.circuits, RIType.OPTIMIZED);
 	}
 
-	private static void printHeader(String filename, PerfectMatchingType type) {
+	private static void printHeader(String filename, PerfectMatchingType type, boolean verbose) {
 
 		System.out.println("# Lin algorithm");
 		System.out.println("# Molecule file: " + filename);
@@ -385,6 +347,10 @@ public enum LinAlgorithm {
 			System.out.println("Rispoli algorithm");
 			break;
 
+		case EXACT:
+			System.out.println("Rispoli algorithm (exact determinant)");
+			break;
+
 		case CHOCO:
 			System.out.println("CP model");
 			break;
@@ -400,7 +366,7 @@ public enum LinAlgorithm {
 			System.err.println("ERROR: invalid argument(s)");
 			System.err.println(
 					"USAGE: java -jar LinAlgorithm.jar ${input_file_name} ${matching_computation_type)");
-			System.err.println("${matching_computation_type}: 0 (matrix determinant), 1 (choco)");
+			System.err.println("${matching_computation_type}: 0 (matrix determinant), 1 (choco), 2 (exact matrix determinant)");
 			System.exit(1);
 		}
 
@@ -411,21 +377,26 @@ public enum LinAlgorithm {
 		if ("0".equals(args[1]))
 			type = PerfectMatchingType.DET;
 
+		else if ("2".equals(args[1]))
+			type = PerfectMatchingType.EXACT;
+
 		else
 			type = PerfectMatchingType.CHOCO;
 
-		verbose = args.length >= 3 && ("-v".equals(args[2]) || "--verbose".equals(args[2]));
+		boolean verbose = args.length >= 3 && ("-v".equals(args[2]) || "--verbose".equals(args[2]));
 
-		printHeader(path, type);
+		printHeader(path, type, verbose);
 
 		Benzenoid molecule = GraphParser.parseUndirectedGraph(path, null, false);
 
 		long begin = System.currentTimeMillis();
 		assert molecule != null;
-		computeResonanceEnergy(molecule, type);
+		LinAlgorithm algorithm = new LinAlgorithm(molecule, type);
+		algorithm.setVerbose(verbose);
+		algorithm.computeResonanceEnergy();
 		long end = System.currentTimeMillis();
 		long time = end - begin;
-		printResults(time);
+		algorithm.printResults(time);
 
 	}
 }
@@ -2,30 +2,36 @@ package solveur;
 
 import java.io.IOException;
 import java.util.ArrayList;
+import java.util.Arrays;
+import java.util.BitSet;
+import java.util.Iterator;
 import java.util.List;
 
-import org.chocosolver.solver.Model;
-import org.chocosolver.solver.Solution;
-import org.chocosolver.solver.Solver;
-import org.chocosolver.solver.search.strategy.selectors.values.IntDomainMin;
-import org.chocosolver.solver.search.strategy.selectors.variables.FirstFail;
-import org.chocosolver.solver.search.strategy.strategy.IntStrategy;
-import org.chocosolver.solver.variables.BoolVar;
-
 import benzenoid.Edge;
 import benzenoid.Benzenoid;
 import benzenoid.UndirPonderateGraph;
 import parsers.GraphParser;
 import solveur.Aromaticity.RIType;
 
-public enum LinFanAlgorithm {
-    ;
-
-    private static int indexStructure = 0;
+/***
+ * Resonance energy of a benzenoid with the algorithm of Lin and Fan : the Kekule structures are enumerated, and
+ * the smallest conjugated circuit of each hexagon is computed in each of them. The state of a computation is
+ * held by an instance, so that several benzenoids can be processed concurrently.
+ */
+public class LinFanAlgorithm {
 
 	private static final int MAX_CIRCUIT_SIZE = 20;
-	private static final double [] rCount = new double[MAX_CIRCUIT_SIZE];
-	private static double [][] localAromaticity;
+
+	private final Benzenoid molecule;
+
+	private int indexStructure = 0;
+	private final double [] rCount = new double[MAX_CIRCUIT_SIZE];
+	private final double [][] localAromaticity;
+
+	public LinFanAlgorithm(Benzenoid molecule) {
+		this.molecule = molecule;
+		localAromaticity = new double[molecule.getNbHexagons()][MAX_CIRCUIT_SIZE];
+	}
 
 	public static boolean containsNode(ArrayList<Edge> path, int v) {
 		for (Edge edge : path) {
@@ -443,9 +449,6 @@ public enum LinFanAlgorithm {
 	@SuppressWarnings("unused")
 	public static List<Edge> computeCircuitCase3(UndirPonderateGraph kekuleStructure, int hexagon) {
 
-		if (indexStructure == 9 && hexagon == 13)
-			System.out.print("");
-
 		int[] hexagonVertices = kekuleStructure.getHexagons()[hexagon];
 		int[] hexagonDoubleBounds = computeDoubleBounds(kekuleStructure, hexagon);
 
@@ -651,9 +654,6 @@ public enum LinFanAlgorithm {
 
 	public static List<Edge> computeCircuitCase4(UndirPonderateGraph kekuleStructure, int hexagon) {
 
-		if (indexStructure == 23 && hexagon == 12)
-			System.out.print("");
-
 		int[] hexagonVertices = kekuleStructure.getHexagons()[hexagon];
 
 		/*
@@ -782,7 +782,7 @@ public enum LinFanAlgorithm {
 
 	}
 
-	public static void computeCircuits(UndirPonderateGraph kekuleStructure) {
+	public void computeCircuits(UndirPonderateGraph kekuleStructure) {
 
 		//kekuleStructure.displayDoubleBounds();
 		
@@ -815,51 +815,46 @@ public enum LinFanAlgorithm {
 		}
 	}
 
-	public static Aromaticity computeEnergy(Benzenoid graph) throws IOException {
+	private static void setDoubleBonds(int[][] adjacencyMatrix, int[][] bonds, BitSet structure, int value) {
+		for (int bond = structure.nextSetBit(0); bond >= 0; bond = structure.nextSetBit(bond + 1)) {
+			adjacencyMatrix[bonds[bond][0]][bonds[bond][1]] = value;
+			adjacencyMatrix[bonds[bond][1]][bonds[bond][0]] = value;
+		}
+	}
+
+	public static Aromaticity computeEnergy(Benzenoid molecule) throws IOException {
+		return new LinFanAlgorithm(molecule).computeEnergy();
+	}
 
-		localAromaticity = new double[graph.getNbHexagons()][MAX_CIRCUIT_SIZE];
+	public Aromaticity computeEnergy() throws IOException {
 
 		/*
-		 * Generating all Kekulé's structures
+		 * Enumerating all Kekulé's structures, in a single graph whose double bonds are updated
 		 */
 
-		Model model = new Model("Kekulé Structures");
+		int[][] bonds = KekuleStructureEnumerator.bonds(molecule);
+		int[][] adjacencyMatrix = new int[molecule.getNbCarbons()][molecule.getNbCarbons()];
 
-		BoolVar[] edges = new BoolVar[graph.getNbBonds()];
-
-		for (int i = 0; i < graph.getNbBonds(); i++) {
-			edges[i] = model.boolVar("edge " + (i + 1));
-		}
-
-		for (int i = 0; i < graph.getEdgeLists().size(); i++) {
-			int nbAdjacentEdges = graph.getEdgeLists().get(i).size();
-			BoolVar[] adjacentEdges = new BoolVar[nbAdjacentEdges];
-
-			for (int j = 0; j < nbAdjacentEdges; j++) {
-				adjacentEdges[j] = edges[graph.getEdgeLists().get(i).get(j)];
-			}
-
-			model.sum(adjacentEdges, "=", 1).post();
+		for (int[] line : adjacencyMatrix)
+			Arrays.fill(line, -1);
+		for (int[] bond : bonds) {
+			adjacencyMatrix[bond[0]][bond[1]] = 0;
+			adjacencyMatrix[bond[1]][bond[0]] = 0;
 		}
 
-		model.getSolver().setSearch(new IntStrategy(edges, new FirstFail(model), new IntDomainMin()));
-		Solver solver = model.getSolver();
+		UndirPonderateGraph kekuleStructure = new UndirPonderateGraph(molecule.getNbCarbons(), molecule.getNbBonds(),
+				molecule.getNbHexagons(), molecule.getEdgeLists(), adjacencyMatrix, molecule.getHexagonsString(),
+				molecule.getNodesCoordinates(), molecule.getMatrixCoordinates(), molecule.getMaxIndex());
 
-		while (solver.solve()) {
-			Solution solution = new Solution(model);
-			solution.record();
+		Iterator<BitSet> structures = KekuleStructureEnumerator.iterator(molecule);
+		BitSet previousStructure = new BitSet();
 
-			int[] edgesValues = new int[graph.getNbBonds()];
-
-			for (int j = 0; j < graph.getNbBonds(); j++) {
-				edgesValues[j] = solution.getIntVal(edges[j]);
-			}
-
-			/*
-			 * Computing the curent Kekulé's structure
-			 */
+		while (structures.hasNext()) {
 
-			UndirPonderateGraph kekuleStructure = GraphParser.exportSolutionToPonderateGraph(graph, edgesValues);
+			BitSet structure = structures.next();
+			setDoubleBonds(adjacencyMatrix, bonds, previousStructure, 0);
+			setDoubleBonds(adjacencyMatrix, bonds, structure, 1);
+			previousStructure = structure;
 
 			computeCircuits(kekuleStructure);
 
@@ -873,7 +868,7 @@ public enum LinFanAlgorithm {
 		}
 		energy = energy / (double) (indexStructure);// TODO never used
 
-		return new Aromaticity(graph, localAromaticity, RIType.NORMAL);
+		return new Aromaticity(molecule, localAromaticity, RIType.NORMAL);
 	}
 
 	private static void usage() {
@@ -58,9 +58,9 @@ public enum PerfectMatchingSolver {
 
 		for (int i = 0; i < nbNodes; i++) {
 
-			if (!subGraph.isDisabled(i) && subGraph.getDegrees()[i] > 0) {
+			if (!subGraph.isDisabled(i) && subGraph.getDegree(i) > 0) {
 
-				BoolVar[] adjacentEdges = new BoolVar[subGraph.getDegrees()[i]];
+				BoolVar[] adjacentEdges = new BoolVar[subGraph.getDegree(i)];
 				int index = 0;
 
 				for (int j = 0; j < nbNodes; j++) {
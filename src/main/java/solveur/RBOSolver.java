@@ -1,11 +1,8 @@
 package solveur;
 
-import java.util.ArrayList;
-
 import benzenoid.Benzenoid;
+import benzenoid.CarbonGraph;
 import benzenoid.RBO;
-import benzenoid.SubGraph;
-import solveur.LinAlgorithm.PerfectMatchingType;
 
 public enum RBOSolver {
     ;
@@ -20,21 +17,19 @@ public enum RBOSolver {
 		if (nbKekuleStructures == 0)
 			return new RBO(molecule, statistics, RBO);
 
-		for (int i = 0; i < molecule.getNbCarbons(); i++) {
-			for (int j = (i + 1); j < molecule.getNbCarbons(); j++) {
-				if (molecule.getEdgeMatrix()[i][j] == 1) {
+		EdgeInclusionCounter counter = molecule.getEdgeInclusionCounter();
 
-					ArrayList<Integer> toRemove = new ArrayList<>();
-					toRemove.add(i);
-					toRemove.add(j);
-					SubGraph subGraph = RispoliAlgorithm.removeCircuit(molecule, toRemove, PerfectMatchingType.DET);
-					double nbPerfectMatchings = subGraph.getNbPerfectMatchings();
+		CarbonGraph graph = molecule.getGraph();
 
-					statistics[i][j] += nbPerfectMatchings;
-					statistics[j][i] += nbPerfectMatchings;
+		for (int bond = 0; bond < graph.getNbBonds(); bond++) {
 
-				}
-			}
+			int i = graph.getFirstCarbon(bond);
+			int j = graph.getSecondCarbon(bond);
+
+			double nbPerfectMatchings = counter.getNbPerfectMatchings(i, j).doubleValue();
+
+			statistics[i][j] += nbPerfectMatchings;
+			statistics[j][i] += nbPerfectMatchings;
 		}
 
 		for (int i = 0; i < molecule.getNbCarbons(); i++) {
@@ -15,14 +15,14 @@ import org.chocosolver.solver.variables.UndirectedGraphVar;
 import org.chocosolver.util.objects.graphs.UndirectedGraph;
 import org.chocosolver.util.objects.setDataStructures.SetType;
 import benzenoid.Benzenoid;
+import benzenoid.CarbonGraph;
 import benzenoid.Node;
 import benzenoid.NodeSameLine;
 import benzenoid.OrientedCycle;
 import parsers.GraphParser;
+import utils.CircuitConfigurations;
 import utils.EdgeSet;
 import utils.Interval;
-import utils.SubMolecule;
-import utils.Utils;
 
 public enum RandicMethod {
 	;
@@ -243,63 +243,46 @@ public enum RandicMethod {
 		return orientedCycle;
 	}
 	
-	private static SubMolecule substractCycleAndInterior(Benzenoid molecule, int [][] cycle) {
+	/*
+	 * Carbons of the cycle and of its interior, and the carbons left without neighbor
+	 */
+	private static ArrayList<Integer> cycleAndInterior(Benzenoid molecule, int [][] cycle) {
 		
-		int [][] newGraph = new int [molecule.getNbCarbons()][molecule.getNbCarbons()];
 		int [] vertices = new int [molecule.getNbCarbons()];
-		int [] subGraphVertices = new int[molecule.getNbCarbons()];
 		
-		List<Integer> hexagons = getHexagons(molecule, cycle);
-		
-		for (Integer hexagon : hexagons) {
-			int [] nodes = molecule.getHexagons()[hexagon];
-
-			for (int node : nodes) vertices[node] = 1;
+		for (Integer hexagon : getHexagons(molecule, cycle)) {
+			for (int node : molecule.getHexagons()[hexagon])
+				vertices[node] = 1;
 		}
 		
-		int subGraphNbNodes = 0;
-		
-		int nbEdges = 0;
+		ArrayList<Integer> removedVertices = new ArrayList<>();
 		
 		for (int u = 0; u < molecule.getNbCarbons() ; u++) {
-			if (vertices[u] == 0) {
-				for (int v = (u+1); v < molecule.getNbCarbons() ; v++) {
-					if (vertices[v] == 0) {
-						newGraph[u][v] = molecule.getEdgeMatrix()[u][v];
-						newGraph[v][u] = molecule.getEdgeMatrix()[v][u];
-						
-						if (molecule.getEdgeMatrix()[u][v] == 1)
-							nbEdges ++;
-						
-						if (subGraphVertices[u] == 0) {
-								subGraphVertices[u] = 1;
-								subGraphNbNodes ++;
-						}
-						
-						if (subGraphVertices[v] == 0) {
-								subGraphVertices[v] = 1;
-								subGraphNbNodes ++;
-						}
-					}
-				}
+			
+			boolean isolated = true;
+			for (int i = 0; i < molecule.getGraph().getDegree(u) && isolated ; i++) {
+				if (vertices[molecule.getGraph().getNeighbor(u, i)] == 0)
+					isolated = false;
 			}
+			
+			if (vertices[u] == 1 || isolated)
+				removedVertices.add(u);
 		}
 		
-		return new SubMolecule(subGraphNbNodes, nbEdges, molecule.getNbCarbons(), newGraph);
+		return removedVertices;
 	}
 	
-	private static void treatCycle(Benzenoid molecule, int [][] cycle) {
+	private static void treatCycle(Benzenoid molecule, EdgeInclusionCounter counter, int [][] cycle) {
 		
 		EdgeSet verticalEdges = computeStraightEdges(molecule, cycle);
 		ArrayList<Interval> intervals = (ArrayList<Interval>) computeIntervals(verticalEdges);
 		Collections.sort(intervals);
-		int cycleConfiguration = Utils.identifyCycle(molecule, intervals);
-		int dependantCycleConfiguration = Utils.identifyDependantCycle(molecule, intervals);
+		int cycleConfiguration = CircuitConfigurations.identifyCycle(intervals);
+		int dependantCycleConfiguration = CircuitConfigurations.identifyDependantCycle(intervals);
 		
 		if (cycleConfiguration != -1 || dependantCycleConfiguration != -1) {
 			
-			SubMolecule subMolecule = substractCycleAndInterior(molecule, cycle);
-			int nbPerfectMatchings = PerfectMatchingSolver.computeNbPerfectMatching(subMolecule);
+			int nbPerfectMatchings = counter.getNbPerfectMatchingsWithout(cycleAndInterior(molecule, cycle)).intValue();
 		
 			int MC = 2;
 		
@@ -319,6 +302,8 @@ public enum RandicMethod {
 		
 		globalMatrix = new int[molecule.getNbCarbons()][molecule.getNbCarbons()];
 		
+		EdgeInclusionCounter counter = molecule.getEdgeInclusionCounter();
+		
 		int [] firstVertices = new int [molecule.getNbBonds()];
 		int [] secondVertices = new int [molecule.getNbBonds()];
 		
@@ -327,32 +312,25 @@ public enum RandicMethod {
 		UndirectedGraph GLB = new UndirectedGraph(model, molecule.getNbCarbons(), SetType.BITSET, false);
 		UndirectedGraph GUB = new UndirectedGraph(model, molecule.getNbCarbons(), SetType.BITSET, false);
 
-		for (int i = 0; i < molecule.getNbCarbons(); i++) {
+		CarbonGraph graph = molecule.getGraph();
+
+		for (int i = 0; i < molecule.getNbCarbons(); i++)
 			GUB.addNode(i);
 
-			for (int j = (i + 1); j < molecule.getNbCarbons(); j++) {
-				if (molecule.getEdgeMatrix()[i][j] == 1) {
-					GUB.addEdge(i, j);
-				}
-			}
-		}
+		for (int bond = 0; bond < graph.getNbBonds(); bond++)
+			GUB.addEdge(graph.getFirstCarbon(bond), graph.getSecondCarbon(bond));
 
 		UndirectedGraphVar g = model.graphVar("g", GLB, GUB);
 
 		BoolVar[] boolEdges = new BoolVar[molecule.getNbBonds()];
 			
-		int index = 0;
-		for (int i = 0; i < molecule.getNbCarbons() ; i++) {
-			for (int j = (i+1); j < molecule.getNbCarbons() ; j++) {
-
-				if (molecule.getEdgeMatrix()[i][j] == 1) {
-					boolEdges[index] = model.boolVar("(" + i + "--" + j + ")");
-					model.edgeChanneling(g, boolEdges[index], i, j).post();
-					firstVertices[index] = i;
-					secondVertices[index] = j;
-					index ++;
-				}
-			}
+		for (int bond = 0; bond < graph.getNbBonds(); bond++) {
+			int i = graph.getFirstCarbon(bond);
+			int j = graph.getSecondCarbon(bond);
+			boolEdges[bond] = model.boolVar("(" + i + "--" + j + ")");
+			model.edgeChanneling(g, boolEdges[bond], i, j).post();
+			firstVertices[bond] = i;
+			secondVertices[bond] = j;
 		}
 			
 		model.minDegree(g, 2).post();
@@ -385,7 +363,7 @@ public enum RandicMethod {
 				}
 			}
 			
-			treatCycle(molecule, cycle);
+			treatCycle(molecule, counter, cycle);
 		}
 		
 		int [][] matrixSolution = new int [molecule.getNbCarbons()][molecule.getNbCarbons()];
@@ -2,6 +2,7 @@ package solveur;
 
 import Jama.Matrix;
 import benzenoid.Benzenoid;
+import benzenoid.CarbonGraph;
 import benzenoid.SubGraph;
 import solveur.LinAlgorithm.PerfectMatchingType;
 
@@ -12,29 +13,13 @@ public enum RispoliAlgorithm {
 
     public static SubGraph removeCircuit(Benzenoid molecule, ArrayList<Integer> circuit, PerfectMatchingType type) {
 
-		int nbNodes = molecule.getNbCarbons();
-		int[][] matrix = molecule.getEdgeMatrix();
 		int[] disabledVertices = new int[molecule.getNbCarbons()];
 
 		for (Integer i : circuit) {
 			disabledVertices[i] = 1;
 		}
 
-		int[] degrees = molecule.getDegrees();
-
-		for (int i = 0; i < nbNodes; i++) {
-			if (disabledVertices[i] == 1)
-				degrees[i] = -1;
-			else {
-				degrees[i] = 0;
-				for (int j = 0; j < nbNodes; j++) {
-					if (disabledVertices[j] == 0 && matrix[i][j] == 1)
-						degrees[i]++;
-				}
-			}
-		}
-
-		return new SubGraph(matrix, disabledVertices, degrees, type);
+		return new SubGraph(molecule.getGraph(), disabledVertices, type);
 	}
 
 	private static int findUncheckedCarbon(int[] checkedCarbons) {
@@ -47,6 +32,29 @@ public enum RispoliAlgorithm {
 
 	public static Matrix buildMatrix(SubGraph subGraph) {
 
+		int[][] intMatrix = buildIntMatrix(subGraph);
+
+		if (intMatrix == null)
+			return null;
+
+		double[][] matrix = new double[intMatrix.length][];
+		for (int i = 0; i < intMatrix.length; i++) {
+			matrix[i] = new double[intMatrix[i].length];
+			for (int j = 0; j < intMatrix[i].length; j++)
+				matrix[i][j] = intMatrix[i][j];
+		}
+
+		return new Matrix(matrix);
+	}
+
+	/***
+	 * @return the biadjacency matrix of the enabled carbons (lines : carbons of one color, columns : carbons of
+	 * the other one), null if there is no enabled carbon
+	 */
+	public static int[][] buildIntMatrix(SubGraph subGraph) {
+
+		CarbonGraph graph = subGraph.getGraph();
+
 		ArrayList<Integer> lines = new ArrayList<>();
 		ArrayList<Integer> columns = new ArrayList<>();
 
@@ -61,6 +69,12 @@ public enum RispoliAlgorithm {
 			}
 		}
 
+		/*
+		 * Index of each carbon in lines or in columns
+		 */
+		int[] indexes = new int[subGraph.getNbNodes()];
+		boolean[] isLine = new boolean[subGraph.getNbNodes()];
+
 		int nbCheckedCarbons = 0;
 
 		while (nbCheckedCarbons < nbFinalNodes) {
@@ -71,6 +85,8 @@ public enum RispoliAlgorithm {
 			candidats.add(candidat);
 			checkedCarbons[candidat] = 1;
 			nbCheckedCarbons++;
+			indexes[candidat] = lines.size();
+			isLine[candidat] = true;
 			lines.add(candidat);
 
 			int state = 1;
@@ -80,17 +96,23 @@ public enum RispoliAlgorithm {
 				ArrayList<Integer> newCandidats = new ArrayList<>();
 
 				for (Integer i : candidats) {
-					for (int j = 0; j < subGraph.getNbNodes(); j++) {
+					for (int k = 0; k < graph.getDegree(i); k++) {
 
-						if (subGraph.containsEdge(i, j) && checkedCarbons[j] == 0) {
+						int j = graph.getNeighbor(i, k);
+
+						if (checkedCarbons[j] == 0) {
 
 							checkedCarbons[j] = 1;
 							nbCheckedCarbons++;
 
-							if (state == 0)
+							if (state == 0) {
+								indexes[j] = lines.size();
+								isLine[j] = true;
 								lines.add(j);
-							else
+							} else {
+								indexes[j] = columns.size();
 								columns.add(j);
+							}
 
 							newCandidats.add(j);
 						}
@@ -105,26 +127,24 @@ public enum RispoliAlgorithm {
 			}
 		}
 
-		if (lines.size() != columns.size()) {
-			System.out.print("");
-		}
-
-		double[][] matrix = new double[lines.size()][columns.size()];
+		int[][] matrix = new int[lines.size()][columns.size()];
 
 		for (int i = 0; i < lines.size(); i++) {
-			for (int j = 0; j < columns.size(); j++) {
 
-				int u = lines.get(i);
-				int v = columns.get(j);
+			int u = lines.get(i);
+
+			for (int k = 0; k < graph.getDegree(u); k++) {
+
+				int v = graph.getNeighbor(u, k);
 
-				if (subGraph.containsEdge(u, v)) {
-					matrix[i][j] = 1;
+				if (!subGraph.isDisabled(v) && !isLine[v]) {
+					matrix[i][indexes[v]] = 1;
 				}
 			}
 		}
 
 		if (matrix.length > 0)
-			return new Matrix(matrix);
+			return matrix;
 		else
 			return null;
 	}
@@ -14,6 +14,7 @@ import org.chocosolver.solver.variables.UndirectedGraphVar;
 import org.chocosolver.util.objects.graphs.UndirectedGraph;
 import org.chocosolver.util.objects.setDataStructures.SetType;
 
+import benzenoid.CarbonGraph;
 import benzenoid.SubGraph;
 
 public class CircuitModel extends Model {
@@ -72,13 +73,15 @@ public class CircuitModel extends Model {
 			}
 		}
 
-		for (int i = 0; i < subGraph.getNbNodes(); i++) {
-			for (int j = (i + 1); j < subGraph.getNbNodes(); j++) {
-				if (subGraph.containsEdge(i, j)) {
-					int u = correspondances1[i];
-					int v = correspondances1[j];
-					GUB.addEdge(u, v);
-				}
+		CarbonGraph graph = subGraph.getGraph();
+
+		for (int bond = 0; bond < graph.getNbBonds(); bond++) {
+			int i = graph.getFirstCarbon(bond);
+			int j = graph.getSecondCarbon(bond);
+			if (!subGraph.isDisabled(i) && !subGraph.isDisabled(j)) {
+				int u = correspondances1[i];
+				int v = correspondances1[j];
+				GUB.addEdge(u, v);
 			}
 		}
 
@@ -91,23 +94,24 @@ public class CircuitModel extends Model {
 
 		int nbNodes = subGraph.getNbEnabledNodes();
 
+		CarbonGraph graph = subGraph.getGraph();
+
 		int edgeIndex = 0;
-		for (int i = 0; i < subGraph.getNbNodes(); i++) {
-			if (!subGraph.isDisabled(i)) {
+		for (int bond = 0; bond < graph.getNbBonds(); bond++) {
 
-				for (int j = (i + 1); j < subGraph.getNbNodes(); j++) {
-					if (!subGraph.isDisabled(j) && subGraph.containsEdge(i, j)) {
+			int i = graph.getFirstCarbon(bond);
+			int j = graph.getSecondCarbon(bond);
 
-						int u = correspondances1[i];
-						int v = correspondances1[j];
+			if (!subGraph.isDisabled(i) && !subGraph.isDisabled(j)) {
 
-						boolEdges[edgeIndex] = this.boolVar("edge[" + i + "][" + j + "]");
-						this.edgeChanneling(graphVariable, boolEdges[edgeIndex], u, v).post();
-						firstVertices[edgeIndex] = i;
-						secondVertices[edgeIndex] = j;
-						edgeIndex++;
-					}
-				}
+				int u = correspondances1[i];
+				int v = correspondances1[j];
+
+				boolEdges[edgeIndex] = this.boolVar("edge[" + i + "][" + j + "]");
+				this.edgeChanneling(graphVariable, boolEdges[edgeIndex], u, v).post();
+				firstVertices[edgeIndex] = i;
+				secondVertices[edgeIndex] = j;
+				edgeIndex++;
 			}
 		}
 
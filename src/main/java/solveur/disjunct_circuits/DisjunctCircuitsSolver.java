@@ -22,6 +22,7 @@ import org.chocosolver.util.objects.setDataStructures.SetType;
 import benzenoid.Benzenoid;
 import benzenoid.Node;
 import benzenoid.NodeSameLine;
+import benzenoid.CarbonGraph;
 import benzenoid.SubGraph;
 import parsers.GraphParser;
 import solveur.LinAlgorithm.PerfectMatchingType;
@@ -29,21 +30,30 @@ import utils.Couple;
 import utils.EdgeSet;
 import utils.Interval;
 
-public enum DisjunctCircuitsSolver {
-	;
+/***
+ * Enumeration of the sets of disjunct circuits of a benzenoid. The state of the backtracking is held by an
+ * instance, so that several benzenoids can be processed concurrently.
+ */
+public class DisjunctCircuitsSolver {
 
-	private static int depth;
-	private static int[] indexes;
+	private final Benzenoid molecule;
 
-	private static CircuitModel[] models;
+	private int depth;
+	private int[] indexes;
 
-	private static ArrayList<ArrayList<Integer>> curentCycles;
+	private CircuitModel[] models;
 
-	private static Stack<ArrayList<Integer>> deletedHexagons;
+	private ArrayList<ArrayList<Integer>> curentCycles;
 
-	private static SubGraph subGraph;
+	private Stack<ArrayList<Integer>> deletedHexagons;
 
-	private static double nbKekuleStructures;
+	private SubGraph subGraph;
+
+	private double nbKekuleStructures;
+
+	public DisjunctCircuitsSolver(Benzenoid molecule) {
+		this.molecule = molecule;
+	}
 
 	private static void treatCycle(Benzenoid molecule, SubGraph subGraph, ArrayList<Integer> cycle) {
 
@@ -253,7 +263,7 @@ public enum DisjunctCircuitsSolver {
 		return hexagons;
 	}
 
-	private static void displayCycle(Benzenoid molecule) {
+	private void displayCycle() {
 
 		System.out.print("{ ");
 
@@ -280,7 +290,7 @@ public enum DisjunctCircuitsSolver {
 	}
 
 	@SuppressWarnings("unchecked")
-	private static void removeHexagons(Benzenoid molecule, ArrayList<Integer> cycle) {
+	private void removeHexagons(ArrayList<Integer> cycle) {
 		EdgeSet verticalEdges = computeStraightEdges(molecule, cycle);
 		ArrayList<Interval> intervals = computeIntervals(molecule, subGraph, cycle,
 				verticalEdges);
@@ -323,8 +333,7 @@ public enum DisjunctCircuitsSolver {
 	}
 
 	@SuppressWarnings("unchecked")
-	public static ArrayList<ArrayList<ArrayList<Integer>>> computeDisjunctCycles(Benzenoid molecule,
-                                                                                 ArrayList<Integer> mainCycle, int maxNbCycles) {
+	public ArrayList<ArrayList<ArrayList<Integer>>> computeDisjunctCycles(ArrayList<Integer> mainCycle, int maxNbCycles) {
 
 		/*
 		 * Initializing structures
@@ -341,9 +350,9 @@ public enum DisjunctCircuitsSolver {
 
 		subGraph = buildSubGraph(molecule);
 
-		removeHexagons(molecule, mainCycle);
+		removeHexagons(mainCycle);
 
-		nbKekuleStructures = SubGraph.nbKekuleStructures(subGraph);
+		nbKekuleStructures = countKekuleStructures();
 		models = new CircuitModel[maxNbCycles];
 
 		/*
@@ -372,7 +381,7 @@ public enum DisjunctCircuitsSolver {
 
 			else {
 
-				nbKekuleStructures = SubGraph.nbKekuleStructures(subGraph);
+				nbKekuleStructures = countKekuleStructures();
 				if (nbKekuleStructures == 0) {
 					backtrack();
 					if (depth < 0)
@@ -387,9 +396,9 @@ public enum DisjunctCircuitsSolver {
 					ArrayList<ArrayList<Integer>> disjunctCycle = (ArrayList<ArrayList<Integer>>) curentCycles.clone();
 					disjunctCycles.add(disjunctCycle);
 
-					displayCycle(molecule);
+					displayCycle();
 
-					removeHexagons(molecule, chosenCycle);
+					removeHexagons(chosenCycle);
 				}
 			}
 		}
@@ -397,7 +406,23 @@ public enum DisjunctCircuitsSolver {
 		return disjunctCycles;
 	}
 
-	public static void backtrack() {
+	/*
+	 * Number of Kekule structures of the subgraph, taken from the edge inclusion counter of the molecule
+	 */
+	private double countKekuleStructures() {
+
+		if (subGraph.getNbDisabledHexagons() == subGraph.getNbTotalHexagons())
+			return 0;
+
+		ArrayList<Integer> disabledCarbons = new ArrayList<>();
+		for (int i = 0; i < subGraph.getNbNodes(); i++)
+			if (subGraph.isDisabled(i))
+				disabledCarbons.add(i);
+
+		return molecule.getEdgeInclusionCounter().getNbPerfectMatchingsWithout(disabledCarbons).doubleValue();
+	}
+
+	public void backtrack() {
 
 		ArrayList<Integer> hexagonsToRestore = deletedHexagons.pop();
 
@@ -411,7 +436,7 @@ public enum DisjunctCircuitsSolver {
 
 		curentCycles.remove(curentCycles.size() - 1);
 
-		nbKekuleStructures = SubGraph.nbKekuleStructures(subGraph);
+		nbKekuleStructures = countKekuleStructures();
 	}
 
 	public static List<Integer> getHexagons(Benzenoid molecule, ArrayList<Integer> cycle,
@@ -540,13 +565,15 @@ public enum DisjunctCircuitsSolver {
 			}
 		}
 
-		for (int i = 0; i < subGraph.getNbNodes(); i++) {
-			for (int j = (i + 1); j < subGraph.getNbNodes(); j++) {
-				if (subGraph.containsEdge(i, j)) {
-					int u = correspondances1[i];
-					int v = correspondances1[j];
-					GUB.addEdge(u, v);
-				}
+		CarbonGraph graph = subGraph.getGraph();
+
+		for (int bond = 0; bond < graph.getNbBonds(); bond++) {
+			int i = graph.getFirstCarbon(bond);
+			int j = graph.getSecondCarbon(bond);
+			if (!subGraph.isDisabled(i) && !subGraph.isDisabled(j)) {
+				int u = correspondances1[i];
+				int v = correspondances1[j];
+				GUB.addEdge(u, v);
 			}
 		}
 
@@ -554,22 +581,21 @@ public enum DisjunctCircuitsSolver {
 		BoolVar[] boolEdges = new BoolVar[nbEdges];
 
 		int edgeIndex = 0;
-		for (int i = 0; i < subGraph.getNbNodes(); i++) {
-			if (!subGraph.isDisabled(i)) {
+		for (int bond = 0; bond < graph.getNbBonds(); bond++) {
 
-				for (int j = (i + 1); j < subGraph.getNbNodes(); j++) {
-					if (!subGraph.isDisabled(j) && subGraph.containsEdge(i, j)) {
+			int i = graph.getFirstCarbon(bond);
+			int j = graph.getSecondCarbon(bond);
 
-						int u = correspondances1[i];
-						int v = correspondances1[j];
+			if (!subGraph.isDisabled(i) && !subGraph.isDisabled(j)) {
 
-						boolEdges[edgeIndex] = model.boolVar("edge[" + i + "][" + j + "]");
-						model.edgeChanneling(g, boolEdges[edgeIndex], u, v).post();
-						firstVertices[edgeIndex] = i;
-						secondVertices[edgeIndex] = j;
-						edgeIndex++;
-					}
-				}
+				int u = correspondances1[i];
+				int v = correspondances1[j];
+
+				boolEdges[edgeIndex] = model.boolVar("edge[" + i + "][" + j + "]");
+				model.edgeChanneling(g, boolEdges[edgeIndex], u, v).post();
+				firstVertices[edgeIndex] = i;
+				secondVertices[edgeIndex] = j;
+				edgeIndex++;
 			}
 		}
 
@@ -639,16 +665,7 @@ public enum DisjunctCircuitsSolver {
 
 	public static SubGraph buildSubGraph(Benzenoid molecule) {
 
-		int[][] matrix = molecule.getEdgeMatrix();
-		int[] disabledVertices = new int[molecule.getNbCarbons()];
-
-		int[] degrees = new int[molecule.getNbCarbons()];
-		for (int i = 0; i < molecule.getNbCarbons(); i++)
-			degrees[i] = molecule.getDegrees()[i];
-
-		PerfectMatchingType type = PerfectMatchingType.DET;
-
-		return new SubGraph(molecule, matrix, disabledVertices, degrees);
+		return new SubGraph(molecule, new int[molecule.getNbCarbons()]);
 	}
 
 	public static void solve(Benzenoid molecule, PerfectMatchingType type) throws IOException {
@@ -661,32 +678,25 @@ public enum DisjunctCircuitsSolver {
 		UndirectedGraph GLB = new UndirectedGraph(model, molecule.getNbCarbons(), SetType.BITSET, false);
 		UndirectedGraph GUB = new UndirectedGraph(model, molecule.getNbCarbons(), SetType.BITSET, false);
 
-		for (int i = 0; i < molecule.getNbCarbons(); i++) {
+		CarbonGraph graph = molecule.getGraph();
+
+		for (int i = 0; i < molecule.getNbCarbons(); i++)
 			GUB.addNode(i);
 
-			for (int j = (i + 1); j < molecule.getNbCarbons(); j++) {
-				if (molecule.getEdgeMatrix()[i][j] == 1) {
-					GUB.addEdge(i, j);
-				}
-			}
-		}
+		for (int bond = 0; bond < graph.getNbBonds(); bond++)
+			GUB.addEdge(graph.getFirstCarbon(bond), graph.getSecondCarbon(bond));
 
 		UndirectedGraphVar g = model.graphVar("g", GLB, GUB);
 
 		BoolVar[] boolEdges = new BoolVar[molecule.getNbBonds()];
 
-		int index = 0;
-		for (int i = 0; i < molecule.getNbCarbons(); i++) {
-			for (int j = (i + 1); j < molecule.getNbCarbons(); j++) {
-
-				if (molecule.getEdgeMatrix()[i][j] == 1) {
-					boolEdges[index] = model.boolVar("(" + i + "--" + j + ")");
-					model.edgeChanneling(g, boolEdges[index], i, j).post();
-					firstVertices[index] = i;
-					secondVertices[index] = j;
-					index++;
-				}
-			}
+		for (int bond = 0; bond < graph.getNbBonds(); bond++) {
+			int i = graph.getFirstCarbon(bond);
+			int j = graph.getSecondCarbon(bond);
+			boolEdges[bond] = model.boolVar("(" + i + "--" + j + ")");
+			model.edgeChanneling(g, boolEdges[bond], i, j).post();
+			firstVertices[bond] = i;
+			secondVertices[bond] = j;
 		}
 
 		model.minDegree(g, 2).post();
@@ -724,8 +734,8 @@ public enum DisjunctCircuitsSolver {
 				}
 			}
 
-			ArrayList<ArrayList<ArrayList<Integer>>> disjunctCircuits = computeDisjunctCycles(molecule, cycle,
-					maxCycleSize);
+			ArrayList<ArrayList<ArrayList<Integer>>> disjunctCircuits = new DisjunctCircuitsSolver(molecule)
+					.computeDisjunctCycles(cycle, maxCycleSize);
 			circuits.addAll(disjunctCircuits);
 		}
 	}
@@ -60,8 +60,9 @@ public class MoleculeFilter {
 					
 				int candidat = candidats.get(0);
 					
-				for (int i = 0; i < molecule.getNbCarbons() ; i++) {
-					if (molecule.getEdgeMatrix()[candidat][i] == 1 && checkedNodes[i] == 0) {
+				for (int k = 0; k < molecule.getGraph().getDegree(candidat); k++) {
+					int i = molecule.getGraph().getNeighbor(candidat, k);
+					if (checkedNodes[i] == 0) {
 							
 						checkedNodes[i] = 1;
 						nbNeighbors ++;
@@ -0,0 +1,435 @@
+package utils;
+
+import solveur.LinAlgorithm;
+
+import java.util.ArrayList;
+import java.util.Collections;
+import java.util.HashMap;
+import java.util.Map;
+
+/***
+ * Configurations of the conjugated circuits of sizes 6 to 26 known by the methods of Lin and of Randic. A
+ * configuration is identified by the intervals of its circuit (sorted by line, then by x) : the size of each
+ * interval and the offset of its left end from the one of the first interval. Configurations 0 to 132 are
+ * the cycles, 133 to 138 the dependant cycles.
+ */
+public enum CircuitConfigurations {
+	;
+
+	public static final int NB_CYCLE_CONFIGURATIONS = 133;
+
+	private static final int MAX_NB_INTERVALS = 5;
+
+	/*
+	 * Size and offset of each interval
+	 */
+	private static final int[][] INTERVALS = {
+			/*   0 */ { 2, 0 },
+			/*   1 */ { 4, 0 },
+			/*   2 */ { 2, 0, 2, 1 },
+			/*   3 */ { 2, 0, 2, -1 },
+			/*   4 */ { 6, 0 },
+			/*   5 */ { 2, 0, 2, -1, 2, -2 },
+			/*   6 */ { 2, 0, 2, 1, 2, 2 },
+			/*   7 */ { 4, 0, 2, 3 },
+			/*   8 */ { 4, 0, 2, -1 },
+			/*   9 */ { 2, 0, 4, -3 },
+			/*  10 */ { 2, 0, 4, 1 },
+			/*  11 */ { 2, 0, 2, -1, 2, 0 },
+			/*  12 */ { 2, 0, 2, 1, 2, 0 },
+			/*  13 */ { 4, 0, 4, -1 },
+			/*  14 */ { 4, 0, 4, 1 },
+			/*  15 */ { 2, 0, 4, -1, 2, 0 },
+			/*  16 */ { 8, 0 },
+			/*  17 */ { 2, 0, 2, 1, 2, 2, 2, 3 },
+			/*  18 */ { 2, 0, 2, -1, 2, -2, 2, -3 },
+			/*  19 */ { 2, 0, 6, -5 },
+			/*  20 */ { 2, 0, 6, 1 },
+			/*  21 */ { 6, 0, 2, 5 },
+			/*  22 */ { 6, 0, 2, -1 },
+			/*  23 */ { 2, 0, 2, 1, 2, 2, 2, 1 },
+			/*  24 */ { 2, 0, 2, -1, 2, -2, 2, -1 },
+			/*  25 */ { 2, 0, 2, 1, 2, 0, 2, -1 },
+			/*  26 */ { 2, 0, 2, -1, 2, 0, 2, 1 },
+			/*  27 */ { 4, 0, 2, 3, 2, 4 },
+			/*  28 */ { 4, 0, 2, -1, 2, -2 },
+			/*  29 */ { 2, 0, 2, -1, 4, -4 },
+			/*  30 */ { 2, 0, 2, 1, 4, 2 },
+			/*  31 */ { 2, 0, 4, 1, 2, 0 },
+			/*  32 */ { 2, 0, 4, -3, 2, 0 },
+			/*  33 */ { 4, 0, 4, -1, 2, 2 },
+			/*  34 */ { 4, 0, 4, 1, 2, 0 },
+			/*  35 */ { 2, 0, 4, 1, 4, 0 },
+			/*  36 */ { 2, 0, 4, -3, 4, -2 },
+			/*  37 */ { 2, 0, 6, -1, 2, 0 },
+			/*  38 */ { 2, 0, 6, -3, 2, 0 },
+			/*  39 */ { 4, 0, 6, -3 },
+			/*  40 */ { 4, 0, 6, 1 },
+			/*  41 */ { 6, 0, 4, 3 },
+			/*  42 */ { 6, 0, 4, -1 },
+			/*  43 */ { 2, 0, 2, -1, 4, -2, 2, -1 },
+			/*  44 */ { 2, 0, 2, 1, 4, 0, 2, 1 },
+			/*  45 */ { 2, 0, 4, -1, 2, 0, 2, 1 },
+			/*  46 */ { 2, 0, 4, -1, 2, 0, 2, -1 },
+			/*  47 */ { 2, 0, 4, -3, 4, -4 },
+			/*  48 */ { 2, 0, 4, 1, 4, 2 },
+			/*  49 */ { 4, 0, 4, -1, 2, -2 },
+			/*  50 */ { 4, 0, 4, 1, 2, 4 },
+			/*  51 */ { 4, 0, 4, -1, 4, 0 },
+			/*  52 */ { 4, 0, 4, 1, 4, 0 },
+			/*  53 */ { 2, 0, 6, -1, 4, 0 },
+			/*  54 */ { 2, 0, 6, -3, 4, -2 },
+			/*  55 */ { 4, 0, 6, -1, 2, 2 },
+			/*  56 */ { 4, 0, 6, -1, 2, 0 },
+			/*  57 */ { 4, 0, 6, -1, 4, 0 },
+			/*  58 */ { 6, 0, 6, -1 },
+			/*  59 */ { 6, 0, 6, 1 },
+			/*  60 */ { 4, 0, 4, 1, 4, 2 },
+			/*  61 */ { 4, 0, 4, -1, 4, -2 },
+			/*  62 */ { 2, 0, 4, -1, 4, 0, 2, 1 },
+			/*  63 */ { 2, 0, 4, -1, 4, -2, 2, -1 },
+			/*  64 */ { 4, 0, 8, -1, 4, 0 },
+			/*  65 */ { 4, 0, 8, -3, 4, 0 },
+			/*  66 */ { 2, 0, 4, -3, 6, -4, 4, -3 },
+			/*  67 */ { 2, 0, 4, 1, 6, 0, 4, 1 },
+			/*  68 */ { 4, 0, 6, -1, 4, 0, 2, 3 },
+			/*  69 */ { 4, 0, 6, -1, 4, 0, 2, -1 },
+			/*  70 */ { 4, 0, 6, -1, 6, 0, 2, 3 },
+			/*  71 */ { 4, 0, 6, -1, 6, -2, 2, -1 },
+			/*  72 */ { 4, 0, 6, -1, 4, 0, 4, 1 },
+			/*  73 */ { 4, 0, 6, -1, 4, 0, 4, -1 },
+			/*  74 */ { 4, 0, 8, -1, 6, 0 },
+			/*  75 */ { 4, 0, 8, -3, 6, -2 },
+			/*  76 */ { 6, 0, 8, -1, 4, 0 },
+			/*  77 */ { 6, 0, 8, -1, 4, 2 },
+			/*  78 */ { 2, 0, 6, -3, 6, -4, 4, -3 },
+			/*  79 */ { 2, 0, 6, -1, 6, 0, 4, 1 },
+			/*  80 */ { 4, 0, 4, -1, 6, -2, 4, -1 },
+			/*  81 */ { 4, 0, 4, 1, 6, 0, 4, 1 },
+			/*  82 */ { 4, 0, 10, -3, 4, 0 },
+			/*  83 */ { 2, 0, 4, -3, 6, -4, 4, -3, 2, -4 },
+			/*  84 */ { 2, 0, 4, 1, 6, 0, 4, 1, 2, 4 },
+			/*  85 */ { 4, 0, 6, -1, 4, 0, 2, -1, 2, 3 },
+			/*  86 */ { 2, 0, 2, 4, 4, 1, 6, 0, 4, 1 },
+			/*  87 */ { 2, 0, 4, -3, 8, -4, 4, -3 },
+			/*  88 */ { 2, 0, 4, 1, 8, -2, 4, 1 },
+			/*  89 */ { 4, 0, 8, -1, 4, 0, 2, 3 },
+			/*  90 */ { 4, 0, 8, -3, 4, 0, 2, -1 },
+			/*  91 */ { 4, 0, 10, -3, 6, 0 },
+			/*  92 */ { 4, 0, 10, -3, 6, -2 },
+			/*  93 */ { 6, 0, 10, -3, 4, 0 },
+			/*  94 */ { 6, 0, 10, -1, 4, 2 },
+			/*  95 */ { 2, 0, 4, 1, 6, 0, 4, 1, 4, 2 },
+			/*  96 */ { 2, 0, 4, -3, 6, -4, 4, -3, 4, -4 },
+			/*  97 */ { 2, 0, 4, 1, 6, 0, 6, 1, 2, 4 },
+			/*  98 */ { 2, 0, 4, -3, 6, -4, 6, -5, 2, -4 },
+			/*  99 */ { 2, 0, 6, -3, 6, -4, 4, -3, 2, -4 },
+			/* 100 */ { 2, 0, 6, -1, 6, 0, 4, 1, 2, 4 },
+			/* 101 */ { 4, 0, 4, -1, 6, -2, 4, -1, 2, -2 },
+			/* 102 */ { 4, 0, 4, 1, 6, 0, 4, 1, 2, 4 },
+			/* 103 */ { 2, 0, 2, 4, 6, -1, 6, 0, 4, 1 },
+			/* 104 */ { 2, 0, 2, 4, 6, 1, 6, 0, 4, 1 },
+			/* 105 */ { 4, 0, 6, -1, 6, -2, 2, -1, 2, 3 },
+			/* 106 */ { 4, 0, 6, -1, 6, 0, 2, -1, 2, 3 },
+			/* 107 */ { 2, 0, 4, 1, 8, -2, 6, -1 },
+			/* 108 */ { 2, 0, 4, -3, 8, -4, 6, -3 },
+			/* 109 */ { 6, 0, 8, -1, 4, 2, 2, 1 },
+			/* 110 */ { 6, 0, 8, -1, 4, 0, 2, 3 },
+			/* 111 */ { 4, 0, 8, -1, 4, 0, 4, 1 },
+			/* 112 */ { 4, 0, 8, -3, 4, 0, 4, -1 },
+			/* 113 */ { 4, 0, 4, -1, 8, -2, 4, -1 },
+			/* 114 */ { 4, 0, 4, 1, 8, -2, 4, 1 },
+			/* 115 */ { 6, 0, 10, -3, 6, -2 },
+			/* 116 */ { 6, 0, 10, -1, 6, 2 },
+			/* 117 */ { 4, 0, 4, -1, 6, -2, 4, -1, 4, -2 },
+			/* 118 */ { 4, 0, 4, 1, 6, 0, 4, 1, 4, 2 },
+			/* 119 */ { 2, 0, 6, -3, 6, -4, 6, -5, 2, -4 },
+			/* 120 */ { 2, 0, 6, -1, 6, 0, 6, 1, 2, 4 },
+			/* 121 */ { 2, 0, 2, 4, 8, -1, 6, 0, 4, 1 },
+			/* 122 */ { 4, 0, 6, -1, 8, -2, 2, -1, 2, 3 },
+			/* 123 */ { 6, 0, 8, -1, 4, 0, 4, 1 },
+			/* 124 */ { 6, 0, 8, -1, 4, 2, 4, 1 },
+			/* 125 */ { 4, 0, 4, -1, 8, -2, 6, -1 },
+			/* 126 */ { 4, 0, 4, 1, 8, -2, 6, -1 },
+			/* 127 */ { 4, 0, 10, -1, 4, 0 },
+			/* 128 */ { 4, 0, 10, -5, 4, 0 },
+			/* 129 */ { 2, 0, 2, -1, 4, -4, 6, -5, 4, -4 },
+			/* 130 */ { 2, 0, 2, 1, 4, 2, 6, 1, 4, 2 },
+			/* 131 */ { 4, 0, 6, -1, 4, 0, 2, -1, 2, -2 },
+			/* 132 */ { 4, 0, 6, -1, 4, 0, 2, 3, 2, 4 },
+			/* 133 */ { 2, 0, 4, 1, 2, 4 },
+			/* 134 */ { 2, 0, 4, -3, 2, -4 },
+			/* 135 */ { 4, 0, 4, 3 },
+			/* 136 */ { 4, 0, 4, -3 },
+			/* 137 */ { 4, 0, 2, -1, 2, 3 },
+			/* 138 */ { 2, 0, 2, 4, 4, 1 },
+	};
+
+	/*
+	 * Configurations having an interval on the same line as the previous one (configuration, interval)
+	 */
+	private static final int[][] SAME_LINE = { { 85, 4 }, { 86, 1 }, { 103, 1 }, { 104, 1 }, { 105, 4 },
+			{ 106, 4 }, { 121, 1 }, { 122, 4 }, { 137, 2 } };
+
+	/*
+	 * Contributions of the cycles to their hexagons (hexagon, size of the circuit, energy)
+	 */
+	private static final int[][] CONTRIBUTIONS = {
+			/*   0 */ { 0, 0, 2 },
+			/*   1 */ { 0, 1, 1, 1, 1, 1 },
+			/*   2 */ { 0, 1, 1, 1, 1, 1 },
+			/*   3 */ { 0, 1, 1, 1, 1, 1 },
+			/*   4 */ { 0, 2, 1, 2, 2, 1 },
+			/*   5 */ { 0, 2, 1, 2, 2, 1 },
+			/*   6 */ { 0, 2, 1, 2, 2, 1 },
+			/*   7 */ { 1, 2, 1 },
+			/*   8 */ { 0, 2, 1 },
+			/*   9 */ { 2, 2, 1 },
+			/*  10 */ { 1, 2, 1 },
+			/*  11 */ { 1, 2, 1 },
+			/*  12 */ { 1, 2, 1 },
+			/*  13 */ { 0, 2, 1, 3, 2, 1 },
+			/*  14 */ { 1, 2, 1, 2, 2, 1 },
+			/*  15 */ { 1, 2, 1, 2, 2, 1 },
+			/*  16 */ { 0, 3, 1, 3, 3, 1 },
+			/*  17 */ { 0, 3, 1, 3, 3, 1 },
+			/*  18 */ { 0, 3, 1, 3, 3, 1 },
+			/*  19 */ { 3, 3, 1 },
+			/*  20 */ { 1, 3, 1 },
+			/*  21 */ { 2, 3, 1 },
+			/*  22 */ { 0, 3, 1 },
+			/*  23 */ { 2, 3, 1 },
+			/*  24 */ { 2, 3, 1 },
+			/*  25 */ { 1, 3, 1 },
+			/*  26 */ { 1, 3, 1 },
+			/*  27 */ { 1, 3, 1 },
+			/*  28 */ { 0, 3, 1 },
+			/*  29 */ { 3, 3, 1 },
+			/*  30 */ { 2, 3, 1 },
+			/*  31 */ { 1, 3, 1 },
+			/*  32 */ { 2, 3, 1 },
+			/*  33 */ { 3, 3, 1 },
+			/*  34 */ { 2, 3, 1 },
+			/*  35 */ { 1, 3, 1 },
+			/*  36 */ { 2, 3, 1 },
+			/*  37 */ { 2, 3, 1 },
+			/*  38 */ { 2, 3, 1 },
+			/*  39 */ { 4, 3, 1 },
+			/*  40 */ { 2, 3, 1 },
+			/*  41 */ { 2, 3, 1 },
+			/*  42 */ { 0, 3, 1 },
+			/*  43 */ { 2, 3, 1 },
+			/*  44 */ { 3, 3, 1 },
+			/*  45 */ { 1, 3, 1 },
+			/*  46 */ { 2, 3, 1 },
+			/*  47 */ { 4, 3, 1 },
+			/*  48 */ { 3, 3, 1 },
+			/*  49 */ { 0, 3, 1 },
+			/*  50 */ { 1, 3, 1 },
+			/*  51 */ { 3, 3, 1 },
+			/*  52 */ { 2, 3, 1 },
+			/*  53 */ { 2, 3, 1 },
+			/*  54 */ { 2, 3, 1 },
+			/*  55 */ { 3, 3, 1 },
+			/*  56 */ { 3, 3, 1 },
+			/*  57 */ { 3, 2, -3, 3, 3, -13 },
+			/*  58 */ { 0, 3, 1, 5, 3, 1 },
+			/*  59 */ { 2, 3, 1, 3, 3, 1 },
+			/*  60 */ { 1, 3, 1, 4, 3, 1 },
+			/*  61 */ { 0, 3, 1, 5, 3, 1 },
+			/*  62 */ { 1, 3, 1, 4, 3, 1 },
+			/*  63 */ { 2, 3, 1, 3, 3, 1 },
+			/*  64 */ { 3, 3, -5 },
+			/*  65 */ { 4, 3, -5 },
+			/*  66 */ { 4, 3, -5 },
+			/*  67 */ { 4, 3, -5 },
+			/*  68 */ { 3, 3, -5 },
+			/*  69 */ { 3, 3, -5 },
+			/*  70 */ { 3, 3, -1 },
+			/*  71 */ { 3, 3, -1 },
+			/*  72 */ { 3, 3, -1 },
+			/*  73 */ { 3, 3, -1 },
+			/*  74 */ { 3, 3, -1 },
+			/*  75 */ { 4, 3, -1 },
+			/*  76 */ { 4, 3, -1 },
+			/*  77 */ { 5, 3, -1 },
+			/*  78 */ { 5, 3, -1 },
+			/*  79 */ { 5, 3, -1 },
+			/*  80 */ { 5, 3, -1 },
+			/*  81 */ { 5, 3, -1 },
+			/*  82 */ { 4, 3, -2 },
+			/*  83 */ { 4, 3, -2 },
+			/*  84 */ { 4, 3, -2 },
+			/*  85 */ { 3, 3, -1 },
+			/*  86 */ { 5, 3, -1 },
+			/*  87 */ { 4, 3, -1 },
+			/*  88 */ { 5, 3, -1 },
+			/*  89 */ { 3, 3, -1 },
+			/*  90 */ { 4, 3, -1 },
+			/*  91 */ { 4, 3, -1 },
+			/*  92 */ { 4, 3, -1 },
+			/*  93 */ { 5, 3, -1 },
+			/*  94 */ { 5, 3, -1 },
+			/*  95 */ { 4, 3, -1 },
+			/*  96 */ { 4, 3, -1 },
+			/*  97 */ { 4, 3, -1 },
+			/*  98 */ { 4, 3, -1 },
+			/*  99 */ { 5, 3, -1 },
+			/* 100 */ { 5, 3, -1 },
+			/* 101 */ { 5, 3, -1 },
+			/* 102 */ { 5, 3, -1 },
+			/* 103 */ { 6, 3, -1 },
+			/* 104 */ { 6, 3, -1 },
+			/* 105 */ { 3, 3, -1 },
+			/* 106 */ { 3, 3, -1 },
+			/* 107 */ { 5, 3, -1 },
+			/* 108 */ { 4, 3, -1 },
+			/* 109 */ { 5, 3, -1 },
+			/* 110 */ { 4, 3, -1 },
+			/* 111 */ { 3, 3, -1 },
+			/* 112 */ { 4, 3, -1 },
+			/* 113 */ { 5, 3, -1 },
+			/* 114 */ { 6, 3, -1 },
+			/* 115 */ { 5, 3, -1 },
+			/* 116 */ { 5, 3, -1 },
+			/* 117 */ { 5, 3, -1 },
+			/* 118 */ { 5, 3, -1 },
+			/* 119 */ { 5, 3, -1 },
+			/* 120 */ { 5, 3, -1 },
+			/* 121 */ { 7, 3, -1 },
+			/* 122 */ { 3, 3, -1 },
+			/* 123 */ { 4, 3, -1 },
+			/* 124 */ { 5, 3, -1 },
+			/* 125 */ { 5, 3, -1 },
+			/* 126 */ { 6, 3, -1 },
+			/* 127 */ { 3, 3, -1 },
+			/* 128 */ { 5, 3, -1 },
+			/* 129 */ { 5, 3, -1 },
+			/* 130 */ { 5, 3, -1 },
+			/* 131 */ { 3, 3, -1 },
+			/* 132 */ { 3, 3, -1 },
+	};
+
+	private static final Map<Long, Integer> CONFIGURATIONS = buildConfigurations();
+	private static final int[] SAME_LINE_INTERVALS = buildSameLineIntervals();
+	private static final int[][][] ENERGIES = buildEnergies();
+
+	/***
+	 * Returns the cycle configuration of the sorted intervals, -1 if they are not one of them
+	 */
+	public static int identifyCycle(ArrayList<Interval> intervals) {
+		int configuration = identify(intervals);
+		return configuration < NB_CYCLE_CONFIGURATIONS ? configuration : -1;
+	}
+
+	/***
+	 * Returns the dependant cycle configuration of the sorted intervals, -1 if they are not one of them
+	 */
+	public static int identifyDependantCycle(ArrayList<Interval> intervals) {
+		int configuration = identify(intervals);
+		return configuration >= NB_CYCLE_CONFIGURATIONS ? configuration : -1;
+	}
+
+	/***
+	 * Returns the contribution of a circuit of the given size (0 for 6, ..., 3 for 18) of the cycle
+	 * configuration to its hexagon of the given index
+	 */
+	public static int getEnergy(int configuration, int hexagon, int size) {
+		return ENERGIES[configuration][hexagon][size];
+	}
+
+	public static int getNbHexagons(int configuration) {
+		return ENERGIES[configuration].length;
+	}
+
+	private static int identify(ArrayList<Interval> intervals) {
+
+		long signature = signature(intervals);
+		if (signature == -1)
+			return -1;
+
+		Integer configuration = CONFIGURATIONS.get(signature);
+		if (configuration == null)
+			return -1;
+
+		int sameLineInterval = SAME_LINE_INTERVALS[configuration];
+		if (sameLineInterval != 0 && !LinAlgorithm.intervalsOnSameLine(intervals.get(sameLineInterval - 1),
+				intervals.get(sameLineInterval)))
+			return -1;
+
+		return configuration;
+	}
+
+	/*
+	 * Number of intervals on 3 bits, then size and offset + 16 of each interval on 5 bits, -1 if they do not fit
+	 */
+	private static long signature(ArrayList<Interval> intervals) {
+
+		if (intervals.isEmpty() || intervals.size() > MAX_NB_INTERVALS)
+			return -1;
+
+		int x = intervals.get(0).x1();
+		long signature = intervals.size();
+
+		for (int i = 0; i < intervals.size(); i++) {
+			Interval interval = intervals.get(i);
+			int size = interval.size();
+			int offset = interval.x1() - x + 16;
+			if (size > 31 || offset < 0 || offset > 31)
+				return -1;
+			signature |= (long) (size << 5 | offset) << (3 + 10 * i);
+		}
+
+		return signature;
+	}
+
+	private static long signature(int[] intervals) {
+
+		long signature = intervals.length / 2;
+
+		for (int i = 0; i < intervals.length / 2; i++)
+			signature |= (long) (intervals[2 * i] << 5 | (intervals[2 * i + 1] + 16)) << (3 + 10 * i);
+
+		return signature;
+	}
+
+	private static Map<Long, Integer> buildConfigurations() {
+
+		Map<Long, Integer> configurations = new HashMap<>();
+
+		for (int configuration = 0; configuration < INTERVALS.length; configuration++)
+			configurations.put(signature(INTERVALS[configuration]), configuration);
+
+		return Collections.unmodifiableMap(configurations);
+	}
+
+	private static int[] buildSameLineIntervals() {
+
+		int[] sameLineIntervals = new int[INTERVALS.length];
+
+		for (int[] sameLine : SAME_LINE)
+			sameLineIntervals[sameLine[0]] = sameLine[1];
+
+		return sameLineIntervals;
+	}
+
+	private static int[][][] buildEnergies() {
+
+		int[][][] energies = new int[NB_CYCLE_CONFIGURATIONS][][];
+
+		for (int configuration = 0; configuration < NB_CYCLE_CONFIGURATIONS; configuration++) {
+
+			int[] contributions = CONTRIBUTIONS[configuration];
+
+			int nbHexagons = 0;
+			for (int i = 0; i < contributions.length; i += 3)
+				nbHexagons = Math.max(nbHexagons, contributions[i] + 1);
+
+			energies[configuration] = new int[nbHexagons][4];
+			for (int i = 0; i < contributions.length; i += 3)
+				energies[configuration][contributions[i]][contributions[i + 1]] = contributions[i + 2];
+		}
+
+		return energies;
+	}
+}
@@ -1,9 +1,8 @@
 package view.collections;
 
-import javafx.concurrent.Service;
-import javafx.concurrent.Task;
 import javafx.geometry.Insets;
 import javafx.geometry.Pos;
+import javafx.scene.Group;
 import javafx.scene.control.*;
 import javafx.scene.image.Image;
 import javafx.scene.image.ImageView;
@@ -14,15 +13,14 @@ import javafx.scene.text.FontWeight;
 import benzenoid.Benzenoid;
 import benzenoid.BenzenoidParser;
 import benzenoid.sort.MoleculeComparator;
-import solveur.Aromaticity;
 import solveur.Aromaticity.RIType;
-import solveur.LinFanAlgorithm;
 import utils.Utils;
 import view.groups.*;
 
 import java.io.File;
 import java.io.IOException;
 import java.util.ArrayList;
+import java.util.BitSet;
 import java.util.Collections;
 
 public class BenzenoidCollectionPane extends Tab {
@@ -64,7 +62,7 @@ public class BenzenoidCollectionPane extends Tab {
     private ArrayList<Benzenoid> molecules;
     private ArrayList<Benzenoid> selectedMolecules;
 
-    private FlowPane flowPane;
+    private BenzenoidGrid grid;
 
     private BenzenoidPane hoveringPane;
 
@@ -250,173 +248,34 @@ public class BenzenoidCollectionPane extends Tab {
 
         gridPane.getRowConstraints().addAll(row1, row2, row3, row4);
 
-        ScrollPane scrollPane = new ScrollPane();
-
-        scrollPane.setFitToHeight(true);
-        scrollPane.setFitToWidth(true);
-
-        flowPane = new FlowPane();
-
-        flowPane.getChildren().clear();
-
-        flowPane.setHgap(20);
-        flowPane.setVgap(20);
-        flowPane.setPadding(new Insets(10));
-
         benzenoidPanes.clear();
 
-        BenzenoidCollectionPane collectionPane = this;
-
-        final Service<Void> calculateService = new Service<>() {
-
-@Override
-protected Task<Void> createTask() {
-return new Task<>() {
-
-@Override
-protected Void call() {
-
-    int index = 0;
-
-    for (int i = 0; i < molecules.size(); i++) {
-
-        Benzenoid molecule = molecules.get(i);
-        DisplayType displayType = displayTypes.get(i);
-
-        MoleculeGroup group;
-        String description = molecule.getDescription();
-        if (description == null) {
-          description = "";
-        }
-
-        try {
-
-            switch (displayType) {
-                case RE_LIN: {
-                    Aromaticity aromaticity = molecule.getAromaticity().get();
-
-                    double[][] circuits = aromaticity.getLocalCircuits();
-
-                    for (int j = 0; j < circuits.length; j++) {
-                        System.out.print("H" + j + " : ");
-                        for (int k = 0; k < circuits[j].length; k++) {
-                            System.out.print(circuits[j][k] + " ");
-                        }
-                        System.out.println();
-                    }
-
-                    for (int j = 0; j < molecule.getNbHexagons(); j++) {
-                        System.out.println("H_" + j + " = " + aromaticity.getLocalAromaticity()[j]);
-                    }
-
-                    group = new AromaticityGroup(molecule, aromaticity);
-                }
-                break;
-
-                case RE_LIN_FAN: {
-                    Aromaticity aromaticity = LinFanAlgorithm.computeEnergy(molecule);
-                    aromaticity.normalize(molecule.getNbKekuleStructures());
-
-                    double[][] circuits = aromaticity.getLocalCircuits();
-
-                    for (int j = 0; j < circuits.length; j++) {
-                        System.out.print("H" + j + " : ");
-                        for (int k = 0; k < circuits[j].length; k++) {
-                            System.out.print(circuits[j][k] + " ");
-                        }
-                        System.out.println();
-                    }
-
-                    for (int j = 0; j < molecule.getNbHexagons(); j++) {
-                        System.out.println("H_" + j + " = " + aromaticity.getLocalAromaticity()[j]);
-                    }
-
-                    group = new AromaticityGroup(molecule, aromaticity);
-                }
-                break;
-
-								case NICS:
-									group = new NicsGroup(molecule);
-                  break;
-
-
-								case CLAR_COVER:
-									group = new ClarCoverGroup(molecule, molecule.getClarCoverSolution());
-									break;
-
-								case KEKULE:
-									int[][] kekuleStructure = molecule.getKekuleStructures().get(index);
-									group = new KekuleStructureGroup(molecule, kekuleStructure);
-									description += "structure " + (index + 1);
-									break;
-
-								case CLAR_COVER_FIXED:
-									group = new ClarCoverFixedBondGroup(molecule, molecule.getClarCoverSolution(),
-											molecule.getFixedBonds(), molecule.getFixedCircles());
-									break;
-
-								case RBO:
-									group = new RBOGroup(molecule);
-									break;
-
-								case RADICALAR:
-									group = new RadicalarClarCoverGroup(molecule);
-									break;
-
-								case IMS2D1A_R:
-									group = new IMS2D1AGroup(molecule,"R");
-									description += "R map";
-									break;
-								case IMS2D1A_U:
-									group = new IMS2D1AGroup(molecule,"U");
-									description += "U map";
-									break;
-
-                case CLAR_RE:
-                    group = new ClarCoverREGroup(molecule, molecule.resonanceEnergyClar());
-                    break;
-
-								default:
-									group = new MoleculeGroup(molecule);
-									break;
-								}
-
-                                BenzenoidPane benzenoidPane = new BenzenoidPane(collectionPane, null, group,
-                                        description, molecule.getVerticesSolutions(), index, false, molecule.hasCheckedDatabase());
-                                benzenoidPanes.add(benzenoidPane);
-
-                            } catch (IOException e) {
-                                e.printStackTrace();
-                            }
-
-                            index++;
-                        }
-
-                        return null;
-                    }
+        for (int i = 0; i < molecules.size(); i++) {
 
-                };
-            }
-        };
-
-        calculateService.stateProperty().addListener((observable, oldValue, newValue) -> {
-            switch (newValue) {
-                case FAILED:
-                case CANCELLED:
-                case SUCCEEDED:
-                    flowPane.getChildren().clear();
-                    for (BenzenoidPane pane : benzenoidPanes) {
-                        flowPane.getChildren().add(pane);
-                    }
-                    break;
+            Benzenoid molecule = molecules.get(i);
+            DisplayType displayType = displayTypes.get(i);
 
-                default:
-                    break;
+            String description = molecule.getDescription();
+            if (description == null) {
+              description = "";
             }
 
-        });
+            if (displayType == DisplayType.KEKULE)
+                description += "structure " + (i + 1);
+            else if (displayType == DisplayType.IMS2D1A_R)
+                description += "R map";
+            else if (displayType == DisplayType.IMS2D1A_U)
+                description += "U map";
+
+            int structureIndex = i;
+            BenzenoidPane benzenoidPane = new BenzenoidPane(this, null,
+                    () -> buildDraw(molecule, displayType, structureIndex), description,
+                    molecule.getVerticesSolutions(), i, false, molecule.hasCheckedDatabase());
+            benzenoidPanes.add(benzenoidPane);
+        }
 
-        calculateService.start();
+        grid = new BenzenoidGrid();
+        grid.setPanes(benzenoidPanes);
 
         gridPane.setPrefWidth(1400);
 
@@ -426,13 +285,9 @@ protected Void call() {
 
         gridPane.setPrefWidth(gridPane.getPrefWidth());
 
-        scrollPane.setFitToHeight(true);
-        scrollPane.setFitToWidth(true);
-
-        scrollPane.setPrefWidth(1400);
+        grid.setPrefWidth(1400);
 
-        scrollPane.setContent(flowPane);
-        gridPane.add(scrollPane, 0, 0, 1, 4);
+        gridPane.add(grid, 0, 0, 1, 4);
 
 		borderPane = new BorderPane();
 		selectedArea = null;
@@ -689,12 +544,67 @@ protected Void call() {
         this.lock = lock;
     }
 
+    /***
+     * Builds the drawing of a benzenoid, in the background when its pane is shown (the overlays are only computed,
+     * or requested to the database, for the visible benzenoids)
+     */
+    private static Group buildDraw(Benzenoid molecule, DisplayType displayType, int index) {
+
+        try {
+
+            switch (displayType) {
+                case RE_LIN:
+                    return new AromaticityGroup(molecule, molecule.getAromaticity().get());
+
+                case RE_LIN_FAN:
+                    return new AromaticityGroup(molecule, molecule.getLinFanAromaticity());
+
+                case NICS:
+                    return new NicsGroup(molecule);
+
+                case CLAR_COVER:
+                    return new ClarCoverGroup(molecule, molecule.getClarCoverSolution());
+
+                case KEKULE:
+                    BitSet kekuleStructure = molecule.getKekuleStructures().get(index);
+                    return new KekuleStructureGroup(molecule, kekuleStructure);
+
+                case CLAR_COVER_FIXED:
+                    return new ClarCoverFixedBondGroup(molecule, molecule.getClarCoverSolution(),
+                            molecule.getFixedBonds(), molecule.getFixedCircles());
+
+                case RBO:
+                    return new RBOGroup(molecule);
+
+                case RADICALAR:
+                    return new RadicalarClarCoverGroup(molecule);
+
+                case IMS2D1A_R:
+                    return new IMS2D1AGroup(molecule, "R");
+
+                case IMS2D1A_U:
+                    return new IMS2D1AGroup(molecule, "U");
+
+                case CLAR_RE:
+                    return new ClarCoverREGroup(molecule, molecule.resonanceEnergyClar());
+
+                default:
+                    return new MoleculeGroup(molecule);
+            }
+
+        } catch (IOException | RuntimeException e) {
+            e.printStackTrace();
+            return new MoleculeGroup(molecule);
+        }
+    }
+
     public void refreshColorScales() {
         for (int i = 0; i < benzenoidPanes.size(); i++) {
             DisplayType displayType = displayTypes.get(i);
             BenzenoidPane benzenoidPane = benzenoidPanes.get(i);
 
-            if (displayType == DisplayType.RE_LIN || displayType == DisplayType.RE_LIN_FAN) {
+            if (benzenoidPane.isShown()
+                    && (displayType == DisplayType.RE_LIN || displayType == DisplayType.RE_LIN_FAN)) {
                 AromaticityGroup aromaticityGroup = (AromaticityGroup) benzenoidPane.getBenzenoidDraw();
                 aromaticityGroup.refreshColors();
             }
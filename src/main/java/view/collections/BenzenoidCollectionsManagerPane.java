@@ -1,6 +1,7 @@
 package view.collections;
 
 import application.BenzenoidApplication;
+import application.UpdateBus;
 import classifier.Irregularity;
 import collection_operations.CollectionOperation;
 import collection_operations.CollectionOperationSet;
@@ -33,6 +34,7 @@ import spectrums.IRSpectra;
 import spectrums.Parameter;
 import spectrums.ResultLogFile;
 import spectrums.SpectrumsComputer;
+import utils.Couple;
 import utils.Utils;
 import view.collections.BenzenoidCollectionPane.DisplayType;
 import view.ir_spectra.ComputedPlotPane;
@@ -69,25 +71,24 @@ public class BenzenoidCollectionsManagerPane extends BorderPane {
 
 	private Menu moveItemMenu;
 
+	/*
+	 * Key of the lines written by logLater()
+	 */
+	private final Object consoleLines = new Object();
+
 	/*
 	 * Threads
 	 */
 
 	private Service<Void> calculateServiceLin;
 	private boolean linRunning;
-	private int indexLin;
-	private int lineIndexLin;
 
 	private Service<Void> calculateServiceClarCover;
 	private boolean clarRunning;
-	private int indexClar;
-	private int lineIndexClar;
 
 
 	private Service<Void> calculateServiceRBO;
 	private boolean rboRunning;
-	private int indexRBO;
-	private int lineIndexRBO;
 
 
 	public BenzenoidCollectionsManagerPane(BenzenoidApplication parent) {
@@ -494,27 +495,18 @@ public class BenzenoidCollectionsManagerPane extends BorderPane {
 
 						ArrayList<BenzenoidPane> panes = new ArrayList<>(selectedBenzenoidPanes);
 
-						indexLin = 0;
 						int size = panes.size();
+						ConsoleProgress progress = new ConsoleProgress(BenzenoidCollectionsManagerPane.this, currentPane, size);
 
 						System.out.println("Computing resonance energy of " + size + " benzenoids.");
-						log("RE Lin (" + size + " benzenoids)", true);
+						logLater("RE Lin (" + size + " benzenoids)", true);
 
 						for (BenzenoidPane benzenoidPane : panes) {
 							if (linRunning) {
 								Benzenoid molecule = currentPane.getMolecule(benzenoidPane.getIndex());
 								molecule.getAromaticity();
 								benzenoidSetPane.addBenzenoid(molecule, DisplayType.RE_LIN);
-								indexLin++;
-								System.out.println(indexLin + " / " + size);
-
-								Platform.runLater(() -> {
-									if (indexLin == 1) {
-										log(indexLin + " / " + size, false);
-										lineIndexLin = currentPane.getConsole().getNbLines() - 1;
-									} else
-										changeLineConsole(indexLin + " / " + size, lineIndexLin);
-								});
+								progress.increment();
 							}
 						}
 
@@ -536,6 +528,7 @@ public class BenzenoidCollectionsManagerPane extends BorderPane {
 			case CANCELLED:
 				case SUCCEEDED:
 					// Utils.alert("No selected benzenoid");
+				UpdateBus.getShared().flush();
 				benzenoidSetPane.refresh();
 				tabPane.getSelectionModel().clearAndSelect(0);
 				addBenzenoidSetPane(benzenoidSetPane);
@@ -583,11 +576,11 @@ public class BenzenoidCollectionsManagerPane extends BorderPane {
 
 						ArrayList<BenzenoidPane> panes = new ArrayList<>(selectedBenzenoidPanes);
 
-						indexClar = 0;
 						int size = panes.size();
+						ConsoleProgress progress = new ConsoleProgress(BenzenoidCollectionsManagerPane.this, currentPane, size);
 
 						System.out.println("Computing Clar Cover of " + size + "benzenoids");
-						log("Clar Cover (" + size + "benzenoids)", true);
+						logLater("Clar Cover (" + size + "benzenoids)", true);
 
 						for (BenzenoidPane benzenoidPane : panes) {
 							if (clarRunning) {
@@ -600,16 +593,7 @@ public class BenzenoidCollectionsManagerPane extends BorderPane {
 									molecule.setClarCoverSolution(clarCoverSolution);
 									benzenoidSetPane.addBenzenoid(molecule, DisplayType.CLAR_COVER);
 								}
-								indexClar++;
-								System.out.println(indexClar + " / " + size);
-
-								Platform.runLater(() -> {
-									if (indexClar == 1) {
-										log(indexClar + " / " + size, false);
-										lineIndexClar = currentPane.getConsole().getNbLines() - 1;
-									} else
-										changeLineConsole(indexClar + " / " + size, lineIndexClar);
-								});
+								progress.increment();
 
 							}
 						}
@@ -633,6 +617,7 @@ public class BenzenoidCollectionsManagerPane extends BorderPane {
 
 				case SUCCEEDED:
 					clarRunning = false;
+				UpdateBus.getShared().flush();
 				benzenoidSetPane.refresh();
 				tabPane.getSelectionModel().clearAndSelect(0);
 				addBenzenoidSetPane(benzenoidSetPane);
@@ -679,27 +664,18 @@ public class BenzenoidCollectionsManagerPane extends BorderPane {
 
 						ArrayList<BenzenoidPane> panes = new ArrayList<>(selectedBenzenoidPanes);
 
-						indexRBO = 0;
 						int size = panes.size();
+						ConsoleProgress progress = new ConsoleProgress(BenzenoidCollectionsManagerPane.this, currentPane, size);
 
 						System.out.println("Computing Clar Cover of " + size + "benzenoids");
-						log("Clar cover (" + size + " benzenoids)", true);
+						logLater("Clar cover (" + size + " benzenoids)", true);
 
 						for (BenzenoidPane benzenoidPane : panes) {
 							if (rboRunning) {
 								Benzenoid molecule = currentPane.getMolecule(benzenoidPane.getIndex());
 								molecule.getRBO();
 								benzenoidSetPane.addBenzenoid(molecule, DisplayType.RBO);
-								indexRBO++;
-								System.out.println(indexRBO + " / " + size);
-
-								Platform.runLater(() -> {
-									if (indexRBO == 1) {
-										log(indexRBO + " / " + size, true);
-										lineIndexRBO = currentPane.getConsole().getNbLines() - 1;
-									} else
-										changeLineConsole(indexRBO + " / " + size, lineIndexRBO);
-								});
+								progress.increment();
 
 							}
 						}
@@ -723,6 +699,7 @@ public class BenzenoidCollectionsManagerPane extends BorderPane {
 
 				case SUCCEEDED:
 					rboRunning = false;
+				UpdateBus.getShared().flush();
 				benzenoidSetPane.refresh();
 				tabPane.getSelectionModel().clearAndSelect(0);
 				addBenzenoidSetPane(benzenoidSetPane);
@@ -1180,6 +1157,14 @@ public class BenzenoidCollectionsManagerPane extends BorderPane {
 		}
 	}
 
+	/***
+	 * Same as log(line, displayDate), from any thread : the lines are written in bulk by the UpdateBus
+	 */
+	public void logLater(String line, boolean displayDate) {
+		UpdateBus.getShared().add(consoleLines, new Couple<>(line, displayDate),
+				lines -> lines.forEach(consoleLine -> log(consoleLine.getX(), consoleLine.getY())));
+	}
+
 	public void changeLineConsole(String line, int lineIndex) {
 		for (BenzenoidCollectionPane pane : benzenoidSetPanes)
 			pane.getConsole().changeLine(line, lineIndex);
@@ -0,0 +1,144 @@
+package view.collections;
+
+import javafx.geometry.Orientation;
+import javafx.scene.control.ScrollBar;
+import javafx.scene.layout.Pane;
+import javafx.scene.layout.Region;
+import javafx.scene.shape.Rectangle;
+
+import java.util.ArrayList;
+import java.util.Collections;
+import java.util.IdentityHashMap;
+import java.util.List;
+import java.util.Map;
+
+/***
+ * Grid of the benzenoid panes of a collection, in cells of the same size. Only the panes of the visible rows
+ * are in the scene graph : a pane builds its drawing when it enters the viewport and releases it when it leaves
+ * it (see BenzenoidPane.show() and hide()), so the cost of a scroll or a refresh does not depend on the size of
+ * the collection.
+ */
+public class BenzenoidGrid extends Region {
+
+	static final double CELL_WIDTH = 400;
+	static final double CELL_HEIGHT = 260;
+	private static final double GAP = 20;
+	private static final double PADDING = 10;
+
+	/*
+	 * The cells are placed by the grid, not autosized by the viewport
+	 */
+	private final Pane viewport = new Pane() {
+		@Override
+		protected void layoutChildren() {
+		}
+	};
+	private final ScrollBar scrollBar = new ScrollBar();
+
+	private List<BenzenoidPane> panes = Collections.emptyList();
+	private final Map<BenzenoidPane, Boolean> shownPanes = new IdentityHashMap<>();
+
+	public BenzenoidGrid() {
+
+		Rectangle clip = new Rectangle();
+		clip.widthProperty().bind(viewport.widthProperty());
+		clip.heightProperty().bind(viewport.heightProperty());
+		viewport.setClip(clip);
+
+		scrollBar.setOrientation(Orientation.VERTICAL);
+		scrollBar.setUnitIncrement(CELL_HEIGHT / 4);
+		scrollBar.valueProperty().addListener((observable, oldValue, newValue) -> requestLayout());
+
+		viewport.setOnScroll(e -> scrollBar.setValue(
+				Math.max(scrollBar.getMin(), Math.min(scrollBar.getMax(), scrollBar.getValue() - e.getDeltaY()))));
+
+		getChildren().addAll(viewport, scrollBar);
+	}
+
+	/***
+	 * Displays the panes, from the top of the grid
+	 */
+	public void setPanes(List<BenzenoidPane> panes) {
+
+		for (BenzenoidPane pane : shownPanes.keySet())
+			pane.hide();
+		shownPanes.clear();
+		viewport.getChildren().clear();
+
+		this.panes = panes;
+		scrollBar.setValue(0);
+		requestLayout();
+	}
+
+	/***
+	 * @return the panes currently in the viewport
+	 */
+	public List<BenzenoidPane> getShownPanes() {
+		return new ArrayList<>(shownPanes.keySet());
+	}
+
+	@Override
+	protected void layoutChildren() {
+
+		double width = getWidth();
+		double height = getHeight();
+		double scrollBarWidth = scrollBar.prefWidth(-1);
+		double viewportWidth = Math.max(0, width - scrollBarWidth);
+
+		viewport.resizeRelocate(0, 0, viewportWidth, height);
+		scrollBar.resizeRelocate(viewportWidth, 0, scrollBarWidth, height);
+
+		int nbColumns = Math.max(1, (int) ((viewportWidth - 2 * PADDING + GAP) / (CELL_WIDTH + GAP)));
+		int nbRows = (panes.size() + nbColumns - 1) / nbColumns;
+		double rowHeight = CELL_HEIGHT + GAP;
+		double contentHeight = 2 * PADDING + nbRows * rowHeight;
+
+		double maxOffset = Math.max(0, contentHeight - height);
+		scrollBar.setMax(maxOffset);
+		scrollBar.setVisibleAmount(contentHeight > 0 ? maxOffset * height / contentHeight : 0);
+		scrollBar.setBlockIncrement(Math.max(rowHeight, height - rowHeight));
+		if (scrollBar.getValue() > maxOffset)
+			scrollBar.setValue(maxOffset);
+
+		double offset = scrollBar.getValue();
+		int firstRow = Math.max(0, (int) ((offset - PADDING) / rowHeight));
+		int lastRow = Math.min(nbRows - 1, (int) ((offset + height - PADDING) / rowHeight));
+		int first = Math.min(panes.size(), firstRow * nbColumns);
+		int last = Math.min(panes.size(), (lastRow + 1) * nbColumns);
+
+		Map<BenzenoidPane, Boolean> visiblePanes = new IdentityHashMap<>();
+		for (int i = first; i < last; i++)
+			visiblePanes.put(panes.get(i), true);
+
+		for (BenzenoidPane pane : shownPanes.keySet())
+			if (!visiblePanes.containsKey(pane))
+				pane.hide();
+
+		List<BenzenoidPane> children = new ArrayList<>(last - first);
+		for (int i = first; i < last; i++) {
+
+			BenzenoidPane pane = panes.get(i);
+			pane.show();
+			children.add(pane);
+
+			int row = i / nbColumns;
+			int column = i % nbColumns;
+			pane.resizeRelocate(PADDING + column * (CELL_WIDTH + GAP), PADDING + row * rowHeight - offset,
+					CELL_WIDTH, CELL_HEIGHT);
+		}
+
+		viewport.getChildren().setAll(children);
+		shownPanes.clear();
+		shownPanes.putAll(visiblePanes);
+	}
+
+	@Override
+	protected double computePrefWidth(double height) {
+		return 2 * PADDING + 3 * CELL_WIDTH + 2 * GAP + scrollBar.prefWidth(-1);
+	}
+
+	@Override
+	protected double computePrefHeight(double width) {
+		return 2 * PADDING + 2 * CELL_HEIGHT + GAP;
+	}
+}
@@ -1,19 +1,22 @@
 package view.collections;
 
+import application.UpdateBus;
 import benzenoid.Benzenoid;
-import javafx.application.Platform;
+import javafx.concurrent.Task;
 import javafx.embed.swing.SwingFXUtils;
 import javafx.geometry.Insets;
 import javafx.geometry.Pos;
 import javafx.scene.Group;
 import javafx.scene.SnapshotParameters;
 import javafx.scene.control.Label;
+import javafx.scene.control.Tooltip;
 import javafx.scene.image.Image;
 import javafx.scene.image.ImageView;
 import javafx.scene.image.WritableImage;
 import javafx.scene.input.MouseButton;
 import javafx.scene.layout.BorderPane;
 import javafx.scene.layout.HBox;
+import javafx.scene.transform.Scale;
 import solution.BenzenoidSolution;
 import solution.ClarCoverSolution;
 import solveur.Aromaticity;
@@ -27,6 +30,7 @@ import java.io.BufferedWriter;
 import java.io.File;
 import java.io.FileWriter;
 import java.io.IOException;
+import java.lang.ref.SoftReference;
 import java.math.BigDecimal;
 import java.math.RoundingMode;
 import java.nio.charset.StandardCharsets;
@@ -34,8 +38,16 @@ import java.util.ArrayList;
 import java.util.List;
 import java.util.Locale;
 import java.util.Optional;
+import java.util.concurrent.ExecutorService;
+import java.util.concurrent.Executors;
+import java.util.function.Supplier;
 import java.util.regex.Pattern;
 
+/***
+ * Benzenoid of a collection. The pane is light until it is shown by the BenzenoidGrid : its drawing and its
+ * description are only built while it is in the viewport. The drawings may need computations or requests to the
+ * database, so they are built in the background, a placeholder being shown meanwhile.
+ */
 public class BenzenoidPane extends BorderPane implements Comparable<BenzenoidPane> {
 
 	private final BenzenoidCollectionPane benzenoidSetPane;
@@ -43,7 +55,17 @@ public class BenzenoidPane extends BorderPane implements Comparable<BenzenoidPan
 	@SuppressWarnings("unused")
 	private final String solution;
 
-	private final Group benzenoidDraw;
+	private final Supplier<Group> drawBuilder;
+	private Group benzenoidDraw;
+	private boolean shown;
+	private Task<Group> drawTask;
+
+	/*
+	 * Last drawing built, kept (unless the memory is needed) for the next time the pane is shown or exported
+	 */
+	private SoftReference<Group> builtDraw = new SoftReference<>(null);
+	private Scale drawScale;
+	private RIType riType;
 	private String name;
 
 	private String description;
@@ -64,8 +86,23 @@ public class BenzenoidPane extends BorderPane implements Comparable<BenzenoidPan
 	private int[] hexagonsCorrespondances;
 
 	private HBox descriptionBox;
-
-	public BenzenoidPane(BenzenoidCollectionPane parameterPane, String solution, Group benzenoidDraw,
+	private boolean hasDatabaseIcon;
+
+	private static final Object DATABASE_ICONS = new Object();
+
+	private static final ExecutorService drawBuilders = Executors.newFixedThreadPool(
+			Runtime.getRuntime().availableProcessors(), runnable -> {
+				Thread thread = new Thread(runnable, "benzenoid-draws");
+				thread.setDaemon(true);
+				return thread;
+			});
+	private static Image databaseIcon;
+
+	/***
+	 * @param drawBuilder builds the drawing of the benzenoid (on a background thread, or on the JavaFX thread for
+	 * the exports of panes never shown)
+	 */
+	public BenzenoidPane(BenzenoidCollectionPane parameterPane, String solution, Supplier<Group> drawBuilder,
 			String description, ArrayList<Integer> verticesSolution, int index, boolean isDrawMolecule, boolean withDatabaseLabel) {
 
 		super();
@@ -73,7 +110,7 @@ public class BenzenoidPane extends BorderPane implements Comparable<BenzenoidPan
 		this.benzenoidSetPane = parameterPane;
 
 		this.solution = solution;
-		this.benzenoidDraw = benzenoidDraw;
+		this.drawBuilder = drawBuilder;
 		this.name = description;
 
 		if (name == null)
@@ -85,7 +122,21 @@ public class BenzenoidPane extends BorderPane implements Comparable<BenzenoidPan
 
 		this.setStyle("-fx-border-color: black;" + "-fx-border-width: 4;" + "-fx-border-radius: 10px;");
 
-		addItems();
+		this.setOnMouseClicked(e -> {
+
+			if (e.getButton() == MouseButton.PRIMARY) {
+				if (!isSelected)
+					select();
+
+				else
+					unselect();
+			}
+
+			else if (e.getButton() == MouseButton.SECONDARY) {
+				System.out.println("Click droit");
+			}
+
+		});
 
 		this.verticesSolution = verticesSolution;
 		this.isDrawMolecule = isDrawMolecule;
@@ -106,16 +157,7 @@ public class BenzenoidPane extends BorderPane implements Comparable<BenzenoidPan
 			}
 		});
     
-    if (withDatabaseLabel){
-    
-      Platform.runLater(() -> {
-                                    Image image = new Image("/resources/graphics/icon-database.png");
-                                    ImageView imgView = new ImageView(image);
-                                    imgView.resize(30, 30);
-                                    this.getDescriptionBox().getChildren().add(imgView);
-
-                                  });
-    }
+		hasDatabaseIcon = withDatabaseLabel;
 	}
 
 
@@ -123,7 +165,15 @@ public class BenzenoidPane extends BorderPane implements Comparable<BenzenoidPan
 		return index;
 	}
 
-	private void addItems() {
+	/***
+	 * Builds the description, and the drawing in the background, when the pane enters the viewport
+	 */
+	void show() {
+
+		if (shown)
+			return;
+
+		shown = true;
 
 		Label descriptionLabel = new Label(name);
 		descriptionLabel.setMaxWidth(Double.MAX_VALUE);
@@ -132,29 +182,109 @@ public class BenzenoidPane extends BorderPane implements Comparable<BenzenoidPan
 		descriptionBox = new HBox(3.0);
 
 		descriptionBox.getChildren().add(descriptionLabel);
+		if (hasDatabaseIcon)
+			descriptionBox.getChildren().add(buildDatabaseIcon());
 
 		BorderPane.setAlignment(descriptionBox, Pos.CENTER_LEFT);
 		this.setRight(descriptionBox);
-		this.setCenter(benzenoidDraw);
-		BorderPane.setMargin(benzenoidDraw, new Insets(10.0));
 
-		this.setOnMouseClicked(e -> {
+		Group draw = builtDraw.get();
+		if (draw != null) {
+			attachDraw(draw);
+			return;
+		}
 
-			if (e.getButton() == MouseButton.PRIMARY) {
-				if (!isSelected)
-					select();
+		this.setCenter(new Label("Loading..."));
 
-				else
-					unselect();
+		Task<Group> task = new Task<>() {
+			@Override
+			protected Group call() {
+				return drawBuilder.get();
 			}
+		};
 
-			else if (e.getButton() == MouseButton.SECONDARY) {
-				System.out.println("Click droit");
+		task.setOnSucceeded(e -> {
+			if (drawTask == task) {
+				drawTask = null;
+				builtDraw = new SoftReference<>(task.getValue());
+				attachDraw(task.getValue());
 			}
+		});
 
+		task.setOnFailed(e -> {
+			if (drawTask == task) {
+				drawTask = null;
+				task.getException().printStackTrace();
+				setCenter(new Label("No drawing"));
+			}
 		});
 
-		this.setMinSize(300, 200);
+		drawTask = task;
+		drawBuilders.execute(task);
+	}
+
+	/*
+	 * The drawings larger than the cell are scaled down by a parent group, the drawing itself is not transformed
+	 * (for the exports)
+	 */
+	private void attachDraw(Group draw) {
+
+		benzenoidDraw = draw;
+
+		if (benzenoidDraw instanceof AromaticityGroup) {
+			if (riType != null)
+				((AromaticityGroup) benzenoidDraw).refreshRIType(riType);
+			else
+				((AromaticityGroup) benzenoidDraw).refreshColors();
+		}
+
+		drawScale = new Scale(1, 1);
+		Group scaledDraw = new Group(benzenoidDraw);
+		scaledDraw.getTransforms().add(drawScale);
+
+		this.setCenter(new Group(scaledDraw));
+		BorderPane.setMargin(getCenter(), new Insets(10.0));
+	}
+
+	/***
+	 * Releases the drawing and the description, when the pane leaves the viewport (the drawing stays in memory
+	 * while it is not needed)
+	 */
+	void hide() {
+
+		if (drawTask != null) {
+			drawTask.cancel(false);
+			drawTask = null;
+		}
+
+		shown = false;
+		setCenter(null);
+		setRight(null);
+		benzenoidDraw = null;
+		drawScale = null;
+		descriptionBox = null;
+	}
+
+	@Override
+	protected void layoutChildren() {
+
+		if (benzenoidDraw != null) {
+
+			double width = getWidth() - snappedLeftInset() - snappedRightInset() - 20.0
+					- descriptionBox.prefWidth(-1);
+			double height = getHeight() - snappedTopInset() - snappedBottomInset() - 20.0;
+			double drawWidth = benzenoidDraw.getLayoutBounds().getWidth();
+			double drawHeight = benzenoidDraw.getLayoutBounds().getHeight();
+
+			double scale = 1.0;
+			if (drawWidth > 0 && drawHeight > 0 && width > 0 && height > 0)
+				scale = Math.min(1.0, Math.min(width / drawWidth, height / drawHeight));
+
+			drawScale.setX(scale);
+			drawScale.setY(scale);
+		}
+
+		super.layoutChildren();
 	}
 
 	public void unselect() {
@@ -369,8 +499,10 @@ public class BenzenoidPane extends BorderPane implements Comparable<BenzenoidPan
 	}
 
 	public void exportAsPNG(File file) {
-		WritableImage wi = benzenoidDraw.snapshot(new SnapshotParameters(),
-				new WritableImage((int) this.getWidth(), (int) this.getHeight()));
+		Group draw = getBenzenoidDraw();
+		WritableImage wi = draw.snapshot(new SnapshotParameters(),
+				new WritableImage((int) Math.ceil(draw.getLayoutBounds().getWidth()),
+						(int) Math.ceil(draw.getLayoutBounds().getHeight())));
 		BufferedImage awtImage = new BufferedImage((int) wi.getWidth(), (int) wi.getHeight(),
 				BufferedImage.TYPE_INT_RGB);
 
@@ -382,11 +514,33 @@ public class BenzenoidPane extends BorderPane implements Comparable<BenzenoidPan
 		}
 	}
 
+	/***
+	 * @return the drawing shown by the pane, else the last drawing built if it is still in memory, else a new
+	 * drawing
+	 */
 	public Group getBenzenoidDraw() {
-		return benzenoidDraw;
+
+		if (benzenoidDraw != null)
+			return benzenoidDraw;
+
+		Group draw = builtDraw.get();
+		if (draw == null) {
+			draw = drawBuilder.get();
+			builtDraw = new SoftReference<>(draw);
+		}
+
+		return draw;
+	}
+
+	/***
+	 * @return whether the drawing of the pane is currently built
+	 */
+	public boolean isShown() {
+		return benzenoidDraw != null;
 	}
 
 	public void refreshRIType(RIType type) {
+		riType = type;
 		if (benzenoidDraw instanceof AromaticityGroup) {
 			((AromaticityGroup) benzenoidDraw).refreshRIType(type);
 		}
@@ -446,6 +600,37 @@ public class BenzenoidPane extends BorderPane implements Comparable<BenzenoidPan
 		return descriptionBox;
 	}
 
+	/***
+	 * Shows that the molecule exists in the database (on the JavaFX thread)
+	 */
+	public void addDatabaseIcon() {
+
+		if (hasDatabaseIcon)
+			return;
+
+		hasDatabaseIcon = true;
+		if (descriptionBox != null)
+			descriptionBox.getChildren().add(buildDatabaseIcon());
+	}
+
+	private static ImageView buildDatabaseIcon() {
+
+		if (databaseIcon == null)
+			databaseIcon = new Image("/resources/graphics/icon-database.png");
+
+		ImageView imgView = new ImageView(databaseIcon);
+		imgView.resize(30, 30);
+		Tooltip.install(imgView, new Tooltip("This molecule exists in the database"));
+		return imgView;
+	}
+
+	/***
+	 * Same as addDatabaseIcon(), from any thread : the icons are added in bulk by the UpdateBus
+	 */
+	public void addDatabaseIconLater() {
+		UpdateBus.getShared().add(DATABASE_ICONS, this, panes -> panes.forEach(BenzenoidPane::addDatabaseIcon));
+	}
+
 	public Benzenoid getMolecule() {
 		return benzenoidSetPane.getMolecule(index);
 	}
@@ -0,0 +1,56 @@
+package view.collections;
+
+import application.UpdateBus;
+
+import java.util.concurrent.atomic.AtomicInteger;
+
+/***
+ * Progress ("i / size") of an operation on a collection, shown on one line of the consoles. It can be
+ * incremented from any thread : the line is updated through the shared UpdateBus.
+ */
+public class ConsoleProgress {
+
+	private final BenzenoidCollectionsManagerPane collectionManagerPane;
+	private final BenzenoidCollectionPane currentPane;
+	private final int size;
+
+	private final AtomicInteger index = new AtomicInteger();
+	private int lineIndex = -1;
+
+	private boolean verbose;
+
+	public ConsoleProgress(BenzenoidCollectionsManagerPane collectionManagerPane, BenzenoidCollectionPane currentPane, int size) {
+		this.collectionManagerPane = collectionManagerPane;
+		this.currentPane = currentPane;
+		this.size = size;
+	}
+
+	public void increment() {
+		index.incrementAndGet();
+		UpdateBus.getShared().set(this, this::display);
+	}
+
+	public int getIndex() {
+		return index.get();
+	}
+
+	/***
+	 * Also prints the progress on the standard output
+	 */
+	public void setVerbose(boolean verbose) {
+		this.verbose = verbose;
+	}
+
+	private void display() {
+
+		String line = index.get() + " / " + size;
+		if (verbose)
+			System.out.println(line);
+
+		if (lineIndex == -1) {
+			collectionManagerPane.log(line, false);
+			lineIndex = currentPane.getConsole().getNbLines() - 1;
+		} else
+			collectionManagerPane.changeLineConsole(line, lineIndex);
+	}
+}
@@ -1,8 +1,8 @@
 package view.filtering;
 
 import application.BenzenoidApplication;
+import application.UpdateBus;
 import generator.properties.model.filters.Filter;
-import javafx.application.Platform;
 import javafx.concurrent.Service;
 import javafx.concurrent.Task;
 import javafx.geometry.Insets;
@@ -45,7 +45,6 @@ public class FilteringPane extends ScrollPaneWithPropertyList {
 
 	private Label titleLabel;
 
-	private int indexFiltering;
 	
 	private boolean canStartFiltering;
 	private final Label alreadyFilteredLabel = new Label("");
@@ -200,18 +199,18 @@ public class FilteringPane extends ScrollPaneWithPropertyList {
 					@Override
 					protected Void call() {
 						int nbMolecules = collectionPane.getMolecules().size();
-						Platform.runLater(() -> {
-							alreadyFilteredNumberLabel.setText("0");
-							alreadyFilteredLabel.setText("/ " + nbMolecules + " already filtered");
-						});
+						UpdateBus.getShared().set(alreadyFilteredLabel,
+								() -> alreadyFilteredLabel.setText("/ " + nbMolecules + " already filtered"));
+						UpdateBus.getShared().set(alreadyFilteredNumberLabel, () -> alreadyFilteredNumberLabel.setText("0"));
 						for (int i = 0; i < collectionPane.getMolecules().size(); i++) {
-							indexFiltering = i;
 							Benzenoid molecule = collectionPane.getMolecules().get(i);
 							if (Filter.testAll(molecule, getModelPropertySet())) {
 								DisplayType displayType = collectionPane.getDisplayType(i);
 								newCollectionPane.addBenzenoid(molecule, displayType);
 							}
-							Platform.runLater(() -> alreadyFilteredNumberLabel.setText(String.valueOf(indexFiltering + 1)));
+							int nbFiltered = i + 1;
+							UpdateBus.getShared().set(alreadyFilteredNumberLabel,
+									() -> alreadyFilteredNumberLabel.setText(String.valueOf(nbFiltered)));
 						}
 						return null;
 					}
@@ -228,6 +227,7 @@ public class FilteringPane extends ScrollPaneWithPropertyList {
 					Utils.alert("Filtering canceled");
 					break;
 				case SUCCEEDED:
+					UpdateBus.getShared().flush();
 					if (newCollectionPane.getMolecules().isEmpty()) {
 						Utils.alert("There is no remaining benzenoids after filtering ");
 						return;
@@ -2,6 +2,7 @@ package view.generator;
 
 import application.BenzenoidApplication;
 import application.Settings;
+import application.UpdateBus;
 import generator.GeneralModel;
 import generator.ModelBuilder;
 import generator.properties.Property;
@@ -283,7 +284,6 @@ public class GeneratorPane extends ScrollPaneWithPropertyList {
 		stopButton.setOnAction(e -> {
 			if (model.isPaused())
 				resumeGeneration();
-			model.getProblem().getSolver().limitSearch(() -> model.getGeneratorRun().isStopped());
 			model.stop();
 			buttonsBox.getChildren().clear();
 			buttonsBox.getChildren().addAll(closeButton, addButton, generateButton);
@@ -448,7 +448,9 @@ public class GeneratorPane extends ScrollPaneWithPropertyList {
 			try {
 				model = ModelBuilder.buildModel(getModelPropertySet());
 				assert model != null;
-				solutionNumberLabel.textProperty().bind(model.getNbTotalSolutions().asString());
+				solutionNumberLabel.setText("0");
+				model.setSolutionCountListener(nbSolutions -> UpdateBus.getShared().set(solutionNumberLabel,
+						() -> solutionNumberLabel.setText(String.valueOf(nbSolutions))));
 			} catch (Exception e) {
 				e.printStackTrace();
 			}
@@ -484,6 +486,7 @@ public class GeneratorPane extends ScrollPaneWithPropertyList {
 						break;
 					case SUCCEEDED:
 						isRunning = false;
+						UpdateBus.getShared().flush();
 						if (model.isPaused()) {
 							resetButtonBox(closeButton, resumeButton, stopButton);
 						} else {
@@ -1,6 +0,0 @@
-package view.generator;
-
-public enum Stopper {
-    ;
-    public static boolean STOP = false;
-}
\ No newline at end of file
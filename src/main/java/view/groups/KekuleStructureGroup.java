@@ -2,103 +2,106 @@ package view.groups;
 
 import javafx.scene.shape.Line;
 import benzenoid.Benzenoid;
+import solveur.KekuleStructureEnumerator;
+
+import java.util.BitSet;
 
 public class KekuleStructureGroup extends MoleculeGroup {
 
-	private final int[][] bonds;
+	private final BitSet structure;
 
-	public KekuleStructureGroup(Benzenoid molecule, int[][] bonds) {
+	public KekuleStructureGroup(Benzenoid molecule, BitSet structure) {
 		super(molecule);
-		this.bonds = bonds;
+		this.structure = structure;
 		removeTexts();
 		drawBonds();
 	}
 
 	private void drawBonds() {
 
-		for (int i = 0; i < bonds.length; i++) {
-			for (int j = (i + 1); j < bonds.length; j++) {
-				if (bonds[i][j] == 1) {
+		int[][] bonds = KekuleStructureEnumerator.bonds(molecule);
 
-					int hexagonIndex = molecule.getHexagonsInvolved(i, j).get(0);
-					int[] hexagon = molecule.getHexagon(hexagonIndex);
+		for (int bond = structure.nextSetBit(0); bond >= 0; bond = structure.nextSetBit(bond + 1)) {
+			int i = bonds[bond][0];
+			int j = bonds[bond][1];
 
-					int position1 = -1;
-					int position2 = -1;
+			int hexagonIndex = molecule.getHexagonsInvolved(i, j).get(0);
+			int[] hexagon = molecule.getHexagon(hexagonIndex);
 
-					for (int k = 0; k < 6; k++) {
-						if (hexagon[k] == i)
-							position1 = k;
-						if (hexagon[k] == j)
-							position2 = k;
-					}
+			int position1 = -1;
+			int position2 = -1;
 
-					if (position1 > position2) {
-						int aux = position1;
-						position1 = position2;
-						position2 = aux;
-					}
+			for (int k = 0; k < 6; k++) {
+				if (hexagon[k] == i)
+					position1 = k;
+				if (hexagon[k] == j)
+					position2 = k;
+			}
 
-					double x1 = 0, y1 = 0;
-					double x2 = 0, y2 = 0;
+			if (position1 > position2) {
+				int aux = position1;
+				position1 = position2;
+				position2 = aux;
+			}
 
-					switch (position1) {
-					case 0:
-						x1 = hexagons[hexagonIndex].getPoints().get(0);
-						y1 = hexagons[hexagonIndex].getPoints().get(1) + 5.0;
+			double x1 = 0, y1 = 0;
+			double x2 = 0, y2 = 0;
 
-						if (position2 == 1) {
-							x2 = hexagons[hexagonIndex].getPoints().get(2) - 4.0;
-							y2 = hexagons[hexagonIndex].getPoints().get(3) + 2.5;
-						} else {
-							x2 = hexagons[hexagonIndex].getPoints().get(10) + 4.0;
-							y2 = hexagons[hexagonIndex].getPoints().get(11) + 3.0;
-						}
-						break;
+			switch (position1) {
+			case 0:
+				x1 = hexagons[hexagonIndex].getPoints().get(0);
+				y1 = hexagons[hexagonIndex].getPoints().get(1) + 5.0;
 
-					case 1:
-						x1 = hexagons[hexagonIndex].getPoints().get(2) - 4.0;
-						y1 = hexagons[hexagonIndex].getPoints().get(3) + 2.0;
+				if (position2 == 1) {
+					x2 = hexagons[hexagonIndex].getPoints().get(2) - 4.0;
+					y2 = hexagons[hexagonIndex].getPoints().get(3) + 2.5;
+				} else {
+					x2 = hexagons[hexagonIndex].getPoints().get(10) + 4.0;
+					y2 = hexagons[hexagonIndex].getPoints().get(11) + 3.0;
+				}
+				break;
 
-						x2 = hexagons[hexagonIndex].getPoints().get(4) - 4.0;
-						y2 = hexagons[hexagonIndex].getPoints().get(5) - 2.0;
-						break;
+			case 1:
+				x1 = hexagons[hexagonIndex].getPoints().get(2) - 4.0;
+				y1 = hexagons[hexagonIndex].getPoints().get(3) + 2.0;
 
-					case 2:
-						x1 = hexagons[hexagonIndex].getPoints().get(4) - 4.0;
-						y1 = hexagons[hexagonIndex].getPoints().get(5) - 2.5;
+				x2 = hexagons[hexagonIndex].getPoints().get(4) - 4.0;
+				y2 = hexagons[hexagonIndex].getPoints().get(5) - 2.0;
+				break;
 
-						x2 = hexagons[hexagonIndex].getPoints().get(6);
-						y2 = hexagons[hexagonIndex].getPoints().get(7) - 5.0;
+			case 2:
+				x1 = hexagons[hexagonIndex].getPoints().get(4) - 4.0;
+				y1 = hexagons[hexagonIndex].getPoints().get(5) - 2.5;
 
-						break;
+				x2 = hexagons[hexagonIndex].getPoints().get(6);
+				y2 = hexagons[hexagonIndex].getPoints().get(7) - 5.0;
 
-					case 3:
-						x1 = hexagons[hexagonIndex].getPoints().get(6);
-						y1 = hexagons[hexagonIndex].getPoints().get(7) - 5.0;
+				break;
 
-						x2 = hexagons[hexagonIndex].getPoints().get(8) + 4;
-						y2 = hexagons[hexagonIndex].getPoints().get(9) - 2.5;
+			case 3:
+				x1 = hexagons[hexagonIndex].getPoints().get(6);
+				y1 = hexagons[hexagonIndex].getPoints().get(7) - 5.0;
 
-						break;
+				x2 = hexagons[hexagonIndex].getPoints().get(8) + 4;
+				y2 = hexagons[hexagonIndex].getPoints().get(9) - 2.5;
 
-					case 4:
-						x1 = hexagons[hexagonIndex].getPoints().get(8) + 4.0;
-						y1 = hexagons[hexagonIndex].getPoints().get(9) - 2.0;
+				break;
 
-						x2 = hexagons[hexagonIndex].getPoints().get(10) + 4.0;
-						y2 = hexagons[hexagonIndex].getPoints().get(11) + 2.0;
+			case 4:
+				x1 = hexagons[hexagonIndex].getPoints().get(8) + 4.0;
+				y1 = hexagons[hexagonIndex].getPoints().get(9) - 2.0;
 
-						break;
+				x2 = hexagons[hexagonIndex].getPoints().get(10) + 4.0;
+				y2 = hexagons[hexagonIndex].getPoints().get(11) + 2.0;
 
-					case 5:
-						break;
-					}
+				break;
 
-					Line line = new Line(x1, y1, x2, y2);
-					this.getChildren().add(line);
-				}
+			case 5:
+				break;
 			}
+
+			Line line = new Line(x1, y1, x2, y2);
+			this.getChildren().add(line);
 		}
 	}
 
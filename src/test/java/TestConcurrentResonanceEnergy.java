@@ -0,0 +1,105 @@
+import benzenoid.Benzenoid;
+import generator.CanonicalAugmentationGenerator;
+import solveur.Aromaticity;
+import solveur.LinAlgorithm;
+import solveur.LinAlgorithm.PerfectMatchingType;
+import solveur.LinFanAlgorithm;
+
+import java.io.IOException;
+import java.util.ArrayList;
+import java.util.Arrays;
+import java.util.List;
+import java.util.concurrent.Callable;
+import java.util.concurrent.ExecutorService;
+import java.util.concurrent.Executors;
+import java.util.concurrent.Future;
+
+/***
+ * Stress test of the resonance energy computations : the algorithms of Lin and of Lin and Fan are run
+ * concurrently, many times, on the same molecules, and their results must be the same as the sequential ones
+ */
+public enum TestConcurrentResonanceEnergy {
+    ;
+
+    private static final int NB_THREADS = 8;
+    private static final int NB_ROUNDS = 10;
+
+    private static long date;
+
+    public static void main(String[] args) throws Exception {
+
+        List<Benzenoid> molecules = buildMolecules();
+
+        /*
+         * Sequential results
+         */
+
+        List<double[][]> linResults = new ArrayList<>();
+        List<double[][]> linFanResults = new ArrayList<>();
+        for (Benzenoid molecule : molecules) {
+            linResults.add(lin(molecule));
+            linFanResults.add(linFan(molecule));
+        }
+
+        /*
+         * Concurrent results, the two algorithms being interleaved
+         */
+
+        date = System.currentTimeMillis();
+
+        ExecutorService pool = Executors.newFixedThreadPool(NB_THREADS);
+        List<Future<Boolean>> results = new ArrayList<>();
+
+        for (int round = 0; round < NB_ROUNDS; round++)
+            for (int i = 0; i < molecules.size(); i++) {
+                Benzenoid molecule = molecules.get(i);
+                double[][] linResult = linResults.get(i);
+                double[][] linFanResult = linFanResults.get(i);
+                results.add(pool.submit(() -> Arrays.deepEquals(linResult, lin(molecule))));
+                results.add(pool.submit(() -> Arrays.deepEquals(linFanResult, linFan(molecule))));
+            }
+
+        int found = 0;
+        for (Future<Boolean> result : results)
+            if (result.get())
+                found++;
+
+        pool.shutdown();
+
+        System.out.println(diagnostic("Concurrent Lin and Lin & Fan (" + NB_THREADS + " threads)", results.size(), found));
+    }
+
+    private static double[][] lin(Benzenoid molecule) throws IOException {
+        Aromaticity aromaticity = LinAlgorithm.solve(molecule, PerfectMatchingType.DET);
+        return aromaticity.getLocalCircuits();
+    }
+
+    private static double[][] linFan(Benzenoid molecule) throws IOException {
+        Aromaticity aromaticity = LinFanAlgorithm.computeEnergy(molecule);
+        return aromaticity.getLocalCircuits();
+    }
+
+    /***
+     * Naphthalene, anthracene, phenanthrene, pyrene and coronene
+     */
+    private static List<Benzenoid> buildMolecules() {
+        List<Benzenoid> molecules = new ArrayList<>();
+        molecules.add(CanonicalAugmentationGenerator.buildBenzenoid(new int[] {0, 1}, new int[] {0, 0}, 0));
+        molecules.add(CanonicalAugmentationGenerator.buildBenzenoid(new int[] {0, 1, 2}, new int[] {0, 0, 0}, 0));
+        molecules.add(CanonicalAugmentationGenerator.buildBenzenoid(new int[] {0, 1, 2}, new int[] {0, 0, 1}, 0));
+        molecules.add(CanonicalAugmentationGenerator.buildBenzenoid(new int[] {0, 1, 0, 1}, new int[] {0, 0, 1, 1}, 0));
+        molecules.add(CanonicalAugmentationGenerator.buildBenzenoid(new int[] {0, 1, -1, 0, 1, -1, 0},
+                new int[] {-1, 0, -1, 0, 1, 0, 1}, 0));
+        return molecules;
+    }
+
+    private static String diagnostic(String title, int expected, int found) {
+        long endDate = System.currentTimeMillis();
+        String diagnostic = title + " : expecting : " + expected + " found : " + found + " in " + (endDate - date) + "ms -> ";
+        if (found == expected)
+            diagnostic = diagnostic + "OK\n";
+        else
+            diagnostic = diagnostic + "ERROR\n";
+        return diagnostic;
+    }
+}
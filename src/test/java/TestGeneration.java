@@ -1,3 +1,4 @@
+import benzenoid.Benzenoid;
 import constraints.SinglePattern2Constraint;
 import generator.*;
 import generator.patterns.Pattern;
@@ -11,6 +12,8 @@ import generator.properties.model.expression.*;
 import java.io.File;
 import java.io.IOException;
 import java.util.ArrayList;
+import java.util.Set;
+import java.util.TreeSet;
 
 public enum TestGeneration {
     ;
@@ -28,7 +31,8 @@ public enum TestGeneration {
                         + testRectangle_inf5Xinf5()
                         + testRhombusInf5()
                         + testRot60()
-                        + testPattern3();
+                        + testPattern3()
+                        + testCanonicalAugmentationHoles9();
                         //+ testKekule()
                         //+ testConcealed();
         System.out.println(diagnostic);
@@ -133,6 +137,39 @@ public enum TestGeneration {
         return diagnostic("Generate molecules with hex<=25 and sym=rot60", 18, found);
     }
 
+    /***
+     * The benzenoids with holes (of two or three hexagons) of the canonical augmentation for 9 hexagons must be
+     * the coronoids of the Choco model
+     */
+    private static String testCanonicalAugmentationHoles9() {
+        date = System.currentTimeMillis();
+
+        ModelPropertySet coronoidSet = new ModelPropertySet();
+        coronoidSet.getById("hexagons").addExpression(new BinaryNumericalExpression("hexagons", "=", 9));
+        coronoidSet.getById("coronoid").addExpression(new BinaryNumericalExpression("coronoid", "=", 1));
+        Set<String> chocoNames = new TreeSet<>();
+        HeadlessGenerator.generate(coronoidSet, molecule -> chocoNames.add(molecule.getNames().get(0)),
+                new CancellationToken(), GenerationEngine.CHOCO);
+
+        ModelPropertySet hexagonSet = new ModelPropertySet();
+        hexagonSet.getById("hexagons").addExpression(new BinaryNumericalExpression("hexagons", "=", 9));
+        Set<String> canonicalNames = new TreeSet<>();
+        HeadlessGenerator.generate(hexagonSet, molecule -> {
+            if (nbHoles(molecule) > 0)
+                canonicalNames.add(molecule.getNames().get(0));
+        }, new CancellationToken(), GenerationEngine.CANONICAL_AUGMENTATION);
+
+        int found = canonicalNames.equals(chocoNames) ? canonicalNames.size() : -1;
+        return diagnostic("Canonical augmentation hex=9 with holes, same as Choco coronoids", chocoNames.size(), found);
+    }
+
+    /***
+     * Euler's formula, the faces being the hexagons, the holes and the outside
+     */
+    private static int nbHoles(Benzenoid molecule) {
+        return molecule.getNbBonds() - molecule.getNbCarbons() - molecule.getNbHexagons() + 1;
+    }
+
     /***
      *  Run the generation of benzenoids according to the given property set (constraints)
      * @param modelPropertySet : constraints
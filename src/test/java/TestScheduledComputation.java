@@ -0,0 +1,117 @@
+import collection_operations.ComputationScheduler;
+import collection_operations.ComputationScheduler.Priority;
+import collection_operations.ScheduledComputation;
+
+import java.util.ArrayList;
+import java.util.List;
+
+/***
+ * Tests of the results given back by the computations of the ComputationScheduler : a failure of the action
+ * must be thrown to the consumer, even when it happens in a chunk computed ahead of the consumer, while a
+ * cancellation by the caller must end the consumption without error
+ */
+public enum TestScheduledComputation {
+    ;
+
+    private static final int NB_ELEMENTS = 1000;
+
+    private static long date;
+
+    public static void main(String[] args) throws Exception {
+
+        ComputationScheduler scheduler = new ComputationScheduler(4);
+
+        String diagnostic = testFailureOfLastElement(scheduler)
+                + testCancellation(scheduler)
+                + testAllComputed(scheduler);
+
+        System.out.println(diagnostic);
+        System.exit(0);
+    }
+
+    /***
+     * The action fails on the last element while the (slow) consumer is still on the first chunks
+     */
+    private static String testFailureOfLastElement(ComputationScheduler scheduler) throws InterruptedException {
+
+        date = System.currentTimeMillis();
+
+        ScheduledComputation<Integer> computation = scheduler.submit(elements(), i -> {
+            if (i == NB_ELEMENTS - 1)
+                throw new IllegalStateException("failure on " + i);
+        }, Priority.NORMAL);
+
+        int failures = 0;
+        try {
+            computation.forEachComputed(i -> sleep(1));
+        } catch (RuntimeException e) {
+            if (e.getCause() instanceof IllegalStateException)
+                failures++;
+        }
+
+        return diagnostic("Failure of the last element with a slow consumer", 1, failures);
+    }
+
+    /***
+     * The caller cancels the computation from its consumer : no exception, no element given after
+     */
+    private static String testCancellation(ComputationScheduler scheduler) throws InterruptedException {
+
+        date = System.currentTimeMillis();
+
+        ScheduledComputation<Integer> computation = scheduler.submit(elements(), i -> {}, Priority.NORMAL);
+
+        int[] consumed = new int[1];
+        try {
+            computation.forEachComputed(i -> {
+                consumed[0]++;
+                if (consumed[0] == 100)
+                    computation.cancel();
+            });
+        } catch (RuntimeException e) {
+            consumed[0] = -1;
+        }
+
+        return diagnostic("Cancellation by the consumer", 100, consumed[0]);
+    }
+
+    private static String testAllComputed(ComputationScheduler scheduler) throws InterruptedException {
+
+        date = System.currentTimeMillis();
+
+        ScheduledComputation<Integer> computation = scheduler.submit(elements(), i -> {}, Priority.NORMAL);
+
+        int[] ordered = new int[1];
+        computation.forEachComputed(i -> {
+            if (i == ordered[0])
+                ordered[0]++;
+        });
+
+        return diagnostic("Elements given back in order", NB_ELEMENTS, ordered[0]);
+    }
+
+    private static List<Integer> elements() {
+        List<Integer> elements = new ArrayList<>();
+        for (int i = 0; i < NB_ELEMENTS; i++)
+            elements.add(i);
+        return elements;
+    }
+
+    private static void sleep(long millis) {
+        try {
+            Thread.sleep(millis);
+        } catch (InterruptedException e) {
+            Thread.currentThread().interrupt();
+        }
+    }
+
+    private static String diagnostic(String title, int expected, int found) {
+        long endDate = System.currentTimeMillis();
+        String diagnostic = title + " : expecting : " + expected + " found : " + found + " in " + (endDate - date) + "ms -> ";
+        if (found == expected)
+            diagnostic = diagnostic + "OK\n";
+        else
+            diagnostic = diagnostic + "ERROR\n";
+        return diagnostic;
+    }
+}